@@ -0,0 +1,142 @@
+package com.rajawarama.backend.config;
+
+import com.rajawarama.backend.observability.StatementTimingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// -----------------------------------------------------------------------------
+// Connection pools.
+//
+// primaryPool  – writes and every read that did not opt in to the replica.
+// replicaPool  – reads in @ReadReplica methods; only created when
+//                app.datasource.replica.url is set, otherwise they stay on
+//                the primary.
+// reportPool   – small, read-only pool for report exports (on the replica when
+//                there is one), with a server-side statement timeout, so a
+//                heavy export can neither hold primary connections nor run a
+//                query forever.
+//
+// The DataSource JPA sees routes between them by DataSourceRoute. It sits
+// behind a LazyConnectionDataSourceProxy, so the real connection is only
+// taken at the first statement, once the route is known; Hibernate releases
+// it after each transaction (hibernate.connection.handling_mode), so one
+// request can read from the replica and then write to the primary.
+//
+// Built here instead of by Boot's auto-configuration, so spring.datasource.hikari.*
+// no longer applies: pool settings live under app.datasource.*.
+// -----------------------------------------------------------------------------
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+
+    @Value("${app.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Bean(name = "primaryPool", destroyMethod = "close")
+    public HikariDataSource primaryPool(
+            @Value("${app.datasource.primary.pool-size:10}") int poolSize,
+            @Value("${app.datasource.primary.connection-timeout-ms:30000}") long connectionTimeoutMs
+    ) {
+        HikariConfig config = baseConfig("primary-pool", url, username, password, poolSize, connectionTimeoutMs);
+        return new HikariDataSource(config);
+    }
+
+    @Bean(name = "replicaPool", destroyMethod = "close")
+    @ConditionalOnProperty("app.datasource.replica.url")
+    public HikariDataSource replicaPool(
+            @Value("${app.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${app.datasource.replica.connection-timeout-ms:30000}") long connectionTimeoutMs
+    ) {
+        HikariConfig config = baseConfig("replica-pool", replicaUrl, replicaUsername, replicaPassword,
+                poolSize, connectionTimeoutMs);
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+
+    @Bean(name = "reportPool", destroyMethod = "close")
+    public HikariDataSource reportPool(
+            @Value("${app.datasource.report.pool-size:3}") int poolSize,
+            @Value("${app.datasource.report.connection-timeout-ms:5000}") long connectionTimeoutMs,
+            @Value("${app.datasource.report.statement-timeout-ms:30000}") long statementTimeoutMs
+    ) {
+        HikariConfig config = hasReplica()
+                ? baseConfig("report-pool", replicaUrl, replicaUsername, replicaPassword, poolSize, connectionTimeoutMs)
+                : baseConfig("report-pool", url, username, password, poolSize, connectionTimeoutMs);
+        config.setReadOnly(true);
+        // MySQL: abort any SELECT on these connections that runs longer than this (0 = no limit)
+        if (statementTimeoutMs > 0) {
+            config.setConnectionInitSql("SET SESSION max_execution_time=" + statementTimeoutMs);
+        }
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryPool") DataSource primaryPool,
+            @Qualifier("replicaPool") ObjectProvider<DataSource> replicaPool,
+            @Qualifier("reportPool") DataSource reportPool
+    ) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return DataSourceRoute.current();
+            }
+        };
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.Target.PRIMARY, primaryPool,
+                DataSourceRoute.Target.REPLICA, replicaPool.getIfAvailable(() -> primaryPool),
+                DataSourceRoute.Target.REPORT, reportPool
+        ));
+        routing.setDefaultTargetDataSource(primaryPool);
+        routing.afterPropertiesSet();
+        // Outermost: count and time every statement for Server-Timing
+        return new StatementTimingDataSource(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private boolean hasReplica() {
+        return replicaUrl != null && !replicaUrl.isBlank();
+    }
+
+    private HikariConfig baseConfig(String poolName, String jdbcUrl, String user, String pass,
+                                    int poolSize, long connectionTimeoutMs) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(pass);
+        config.setDriverClassName(driverClassName);
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        return config;
+    }
+}
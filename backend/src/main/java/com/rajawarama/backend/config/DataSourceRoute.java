@@ -0,0 +1,57 @@
+package com.rajawarama.backend.config;
+
+// -----------------------------------------------------------------------------
+// Which connection pool the current thread's database work should use.
+//
+// Read by the routing DataSource in DataSourceConfig whenever a connection is
+// actually taken:
+//   1. an explicit target set with use(...) wins (e.g. BulkheadFilter puts
+//      report requests on the REPORT pool, @ReadReplica methods go to the
+//      REPLICA),
+//   2. everything else goes to the PRIMARY.
+//
+// The replica is opt-in on purpose: read-only transactions (including the
+// ones Spring Data repositories open on their own) stay on the primary
+// unless the code asks for the replica.
+// -----------------------------------------------------------------------------
+public final class DataSourceRoute {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA,
+        REPORT
+    }
+
+    // Restores the previous target when closed
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final ThreadLocal<Target> CURRENT = new ThreadLocal<>();
+
+    private DataSourceRoute() {
+    }
+
+    public static Target current() {
+        Target target = CURRENT.get();
+        return target != null ? target : Target.PRIMARY;
+    }
+
+    // Whether a target was set with use(...) on this thread
+    public static boolean isExplicit() {
+        return CURRENT.get() != null;
+    }
+
+    public static Scope use(Target target) {
+        Target previous = CURRENT.get();
+        CURRENT.set(target);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.rajawarama.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// Bounded thread pools for work that runs off the request thread.
+@Configuration
+public class ExecutorConfig {
+
+    // Parallel read queries (e.g. the three booking tables behind /api/bookings/mine).
+    // When the pool and its queue are full the caller runs the query itself,
+    // so a burst degrades to sequential reads instead of failing.
+    @Bean(name = "bookingQueryExecutor")
+    public ThreadPoolTaskExecutor bookingQueryExecutor(
+            @Value("${app.executor.booking-query.pool-size:8}") int poolSize,
+            @Value("${app.executor.booking-query.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("booking-query-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // Writes to open SSE connections, so a slow client never blocks the
+    // thread that publishes a booking change. No caller-runs: publishers hold
+    // the event ring lock, so a rejected drain closes that connection instead
+    // (the client reconnects with Last-Event-ID).
+    @Bean(name = "sseSendExecutor")
+    public ThreadPoolTaskExecutor sseSendExecutor(
+            @Value("${app.executor.sse-send.pool-size:4}") int poolSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("sse-send-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // CPU-bound BCrypt work, capped at one thread per core by default. No
+    // caller-runs here: when the pool and its short queue are full the task is
+    // rejected and the request fails fast with 503 instead of pinning a
+    // servlet thread on hashing.
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.executor.password-hash.pool-size:0}") int poolSize,
+            @Value("${app.executor.password-hash.queue-capacity:32}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
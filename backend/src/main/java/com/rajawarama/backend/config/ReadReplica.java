@@ -0,0 +1,19 @@
+package com.rajawarama.backend.config;
+
+import java.lang.annotation.*;
+
+// -----------------------------------------------------------------------------
+// Opt-in: database reads inside the annotated method (or every method of the
+// annotated class) go to the read replica when one is configured.
+//
+// Only for reads that can live with replica lag (catalog lists, the admin user
+// list, the admin inbox, report rows). Anything that must see its own writes,
+// hands out a delta cursor or rebuilds state at startup stays on the primary
+// simply by not being marked.
+// Inside a read-write transaction the annotation has no effect.
+// -----------------------------------------------------------------------------
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
@@ -0,0 +1,42 @@
+package com.rajawarama.backend.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Puts @ReadReplica methods on DataSourceRoute.Target.REPLICA. Ordered before
+// the transaction interceptor, so the route is set before any connection is taken.
+@Configuration
+public class ReadReplicaRouting {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readReplicaAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(ReadReplica.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(ReadReplica.class));
+
+        MethodInterceptor interceptor = invocation -> {
+            // An explicit route (e.g. REPORT) wins, and a read-write transaction keeps its connection
+            boolean readWriteTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            if (DataSourceRoute.isExplicit() || readWriteTransaction) {
+                return invocation.proceed();
+            }
+            try (DataSourceRoute.Scope ignored = DataSourceRoute.use(DataSourceRoute.Target.REPLICA)) {
+                return invocation.proceed();
+            }
+        };
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
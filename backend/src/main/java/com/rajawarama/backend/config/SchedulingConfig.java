@@ -0,0 +1,29 @@
+package com.rajawarama.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// Background jobs (booking maintenance, ...). Each job takes a DB lock through
+// ScheduledJobRunner so only one node runs it at a time.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // Without this bean every @Scheduled method shares one thread, so a long
+    // expiry or archive run would delay the buffer flushes and token sweeps
+    // queued behind it
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${app.scheduling.pool-size:4}") int poolSize
+    ) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(poolSize);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
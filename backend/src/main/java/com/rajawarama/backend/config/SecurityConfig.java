@@ -1,9 +1,18 @@
 package com.rajawarama.backend.config;
 
+import com.rajawarama.backend.observability.ServerTimingFilter;
+import com.rajawarama.backend.security.BulkheadFilter;
 import com.rajawarama.backend.security.JwtAuthenticationFilter;
+import com.rajawarama.backend.security.MetricsScrapeTokenFilter;
+import com.rajawarama.backend.security.RateLimitFilter;
+import com.rajawarama.backend.service.BookingDeltaBuilder;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -20,17 +29,57 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
+@Slf4j
 @EnableMethodSecurity(prePostEnabled = true)
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
+
+    private static final String PROMETHEUS_PATH = "/api/admin/actuator/prometheus";
 
     // Password encoder
+    // BCrypt cost: app.security.bcrypt.strength when set, otherwise calibrated at
+    // startup to the highest cost whose hash stays within target-ms on this host
+    // (never below min-strength). Stored hashes with a lower cost are upgraded
+    // on the next successful login.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:0}") int fixedStrength,
+            @Value("${app.security.bcrypt.target-ms:250}") long targetMs,
+            @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${app.security.bcrypt.max-strength:14}") int maxStrength
+    ) {
+        int strength = fixedStrength > 0
+                ? fixedStrength
+                : calibrateBCryptStrength(targetMs, minStrength, maxStrength);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // Time a few hashes at min-strength; each extra cost step doubles the work
+    private static int calibrateBCryptStrength(long targetMs, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration-warm-up");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-" + i);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double millis = best / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < maxStrength && millis * 2 <= targetMs) {
+            millis *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt strength {} (~{} ms per hash, target {} ms)", strength, Math.round(millis), targetMs);
+        return strength;
     }
 
     // CORS configuration
@@ -47,6 +96,8 @@ public class SecurityConfig {
                 "OPTIONS"
         ));
         config.setAllowedHeaders(List.of("*"));
+        // Delta-sync cursor on full booking list responses, per-request timings
+        config.setExposedHeaders(List.of(BookingDeltaBuilder.CURSOR_HEADER, ServerTimingFilter.HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
@@ -56,8 +107,37 @@ public class SecurityConfig {
         return source;
     }
 
+    // Prometheus scrape chain: only the scrape endpoint, authorized by the
+    // static app.metrics.scrape-token or an admin JWT. No rate limits or
+    // bulkheads, so a busy API never starves the scraper.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(
+            HttpSecurity http,
+            @Value("${app.metrics.scrape-token:}") String scrapeToken
+    ) throws Exception {
+        MetricsScrapeTokenFilter scrapeTokenFilter = new MetricsScrapeTokenFilter(scrapeToken);
+
+        http
+                .securityMatcher(PROMETHEUS_PATH)
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .formLogin(form -> form.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasAnyRole(MetricsScrapeTokenFilter.ROLE, "ADMIN")
+                )
+                .addFilterBefore(scrapeTokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(jwtAuthenticationFilter, MetricsScrapeTokenFilter.class);
+
+        return http.build();
+    }
+
     // Security filter chain
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
         http
@@ -78,6 +158,8 @@ public class SecurityConfig {
 
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses: the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/images/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
@@ -88,6 +170,9 @@ public class SecurityConfig {
                         //for admin and customer booking endpoints
                         .requestMatchers("/api/bookings/**").hasAnyRole("CUSTOMER", "ADMIN")
 
+                        // Liveness / readiness for load balancers; details only for admins
+                        .requestMatchers("/api/admin/actuator/health", "/api/admin/actuator/health/**").permitAll()
+
                         // Admin-only full access
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -98,6 +183,18 @@ public class SecurityConfig {
                 .addFilterBefore(
                         jwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class
+                )
+
+                // Rate limits (needs the userId set by the JWT filter)
+                .addFilterAfter(
+                        rateLimitFilter,
+                        JwtAuthenticationFilter.class
+                )
+
+                // Concurrency bulkheads per route group (after rate limiting)
+                .addFilterAfter(
+                        bulkheadFilter,
+                        RateLimitFilter.class
                 );
 
         return http.build();
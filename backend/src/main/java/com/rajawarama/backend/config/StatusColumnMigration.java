@@ -0,0 +1,64 @@
+package com.rajawarama.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// -----------------------------------------------------------------------------
+// One-off schema fix for the booking status columns.
+//
+// Older databases were created by ddl-auto when status was mapped as a plain
+// @Enumerated(STRING), which MySQL gets as ENUM('PENDING', ...). ddl-auto=update
+// never changes a column type, so EXPIRED (and any later status) would fail
+// to insert. The entities now map status as VARCHAR(30); this widens the
+// existing ENUM columns to match.
+//
+// Runs once all singletons exist, i.e. after Hibernate's schema update and
+// before the scheduler starts the booking maintenance jobs. MySQL only, and a
+// no-op once the columns are VARCHAR.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+public class StatusColumnMigration implements SmartInitializingSingleton {
+
+    private static final List<String> TABLES = List.of(
+            "request_special_packages",
+            "request_dancing_packages",
+            "request_dress_only",
+            "booking_archive"
+    );
+
+    private final JdbcTemplate jdbc;
+
+    public StatusColumnMigration(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (product == null || !product.toLowerCase().contains("mysql")) {
+            return;
+        }
+
+        for (String table : TABLES) {
+            List<String> types = jdbc.queryForList(
+                    "select DATA_TYPE from information_schema.COLUMNS " +
+                            "where TABLE_SCHEMA = database() and TABLE_NAME = ? and COLUMN_NAME = 'status'",
+                    String.class, table);
+
+            if (types.isEmpty() || !"enum".equalsIgnoreCase(types.get(0))) {
+                continue;
+            }
+
+            log.info("Converting {}.status from ENUM to VARCHAR(30)", table);
+            jdbc.execute("ALTER TABLE " + table + " MODIFY COLUMN status VARCHAR(30) NOT NULL");
+        }
+    }
+}
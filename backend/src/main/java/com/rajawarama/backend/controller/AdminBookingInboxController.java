@@ -0,0 +1,47 @@
+package com.rajawarama.backend.controller;
+
+import com.rajawarama.backend.dto.BookingInboxResponse;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.service.BookingEventStream;
+import com.rajawarama.backend.service.BookingInboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/bookings")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminBookingInboxController {
+
+    private final BookingInboxService inboxService;
+    private final BookingEventStream  eventStream;
+
+    // GET inbox → http://localhost:8080/api/admin/bookings/inbox?status=PENDING&status=ACCEPTED_WITH_PRICE
+    // All three booking types in one list, newest first. Optional: type=, cursor=, limit=
+    @GetMapping("/inbox")
+    public ResponseEntity<BookingInboxResponse> getInbox(
+            @RequestParam(name = "type", required = false) List<BookingType> types,
+            @RequestParam(name = "status", required = false) List<RequestStatus> statuses,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + BookingInboxService.DEFAULT_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(inboxService.getInbox(types, statuses, cursor, limit));
+    }
+
+    // GET live events → http://localhost:8080/api/admin/bookings/stream  (text/event-stream)
+    // "booking" events {type, requestId, previousStatus, status, grandTotal, eventDate, at};
+    // reconnects with Last-Event-ID get the missed events, or a "reset" event when they are gone
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return eventStream.subscribeAdmin(lastEventId);
+    }
+}
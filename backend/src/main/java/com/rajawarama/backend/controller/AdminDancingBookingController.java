@@ -2,6 +2,8 @@ package com.rajawarama.backend.controller;
 
 import com.rajawarama.backend.dto.booking.DancingPackageBookingResponse;
 import com.rajawarama.backend.dto.booking.SetTransportPriceRequest;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.service.BookingDeltaBuilder;
 import com.rajawarama.backend.service.DancingPackageBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +24,17 @@ public class AdminDancingBookingController {
 
     // GET all → http://localhost:8080/api/admin/booking-requests/dancing-packages
     @GetMapping
-    public ResponseEntity<List<DancingPackageBookingResponse>> getAllBookings() {
-        return ResponseEntity.ok(bookingService.getAllBookings());
+    public ResponseEntity<?> getAllBookings(
+            @RequestParam(name = "status", required = false) List<RequestStatus> statuses,
+            @RequestParam(required = false) String updatedSince
+    ) {
+        // Delta sync: only what changed since the cursor
+        if (updatedSince != null) {
+            return ResponseEntity.ok(bookingService.getAllBookingsChangedSince(updatedSince, statuses));
+        }
+        return ResponseEntity.ok()
+                .header(BookingDeltaBuilder.CURSOR_HEADER, BookingDeltaBuilder.currentCursor())
+                .body(bookingService.getAllBookings(statuses));
     }
 
     // GET one → http://localhost:8080/api/admin/booking-requests/dancing-packages/{requestId}
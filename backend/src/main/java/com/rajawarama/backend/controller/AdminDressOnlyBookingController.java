@@ -2,6 +2,8 @@ package com.rajawarama.backend.controller;
 
 import com.rajawarama.backend.dto.booking.DressOnlyBookingResponse;
 import com.rajawarama.backend.dto.booking.SetTransportPriceRequest;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.service.BookingDeltaBuilder;
 import com.rajawarama.backend.service.DressOnlyBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +24,17 @@ public class AdminDressOnlyBookingController {
 
     // GET → /api/admin/booking-requests/dress-only
     @GetMapping
-    public ResponseEntity<List<DressOnlyBookingResponse>> getAll() {
-        return ResponseEntity.ok(service.getAllBookings());
+    public ResponseEntity<?> getAll(
+            @RequestParam(name = "status", required = false) List<RequestStatus> statuses,
+            @RequestParam(required = false) String updatedSince
+    ) {
+        // Delta sync: only what changed since the cursor
+        if (updatedSince != null) {
+            return ResponseEntity.ok(service.getAllBookingsChangedSince(updatedSince, statuses));
+        }
+        return ResponseEntity.ok()
+                .header(BookingDeltaBuilder.CURSOR_HEADER, BookingDeltaBuilder.currentCursor())
+                .body(service.getAllBookings(statuses));
     }
 
     // GET → /api/admin/booking-requests/dress-only/{requestId}
@@ -0,0 +1,57 @@
+package com.rajawarama.backend.controller;
+
+import com.rajawarama.backend.observability.JfrRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminJfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    // Start a bounded Flight Recorder recording on this node
+    // POST → http://localhost:8080/api/admin/jfr/start?durationSeconds=300&maxSizeMb=50
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingService.Status> start(
+            @RequestParam(defaultValue = "300") long durationSeconds,
+            @RequestParam(defaultValue = "50") long maxSizeMb
+    ) {
+        return ResponseEntity.ok(jfrRecordingService.start(durationSeconds, maxSizeMb));
+    }
+
+    // POST → http://localhost:8080/api/admin/jfr/stop
+    @PostMapping("/stop")
+    public ResponseEntity<JfrRecordingService.Status> stop() {
+        return ResponseEntity.ok(jfrRecordingService.stop());
+    }
+
+    // GET → http://localhost:8080/api/admin/jfr/status
+    @GetMapping("/status")
+    public ResponseEntity<JfrRecordingService.Status> status() {
+        return ResponseEntity.ok(jfrRecordingService.status());
+    }
+
+    // Open with JDK Mission Control or `jfr print`
+    // GET → http://localhost:8080/api/admin/jfr/download
+    @GetMapping("/download")
+    public ResponseEntity<InputStreamResource> download() {
+        String filename = "rajawarama_" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".jfr";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new InputStreamResource(jfrRecordingService.openDump()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.rajawarama.backend.controller;
+
+import com.rajawarama.backend.service.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminJobController {
+
+    private final ScheduledJobRunner jobRunner;
+
+    // Last run of each scheduled job on this node (counts, duration, error)
+    @GetMapping
+    public List<ScheduledJobRunner.JobRun> getLastRuns() {
+        return jobRunner.getLastRuns();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rajawarama.backend.controller;
+
+import com.rajawarama.backend.service.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/single-flight")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSingleFlightController {
+
+    private final SingleFlight singleFlight;
+
+    // Per endpoint on this node: computations run vs. requests that shared one (= computations saved)
+    // GET → http://localhost:8080/api/admin/single-flight
+    @GetMapping
+    public List<SingleFlight.Stats> getStats() {
+        return singleFlight.getStats();
+    }
+}
@@ -2,6 +2,7 @@ package com.rajawarama.backend.controller;
 
 import com.rajawarama.backend.dto.booking.CreateDancingPackageBookingRequest;
 import com.rajawarama.backend.dto.booking.DancingPackageBookingResponse;
+import com.rajawarama.backend.service.BookingDeltaBuilder;
 import com.rajawarama.backend.service.DancingPackageBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +12,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -38,8 +38,16 @@ public class CustomerDancingBookingController {
 
     // GET → http://localhost:8080/api/bookings/dancing-packages
     @GetMapping
-    public ResponseEntity<List<DancingPackageBookingResponse>> getMyBookings() {
-        return ResponseEntity.ok(bookingService.getMyBookings(getEmail()));
+    public ResponseEntity<?> getMyBookings(
+            @RequestParam(required = false) String updatedSince
+    ) {
+        // Delta sync: only what changed since the cursor
+        if (updatedSince != null) {
+            return ResponseEntity.ok(bookingService.getMyBookingsChangedSince(getEmail(), updatedSince));
+        }
+        return ResponseEntity.ok()
+                .header(BookingDeltaBuilder.CURSOR_HEADER, BookingDeltaBuilder.currentCursor())
+                .body(bookingService.getMyBookings(getEmail()));
     }
 
     // GET → http://localhost:8080/api/bookings/dancing-packages/{requestId}
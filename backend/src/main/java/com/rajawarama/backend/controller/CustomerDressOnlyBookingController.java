@@ -2,6 +2,7 @@ package com.rajawarama.backend.controller;
 
 import com.rajawarama.backend.dto.booking.CreateDressOnlyBookingRequest;
 import com.rajawarama.backend.dto.booking.DressOnlyBookingResponse;
+import com.rajawarama.backend.service.BookingDeltaBuilder;
 import com.rajawarama.backend.service.DressOnlyBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -32,8 +32,17 @@ public class CustomerDressOnlyBookingController {
 
     // GET → /api/bookings/dress-only
     @GetMapping
-    public ResponseEntity<List<DressOnlyBookingResponse>> getMyBookings(Authentication auth) {
-        return ResponseEntity.ok(service.getMyBookings(email(auth)));
+    public ResponseEntity<?> getMyBookings(
+            Authentication auth,
+            @RequestParam(required = false) String updatedSince
+    ) {
+        // Delta sync: only what changed since the cursor
+        if (updatedSince != null) {
+            return ResponseEntity.ok(service.getMyBookingsChangedSince(email(auth), updatedSince));
+        }
+        return ResponseEntity.ok()
+                .header(BookingDeltaBuilder.CURSOR_HEADER, BookingDeltaBuilder.currentCursor())
+                .body(service.getMyBookings(email(auth)));
     }
 
     // GET → /api/bookings/dress-only/{requestId}
@@ -0,0 +1,63 @@
+package com.rajawarama.backend.controller;
+
+import com.rajawarama.backend.service.MyBookingsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/bookings")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('CUSTOMER')")
+public class CustomerMyBookingsController {
+
+    private static final long STREAM_TIMEOUT_MS = 30_000;
+
+    private final MyBookingsService myBookingsService;
+
+    // GET → http://localhost:8080/api/bookings/mine
+    // Every booking of the customer (all three types), newest first,
+    // as newline-delimited JSON: one {type, requestId, createdAt, booking} per line.
+    @GetMapping("/mine")
+    public ResponseEntity<ResponseBodyEmitter> getAllMyBookings(Authentication auth) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_TIMEOUT_MS);
+
+        myBookingsService.streamTimeline(auth.getName(), item -> {
+            try {
+                emitter.send(item, MediaType.APPLICATION_JSON);
+                emitter.send("\n", MediaType.TEXT_PLAIN);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((done, error) -> {
+            if (error == null) emitter.complete();
+            else emitter.completeWithError(error);
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    // GET → http://localhost:8080/api/bookings/stream  (text/event-stream)
+    // "booking" events for the customer's own bookings only (e.g. admin set the price);
+    // reconnects with Last-Event-ID get the missed events, or a "reset" event when they are gone
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            Authentication auth,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return myBookingsService.subscribe(auth.getName(), lastEventId);
+    }
+}
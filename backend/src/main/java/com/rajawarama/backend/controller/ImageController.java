@@ -1,6 +1,10 @@
 package com.rajawarama.backend.controller;
 
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.JfrEvents;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -20,13 +24,50 @@ public class ImageController {
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
 
+    // images.reads{result}: every request is a disk read (there is no server-side cache)
+    private final Counter imagesFound;
+    private final Counter imagesMissing;
+    private final DistributionSummary imageBytes;
+
+    public ImageController(MeterRegistry meterRegistry) {
+        this.imagesFound = Counter.builder("images.reads")
+                .description("Image requests served from disk")
+                .tag("result", "found")
+                .register(meterRegistry);
+        this.imagesMissing = Counter.builder("images.reads")
+                .description("Image requests served from disk")
+                .tag("result", "missing")
+                .register(meterRegistry);
+        this.imageBytes = DistributionSummary.builder("images.read.bytes")
+                .description("Size of the image files served")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
     @GetMapping("/{fileName:.+}")
     public ResponseEntity<Resource> getImage(@PathVariable String fileName) {
+        JfrEvents.ImageServe jfr = new JfrEvents.ImageServe();
+        jfr.begin();
         try {
             Path filePath = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(fileName);
             Resource resource = new UrlResource(filePath.toUri());
 
-            if(!resource.exists()) {
+            boolean found = resource.exists();
+            long bytes = found ? filePath.toFile().length() : 0;
+            if (found) {
+                imagesFound.increment();
+                imageBytes.record(bytes);
+            } else {
+                imagesMissing.increment();
+            }
+            if (jfr.shouldCommit()) {
+                jfr.fileName = fileName;
+                jfr.found = found;
+                jfr.bytes = bytes;
+                jfr.commit();
+            }
+
+            if(!found) {
                 throw new ResourceNotFoundException("Image not found: " + fileName);
             }
 
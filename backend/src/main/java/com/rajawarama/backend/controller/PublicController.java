@@ -1,18 +1,25 @@
 package com.rajawarama.backend.controller;
 
+import com.rajawarama.backend.dto.BookingCalendarResponse;
 import com.rajawarama.backend.dto.DancingGroupPackageResponse;
 import com.rajawarama.backend.dto.DancingPerformerTypeResponse;
 import com.rajawarama.backend.dto.DressItemResponse;
 import com.rajawarama.backend.dto.SpecialPackageResponse;
+import com.rajawarama.backend.service.BookingCalendarService;
 import com.rajawarama.backend.service.DancingGroupPackageService;
 import com.rajawarama.backend.service.DancingPerformerTypeService;
 import com.rajawarama.backend.service.DressItemService;
+import com.rajawarama.backend.service.SingleFlight;
 import com.rajawarama.backend.service.SpecialPackageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 @RestController
@@ -24,33 +31,49 @@ public class PublicController {
     private final DancingGroupPackageService  dancingGroupPackageService;
     private final DressItemService            dressItemService;
     private final DancingPerformerTypeService dancingPerformerTypeService;  // ← ADDED
+    private final BookingCalendarService      bookingCalendarService;
+    private final SingleFlight                singleFlight;  // concurrent identical catalog reads share one query
 
     // --------------------------- Special Packages
     // GET → http://localhost:8080/api/public/special-packages
     @GetMapping("/special-packages")
     public ResponseEntity<List<SpecialPackageResponse>> getSpecialPackages() {
-        return ResponseEntity.ok(specialPackageService.getAll());
+        return ResponseEntity.ok(singleFlight.execute("public.special-packages", () -> specialPackageService.getAll()));
     }
 
     // ------------------------------------ Dancing Group Packages
     // GET → http://localhost:8080/api/public/dancing-packages
     @GetMapping("/dancing-packages")
     public ResponseEntity<List<DancingGroupPackageResponse>> getDancingPackages() {
-        return ResponseEntity.ok(dancingGroupPackageService.getAllDancingGroupPackages());
+        return ResponseEntity.ok(singleFlight.execute("public.dancing-packages", () -> dancingGroupPackageService.getAllDancingGroupPackages()));
     }
 
     // --------------------------------------------- Dress Items
     // GET → http://localhost:8080/api/public/dress-items
     @GetMapping("/dress-items")
     public ResponseEntity<List<DressItemResponse>> getDressItems() {
-        return ResponseEntity.ok(dressItemService.getAll());
+        return ResponseEntity.ok(singleFlight.execute("public.dress-items", () -> dressItemService.getAll()));
     }
 
     // ----------------------------------------------- Performer Types (for booking modal → extra performers step)
     // GET → http://localhost:8080/api/public/performer-types
     @GetMapping("/performer-types")
     public ResponseEntity<List<DancingPerformerTypeResponse>> getPerformerTypes() {
-        return ResponseEntity.ok(dancingPerformerTypeService.getAll());
+        return ResponseEntity.ok(singleFlight.execute("public.performer-types", () -> dancingPerformerTypeService.getAll()));
     }
-}
 
+    // ----------------------------------------------- Busy-dates calendar (booking date picker)
+    // GET → http://localhost:8080/api/public/calendar?from=2026-11-01&to=2027-01-31
+    // Defaults: from = today, to = three months later
+    @GetMapping("/calendar")
+    public ResponseEntity<BookingCalendarResponse> getCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate f = from != null ? from : LocalDate.now();
+        LocalDate t = to   != null ? to   : f.plusMonths(3);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS))
+                .body(bookingCalendarService.getCalendar(f, t));
+    }
+}
@@ -1,9 +1,18 @@
 package com.rajawarama.backend.controller;
 
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.dto.PagedResponse;
 import com.rajawarama.backend.dto.ReportLoginResponse;
 import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.observability.JfrEvents;
 import com.rajawarama.backend.repository.*;
+import com.rajawarama.backend.service.BookingArchiveService;
+import com.rajawarama.backend.service.ReportFormatter;
+import com.rajawarama.backend.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,7 +22,6 @@ import org.springframework.web.bind.annotation.*;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,10 +32,12 @@ import java.util.stream.Collectors;
 public class ReportController {
 
     private final UserRepository                  userRepository;
-    private final RequestSpecialPackageRepository spBookingRepo;
-    private final RequestDancingPackageRepository dpBookingRepo;
-    private final RequestDressOnlyRepository      dobBookingRepo;
-    private final RefreshTokenRepository          refreshTokenRepo;
+    private final LoginEventRepository            loginEventRepo;
+    private final SingleFlight                    singleFlight;
+
+    // Booking rows come from the live tables plus booking_archive when the range needs it
+    private final BookingArchiveService           bookingArchive;
+    private final ReportFormatter                 formatter;
 
 
     // GET /api/admin/reports/stats
@@ -41,15 +51,24 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("stats");
         LocalDate fromDate = parseDate(from);
         LocalDate toDate   = parseDate(to);
+        String normalizedPeriod = period.trim().toLowerCase();
+
+        // Dashboard widgets ask for the same stats at once: compute them once
+        Map<String, Object> stats = singleFlight.execute(
+                SingleFlight.key("reports.stats", normalizedPeriod, fromDate, toDate),
+                () -> computeStats(normalizedPeriod, fromDate, toDate)
+        );
+        jfr.finish(stats.size(), 0);
+        return ResponseEntity.ok(stats);
+    }
 
-        List<RequestSpecialPackage>  spList  = spBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), fromDate, toDate)).collect(Collectors.toList());
-        List<RequestDancingPackage>  dpList  = dpBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), fromDate, toDate)).collect(Collectors.toList());
-        List<RequestDressOnly>       dobList = dobBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), fromDate, toDate)).collect(Collectors.toList());
+    private Map<String, Object> computeStats(String period, LocalDate fromDate, LocalDate toDate) {
+        List<BookingReportRow> spList  = bookingArchive.reportRows(BookingType.SPECIAL_PACKAGE, fromDate, toDate);
+        List<BookingReportRow> dpList  = bookingArchive.reportRows(BookingType.DANCING_PACKAGE, fromDate, toDate);
+        List<BookingReportRow> dobList = bookingArchive.reportRows(BookingType.DRESS_ONLY, fromDate, toDate);
 
         // Status breakdown per type
         Map<String, Long> specialByStatus   = groupByStatus(spList.stream().map(b -> b.getStatus().name()).collect(Collectors.toList()));
@@ -65,9 +84,9 @@ public class ReportController {
                 + dobList.stream().filter(b -> "COMPLETED".equals(b.getStatus().name())).count();
 
         // Revenue (grand total where not null)
-        double spRevenue  = spList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(RequestSpecialPackage::getGrandTotal).sum();
-        double dpRevenue  = dpList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(RequestDancingPackage::getGrandTotal).sum();
-        double dobRevenue = dobList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(RequestDressOnly::getGrandTotal).sum();
+        double spRevenue  = spList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(BookingReportRow::getGrandTotal).sum();
+        double dpRevenue  = dpList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(BookingReportRow::getGrandTotal).sum();
+        double dobRevenue = dobList.stream().filter(b -> b.getGrandTotal() != null).mapToDouble(BookingReportRow::getGrandTotal).sum();
         double totalRevenue = spRevenue + dpRevenue + dobRevenue;
 
         // Users
@@ -75,7 +94,7 @@ public class ReportController {
         long activeUsers = userRepository.findAll().stream().filter(u -> !u.isDeleted()).count();
 
         // Revenue grouped by period
-        Map<String, Double> revenueByPeriod = buildRevenueByPeriod(period, spList, dpList, dobList);
+        Map<String, Double> revenueByPeriod = formatter.revenueByPeriod(period, spList, dpList, dobList);
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("specialByStatus",   specialByStatus);
@@ -89,33 +108,27 @@ public class ReportController {
         result.put("totalUsers",        totalUsers);
         result.put("activeUsers",       activeUsers);
         result.put("revenueByPeriod",   revenueByPeriod);
-        return ResponseEntity.ok(result);
+        return result;
     }
 
 
-    // GET /api/admin/reports/logins  (JSON for table display)
-    //localhost:8080/api/admin/reports/logins
+    // GET /api/admin/reports/logins  (JSON for table display, one page at a time)
+    //localhost:8080/api/admin/reports/logins?page=0&size=10
     @GetMapping("/logins")
-    public ResponseEntity<List<ReportLoginResponse>> getLoginLogs(
+    public ResponseEntity<PagedResponse<ReportLoginResponse>> getLoginLogs(
             @RequestParam(required = false) String from,
-            @RequestParam(required = false) String to
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("logins");
         LocalDate fromDate = parseDate(from);
         LocalDate toDate   = parseDate(to);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 200));
 
-        List<ReportLoginResponse> logs = refreshTokenRepo.findAll().stream()
-                .filter(t -> inRange(t.getCreatedAt(), fromDate, toDate))
-                .sorted(Comparator.comparing(RefreshToken::getCreatedAt, Comparator.reverseOrder()))
-                .map(t -> ReportLoginResponse.builder()
-                        .userFullName(t.getUser().getFullName())
-                        .userEmail(t.getUser().getEmail())
-                        .role(t.getUser().getRole().name())
-                        .loginAt(t.getCreatedAt())
-                        .tokenExpiry(t.getExpiryDate())
-                        .build())
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(logs);
+        Page<LoginEvent> logins = loginEventRepo.findPageInRange(startOf(fromDate), endOf(toDate), pageRequest);
+        jfr.finish(logins.getNumberOfElements(), 0);
+        return ResponseEntity.ok(PagedResponse.of(logins, this::toLoginResponse));
     }
 
 
@@ -128,23 +141,13 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("users-csv");
         LocalDate f = parseDate(from), t = parseDate(to);
         List<User> users = userRepository.findAll().stream()
                 .filter(u -> inRange(u.getCreatedAt(), f, t))
                 .sorted(Comparator.comparing(User::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
                 .collect(Collectors.toList());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Full Name,Email,Phone,Role,Status,Created At,Last Login\n");
-        for (User u : users) {
-            sb.append(row(
-                    u.getFullName(), u.getEmail(), u.getPhone(),
-                    u.getRole().name(),
-                    u.isDeleted() ? "Deactivated" : "Active",
-                    fmt(u.getCreatedAt()), fmt(u.getLastLogin())
-            )).append("\n");
-        }
-        return csvResponse("users_report", sb.toString());
+        return csvResponse(jfr, "users_report", formatter.usersCsv(users), users.size());
     }
 
     // GET /api/admin/reports/special-bookings/csv
@@ -154,26 +157,10 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("special-bookings-csv");
         LocalDate f = parseDate(from), t = parseDate(to);
-        List<RequestSpecialPackage> list = spBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), f, t))
-                .sorted(Comparator.comparing(RequestSpecialPackage::getCreatedAt, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Request ID,Customer Name,Email,Package,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At\n");
-        for (RequestSpecialPackage b : list) {
-            sb.append(row(
-                    b.getRequestId().toString(),
-                    b.getUser().getFullName(), b.getUser().getEmail(),
-                    b.getSpecialPackage().getName(),
-                    b.getEventDate().toString(), b.getHotelName(), b.getNearestCity(),
-                    b.getStatus().name(),
-                    money(b.getBookingSubtotal()), money(b.getTransportPrice()), money(b.getGrandTotal()),
-                    fmt(b.getCreatedAt())
-            )).append("\n");
-        }
-        return csvResponse("special_bookings_report", sb.toString());
+        List<BookingReportRow> list = bookingArchive.reportRows(BookingType.SPECIAL_PACKAGE, f, t);
+        return csvResponse(jfr, "special_bookings_report", formatter.bookingsCsv(list, true), list.size());
     }
 
     // GET /api/admin/reports/dancing-bookings/csv
@@ -183,26 +170,10 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("dancing-bookings-csv");
         LocalDate f = parseDate(from), t = parseDate(to);
-        List<RequestDancingPackage> list = dpBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), f, t))
-                .sorted(Comparator.comparing(RequestDancingPackage::getCreatedAt, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Request ID,Customer Name,Email,Package,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At\n");
-        for (RequestDancingPackage b : list) {
-            sb.append(row(
-                    b.getRequestId().toString(),
-                    b.getUser().getFullName(), b.getUser().getEmail(),
-                    b.getDancingPackage().getName(),
-                    b.getEventDate().toString(), b.getHotelName(), b.getNearestCity(),
-                    b.getStatus().name(),
-                    money(b.getBookingSubtotal()), money(b.getTransportPrice()), money(b.getGrandTotal()),
-                    fmt(b.getCreatedAt())
-            )).append("\n");
-        }
-        return csvResponse("dancing_bookings_report", sb.toString());
+        List<BookingReportRow> list = bookingArchive.reportRows(BookingType.DANCING_PACKAGE, f, t);
+        return csvResponse(jfr, "dancing_bookings_report", formatter.bookingsCsv(list, true), list.size());
     }
 
     // GET /api/admin/reports/dress-only-bookings/csv
@@ -212,25 +183,10 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("dress-only-bookings-csv");
         LocalDate f = parseDate(from), t = parseDate(to);
-        List<RequestDressOnly> list = dobBookingRepo.findAll().stream()
-                .filter(b -> inRange(b.getCreatedAt(), f, t))
-                .sorted(Comparator.comparing(RequestDressOnly::getCreatedAt, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Request ID,Customer Name,Email,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At\n");
-        for (RequestDressOnly b : list) {
-            sb.append(row(
-                    b.getRequestId().toString(),
-                    b.getUser().getFullName(), b.getUser().getEmail(),
-                    b.getEventDate().toString(), b.getHotelName(), b.getNearestCity(),
-                    b.getStatus().name(),
-                    money(b.getBookingSubtotal()), money(b.getTransportPrice()), money(b.getGrandTotal()),
-                    fmt(b.getCreatedAt())
-            )).append("\n");
-        }
-        return csvResponse("dress_only_bookings_report", sb.toString());
+        List<BookingReportRow> list = bookingArchive.reportRows(BookingType.DRESS_ONLY, f, t);
+        return csvResponse(jfr, "dress_only_bookings_report", formatter.bookingsCsv(list, false), list.size());
     }
 
     // GET /api/admin/reports/logins/csv
@@ -240,22 +196,10 @@ public class ReportController {
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
+        JfrEvents.Report jfr = JfrEvents.Report.start("logins-csv");
         LocalDate f = parseDate(from), t = parseDate(to);
-        List<RefreshToken> tokens = refreshTokenRepo.findAll().stream()
-                .filter(tk -> inRange(tk.getCreatedAt(), f, t))
-                .sorted(Comparator.comparing(RefreshToken::getCreatedAt, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Full Name,Email,Role,Login At,Token Expiry\n");
-        for (RefreshToken tk : tokens) {
-            sb.append(row(
-                    tk.getUser().getFullName(), tk.getUser().getEmail(),
-                    tk.getUser().getRole().name(),
-                    fmt(tk.getCreatedAt()), fmt(tk.getExpiryDate())
-            )).append("\n");
-        }
-        return csvResponse("login_history_report", sb.toString());
+        List<LoginEvent> logins = loginEventRepo.findAllInRange(startOf(f), endOf(t));
+        return csvResponse(jfr, "login_history_report", formatter.loginsCsv(logins), logins.size());
     }
 
 
@@ -270,65 +214,38 @@ public class ReportController {
         return true;
     }
 
-    private LocalDate parseDate(String s) {
-        if (s == null || s.isBlank()) return null;
-        try { return LocalDate.parse(s); } catch (Exception e) { return null; }
+    private LocalDateTime startOf(LocalDate from) {
+        return from != null ? from.atStartOfDay() : null;
     }
 
-    private Map<String, Long> groupByStatus(List<String> statuses) {
-        return statuses.stream().collect(Collectors.groupingBy(s -> s, Collectors.counting()));
+    // Exclusive upper bound: the whole "to" day is included
+    private LocalDateTime endOf(LocalDate to) {
+        return to != null ? to.plusDays(1).atStartOfDay() : null;
     }
 
-    /** Group combined revenue by daily / weekly / monthly / yearly label */
-    private Map<String, Double> buildRevenueByPeriod(
-            String period,
-            List<RequestSpecialPackage>  spList,
-            List<RequestDancingPackage>  dpList,
-            List<RequestDressOnly>       dobList
-    ) {
-        // Collect all (date, amount) pairs
-        List<Map.Entry<LocalDateTime, Double>> all = new ArrayList<>();
-        spList.stream().filter(b -> b.getGrandTotal() != null)
-                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
-        dpList.stream().filter(b -> b.getGrandTotal() != null)
-                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
-        dobList.stream().filter(b -> b.getGrandTotal() != null)
-                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
-
-        Map<String, Double> map = new TreeMap<>();
-        for (Map.Entry<LocalDateTime, Double> e : all) {
-            String key = switch (period) {
-                case "daily"   -> e.getKey().format(DateTimeFormatter.ofPattern("MMM dd"));
-                case "weekly"  -> "W" + e.getKey().format(DateTimeFormatter.ofPattern("ww yyyy"));
-                case "yearly"  -> e.getKey().format(DateTimeFormatter.ofPattern("yyyy"));
-                default        -> e.getKey().format(DateTimeFormatter.ofPattern("MMM yyyy")); // monthly
-            };
-            map.merge(key, e.getValue(), Double::sum);
-        }
-        return map;
+    private ReportLoginResponse toLoginResponse(LoginEvent e) {
+        return ReportLoginResponse.builder()
+                .userFullName(e.getUserFullName())
+                .userEmail(e.getUserEmail())
+                .role(e.getRole())
+                .loginAt(e.getLoginAt())
+                .tokenExpiry(e.getTokenExpiry())
+                .build();
     }
 
-    private String fmt(LocalDateTime dt) {
-        return dt != null ? dt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "";
-    }
-
-    private String money(Double d) {
-        return d != null ? String.format("%.2f", d) : "0.00";
+    private LocalDate parseDate(String s) {
+        if (s == null || s.isBlank()) return null;
+        try { return LocalDate.parse(s); } catch (Exception e) { return null; }
     }
 
-    private String row(String... values) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < values.length; i++) {
-            String v = values[i] == null ? "" : values[i].replace("\"", "\"\"");
-            sb.append('"').append(v).append('"');
-            if (i < values.length - 1) sb.append(',');
-        }
-        return sb.toString();
+    private Map<String, Long> groupByStatus(List<String> statuses) {
+        return statuses.stream().collect(Collectors.groupingBy(s -> s, Collectors.counting()));
     }
 
-    private ResponseEntity<byte[]> csvResponse(String filename, String content) {
+    private ResponseEntity<byte[]> csvResponse(JfrEvents.Report jfr, String filename, String content, int rows) {
         // BOM so Excel opens it correctly
         byte[] bytes = ("\uFEFF" + content).getBytes(StandardCharsets.UTF_8);
+        jfr.finish(rows, bytes.length);
         return ResponseEntity.ok()
                 .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
                 .header(HttpHeaders.CONTENT_DISPOSITION,
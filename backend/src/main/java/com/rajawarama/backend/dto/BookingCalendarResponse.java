@@ -0,0 +1,33 @@
+package com.rajawarama.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class BookingCalendarResponse {
+    private LocalDate from;
+    private LocalDate to;
+
+    // Bookings on one day at which the date picker shows the day as full
+    private int fullThreshold;
+
+    // Whole months covering from..to
+    private List<MonthLoad> months;
+
+    @Getter
+    @Builder
+    public static class MonthLoad {
+        private String month;   // yyyy-MM
+
+        // Bookings per day, run-length encoded: [load, days, load, days, ...]
+        // e.g. [0, 14, 2, 1, 0, 15] → day 15 has 2 bookings, every other day none
+        private int[] load;
+
+        // Bit (dayOfMonth - 1) is set when that day has reached fullThreshold
+        private long fullDays;
+    }
+}
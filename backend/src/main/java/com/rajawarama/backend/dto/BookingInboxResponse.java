@@ -0,0 +1,36 @@
+package com.rajawarama.backend.dto;
+
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class BookingInboxResponse {
+
+    // Newest first
+    private List<Row> items;
+
+    // Pass back as ?cursor= for the next page; null when there is none
+    private String nextCursor;
+
+    @Getter
+    @Builder
+    public static class Row {
+        private BookingType type;
+        private UUID requestId;
+        private String customerName;
+        private String customerEmail;
+        private String packageName;     // null for dress-only bookings
+        private LocalDate eventDate;
+        private RequestStatus status;
+        private Double grandTotal;
+        private LocalDateTime createdAt;
+    }
+}
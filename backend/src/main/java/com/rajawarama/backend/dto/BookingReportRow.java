@@ -0,0 +1,34 @@
+package com.rajawarama.backend.dto;
+
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One booking as the admin reports see it, whether it still lives in its
+// booking table or has been moved to booking_archive. The report queries
+// select straight into the constructor (field order below).
+@Getter
+@Builder
+@AllArgsConstructor
+public class BookingReportRow {
+    private UUID requestId;
+    private BookingType bookingType;
+    private String customerName;
+    private String customerEmail;
+    private String packageName;     // null for dress-only bookings
+    private LocalDate eventDate;
+    private String hotelName;
+    private String nearestCity;
+    private RequestStatus status;
+    private Double bookingSubtotal;
+    private Double transportPrice;
+    private Double grandTotal;
+    private LocalDateTime createdAt;
+    private boolean archived;
+}
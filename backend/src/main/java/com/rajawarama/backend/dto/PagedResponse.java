@@ -0,0 +1,28 @@
+package com.rajawarama.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class PagedResponse<T> {
+    private List<T> items;
+    private int page;           // 0-based
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <E, T> PagedResponse<T> of(Page<E> page, Function<E, T> mapper) {
+        return PagedResponse.<T>builder()
+                .items(page.getContent().stream().map(mapper).toList())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
@@ -11,6 +11,6 @@ public class ReportLoginResponse {
     private String userFullName;
     private String userEmail;
     private String role;
-    private LocalDateTime loginAt;      // refresh_token.created_at
-    private LocalDateTime tokenExpiry;  // refresh_token.expiry_date
+    private LocalDateTime loginAt;      // login_events.login_at
+    private LocalDateTime tokenExpiry;  // login_events.token_expiry
 }
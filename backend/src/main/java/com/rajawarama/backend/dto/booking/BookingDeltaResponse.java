@@ -0,0 +1,22 @@
+package com.rajawarama.backend.dto.booking;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+// Answer to a booking list call with ?updatedSince=<cursor>
+@Getter
+@Builder
+public class BookingDeltaResponse<T> {
+
+    // Rows created or changed since the cursor that are (still) in the view, oldest change first
+    private List<T> changed;
+
+    // Request ids that left the view since the cursor (filtered out by status, or archived)
+    private List<UUID> removed;
+
+    // Pass back as ?updatedSince= on the next poll
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.rajawarama.backend.dto.booking;
+
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Payload of a "booking" event on the live booking streams
+@Getter
+@Builder
+public class BookingStreamEvent {
+    private BookingType type;
+    private UUID requestId;
+    private RequestStatus previousStatus;   // null for a new booking
+    private RequestStatus status;
+    private Double grandTotal;
+    private LocalDate eventDate;
+    private LocalDateTime at;
+}
@@ -0,0 +1,20 @@
+package com.rajawarama.backend.dto.booking;
+
+import com.rajawarama.backend.enums.BookingType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One line of GET /api/bookings/mine: a customer booking of any type.
+// booking is the same response the type's own endpoint returns
+// (SpecialPackageBookingResponse, DancingPackageBookingResponse or DressOnlyBookingResponse).
+@Getter
+@Builder
+public class MyBookingTimelineItem {
+    private BookingType type;
+    private UUID requestId;
+    private LocalDateTime createdAt;
+    private Object booking;
+}
@@ -0,0 +1,100 @@
+package com.rajawarama.backend.entity;
+
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Closed booking (any of the three types) moved out of the live tables.
+// Denormalised on purpose: customer and package names are copied, so the
+// archive does not depend on users or catalogue rows that may change or
+// disappear. The dress / performer children move to ArchivedDressSelection
+// and ArchivedExtraPerformer.
+@Entity
+@Table(
+        name = "booking_archive",
+        indexes = {
+                @Index(name = "idx_archive_created_at", columnList = "created_at"),
+                @Index(name = "idx_archive_type_created_at", columnList = "booking_type, created_at"),
+                @Index(name = "idx_archive_user", columnList = "user_id"),
+                @Index(name = "idx_archive_archived_at", columnList = "archived_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedBooking {
+
+    // Same id the booking had in its live table
+    @Id
+    @Column(name = "request_id", nullable = false, updatable = false)
+    private UUID requestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "booking_type", nullable = false, length = 20)
+    private BookingType bookingType;
+
+    // ------------------------- customer (copied)
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "customer_email")
+    private String customerEmail;
+
+    @Column(name = "contact_no")
+    private String contactNo;
+
+    // ------------------------- booking details
+    // Special / dancing package name; null for dress-only bookings
+    @Column(name = "package_name")
+    private String packageName;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Column(name = "hotel_name")
+    private String hotelName;
+
+    @Column(name = "nearest_city")
+    private String nearestCity;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)   // not a MySQL ENUM, see StatusColumnMigration
+    @Column(nullable = false, length = 30)
+    private RequestStatus status;
+
+    // Special packages only: the dancing package that was booked with it
+    @Column(name = "dancing_package_name")
+    private String dancingPackageName;
+
+    // ------------------------- prices
+    @Column(name = "booking_subtotal")
+    private Double bookingSubtotal;
+
+    @Column(name = "transport_price")
+    private Double transportPrice;
+
+    @Column(name = "grand_total")
+    private Double grandTotal;
+
+    // ------------------------- timestamps (live row's, plus when it moved)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.rajawarama.backend.entity;
+
+import com.rajawarama.backend.enums.DressRole;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+// Dress selection of an archived special-package or dress-only booking.
+// Keeps the dress item id for joins and copies its name, like ArchivedBooking
+// does for customers and packages.
+@Entity
+@Table(
+        name = "booking_archive_dress_selection",
+        indexes = @Index(name = "idx_archive_dress_request", columnList = "request_id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedDressSelection {
+
+    // Same id the selection had in its live table
+    @Id
+    @Column(name = "selection_id", nullable = false, updatable = false)
+    private UUID selectionId;
+
+    // booking_archive.request_id
+    @Column(name = "request_id", nullable = false)
+    private UUID requestId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "dress_role", nullable = false, length = 20)
+    private DressRole role;
+
+    @Column(name = "dress_item_id", nullable = false)
+    private UUID dressItemId;
+
+    @Column(name = "dress_item_name")
+    private String dressItemName;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,39 @@
+package com.rajawarama.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// Extra performer of an archived special-package or dancing booking.
+// Keeps the performer type id for joins and copies its name.
+@Entity
+@Table(
+        name = "booking_archive_extra_performer",
+        indexes = @Index(name = "idx_archive_performer_request", columnList = "request_id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedExtraPerformer {
+
+    // Same id the row had in its live table
+    @Id
+    @Column(name = "extra_performer_id", nullable = false, updatable = false)
+    private UUID extraPerformerId;
+
+    // booking_archive.request_id
+    @Column(name = "request_id", nullable = false)
+    private UUID requestId;
+
+    @Column(name = "performer_type_id", nullable = false)
+    private UUID performerTypeId;
+
+    @Column(name = "performer_type_name")
+    private String performerTypeName;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+}
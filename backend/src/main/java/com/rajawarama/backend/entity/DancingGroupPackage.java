@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +16,7 @@ import java.util.*;
 @Getter
 @Setter
 @NoArgsConstructor
+@BatchSize(size = 100)
 public class DancingGroupPackage {
 
     @Id
@@ -38,6 +40,7 @@ public class DancingGroupPackage {
     private LocalDateTime updatedAt;
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
             name = "package_performer_type",
             joinColumns = @JoinColumn(name = "dancing_package_id"),
@@ -46,6 +49,7 @@ public class DancingGroupPackage {
     private List<DancingPerformerType> includedPerformers = new ArrayList<>();
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "package_performer_quantity")
     @MapKeyJoinColumn(name = "performer_type_id")
     @Column(name = "quantity")
@@ -0,0 +1,81 @@
+package com.rajawarama.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One successful login. Append-only: rows are never updated, only removed
+// by the retention job. User details are copied so the report needs no join
+// and still reads correctly after the user changes or is deleted.
+//
+// The id is assigned in the constructor, so Spring Data cannot tell a new
+// event from a detached one and saveAll would merge (one SELECT per row).
+// Persistable says "new until persisted or loaded" and saveAll persists.
+@Entity
+@Table(
+        name = "login_events",
+        indexes = {
+                @Index(name = "idx_login_events_login_at", columnList = "login_at"),
+                @Index(name = "idx_login_events_user_login_at", columnList = "user_id, login_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class LoginEvent implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "login_event_id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "user_email", nullable = false, updatable = false)
+    private String userEmail;
+
+    @Column(name = "user_full_name", updatable = false)
+    private String userFullName;
+
+    @Column(name = "role", nullable = false, updatable = false, length = 20)
+    private String role;
+
+    @Column(name = "login_at", nullable = false, updatable = false)
+    private LocalDateTime loginAt;
+
+    // Expiry of the refresh token issued by this login
+    @Column(name = "token_expiry", updatable = false)
+    private LocalDateTime tokenExpiry;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public LoginEvent(User user, LocalDateTime loginAt, LocalDateTime tokenExpiry) {
+        this.id = UUID.randomUUID();
+        this.userId = user.getUserId();
+        this.userEmail = user.getEmail();
+        this.userFullName = user.getFullName();
+        this.role = user.getRole().name();
+        this.loginAt = loginAt;
+        this.tokenExpiry = tokenExpiry;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
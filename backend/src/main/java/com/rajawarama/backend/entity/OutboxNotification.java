@@ -0,0 +1,64 @@
+package com.rajawarama.backend.entity;
+
+import com.rajawarama.backend.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// An email waiting to be sent. Rows are written in the same transaction as
+// the booking change that caused them, and sent later by NotificationDispatcher.
+@Entity
+@Table(
+        name = "notification_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_dedupe_key", columnNames = "dedupe_key"),
+        indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "notification_id", nullable = false, updatable = false)
+    private UUID id;
+
+    // e.g. "SPECIAL_PACKAGE:<requestId>:PRICE_SET:customer" or
+    // "...:CREATED:admin:<userId>" — the same change never mails twice
+    @Column(name = "dedupe_key", nullable = false, length = 200)
+    private String dedupeKey;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,52 @@
+package com.rajawarama.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Performers one dancing / special package booking reserved for its event
+// date, written by PerformerCapacityLedger when the booking is created.
+// The ledger rebuilds from these rows, so a package edited later does not
+// change what older bookings hold.
+@Entity
+@Table(
+        name = "performer_capacity_hold",
+        indexes = {
+                @Index(name = "idx_capacity_hold_request", columnList = "request_id"),
+                @Index(name = "idx_capacity_hold_event_date", columnList = "event_date")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PerformerCapacityHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "hold_id", nullable = false, updatable = false)
+    private UUID id;
+
+    // request_special_packages.sp_request_id or request_dancing_packages.dp_request_id
+    @Column(name = "request_id", nullable = false)
+    private UUID requestId;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Column(name = "performer_type_id", nullable = false)
+    private UUID performerTypeId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    public PerformerCapacityHold(UUID requestId, LocalDate eventDate, UUID performerTypeId, Integer quantity) {
+        this.requestId = requestId;
+        this.eventDate = eventDate;
+        this.performerTypeId = performerTypeId;
+        this.quantity = quantity;
+    }
+}
@@ -9,8 +9,14 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// The refresh token itself is never stored: lookups go through a fixed-width
+// SHA-256 hex digest of it (JwtUtil.hashToken). The token is rotated on every
+// refresh, so the row always describes the one token the client currently holds.
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = @Index(name = "idx_refresh_tokens_expiry", columnList = "expiry_date")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,8 +26,8 @@ public class RefreshToken {
     @Column(name = "refresh_token_id", nullable = false, updatable = false)
     private UUID id;
 
-    @Column(name = "token", nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @OneToOne
     @JoinColumn(name = "user_id", nullable = false)
@@ -33,14 +39,20 @@ public class RefreshToken {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
-    public RefreshToken(User user, String token, LocalDateTime expiryDate) {
+    public RefreshToken(User user, String tokenHash, LocalDateTime expiryDate) {
         this.id = UUID.randomUUID();
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
+        this.expiryDate = expiryDate;
+    }
+
+    // Replace the token this row stands for (login again / refresh)
+    public void rotate(String tokenHash, LocalDateTime expiryDate) {
+        this.tokenHash = tokenHash;
         this.expiryDate = expiryDate;
     }
 
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiryDate);
     }
-}
\ No newline at end of file
+}
@@ -5,8 +5,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +19,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "request_dancing_packages")
+@Table(
+        name = "request_dancing_packages",
+        indexes = {
+                @Index(name = "idx_rdp_status_event_date", columnList = "status, event_date"),
+                @Index(name = "idx_rdp_status_created_at", columnList = "status, created_at, dp_request_id"),
+                @Index(name = "idx_rdp_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,11 +71,13 @@ public class RequestDancingPackage {
 
     // ----------- Extra performers on top of the dancing package
     @OneToMany(mappedBy = "dancingRequest", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 32)
     private List<DancingRequestExtraPerformer> extraPerformers = new ArrayList<>();
 
     // ------------ Status & pricing
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)   // not a MySQL ENUM, see StatusColumnMigration
+    @Column(nullable = false, length = 30)
     private RequestStatus status = RequestStatus.PENDING;
 
     // ------------------------- STORED PRICES
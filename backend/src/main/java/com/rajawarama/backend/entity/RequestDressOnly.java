@@ -5,8 +5,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +19,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "request_dress_only")
+@Table(
+        name = "request_dress_only",
+        indexes = {
+                @Index(name = "idx_rdo_status_event_date", columnList = "status, event_date"),
+                @Index(name = "idx_rdo_status_created_at", columnList = "status, created_at, request_id"),
+                @Index(name = "idx_rdo_updated_at", columnList = "updated_at")
+        }
+)
 @Getter @Setter @NoArgsConstructor
 public class RequestDressOnly {
 
@@ -51,7 +61,8 @@ public class RequestDressOnly {
     private String specialNotes;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)   // not a MySQL ENUM, see StatusColumnMigration
+    @Column(name = "status", nullable = false, length = 30)
     private RequestStatus status = RequestStatus.PENDING;
 
     @Column(name = "transport_price")
@@ -67,6 +78,7 @@ public class RequestDressOnly {
     private boolean finalPriceAccepted = false;
 
     @OneToMany(mappedBy = "request", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 32)
     private List<RequestDressOnlySelection> dressSelections = new ArrayList<>();
 
     @CreationTimestamp
@@ -5,8 +5,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +19,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "request_special_packages")
+@Table(
+        name = "request_special_packages",
+        indexes = {
+                @Index(name = "idx_rsp_status_event_date", columnList = "status, event_date"),
+                @Index(name = "idx_rsp_status_created_at", columnList = "status, created_at, sp_request_id"),
+                @Index(name = "idx_rsp_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,6 +71,7 @@ public class RequestSpecialPackage {
 
     // ----------- Dress selections (Groom, Best Man(s), Page Boy(s))
     @OneToMany(mappedBy = "request", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 32)
     private List<RequestDressSelection> dressSelections = new ArrayList<>();
 
     // ----------- Dancing package (linked from special package OR user override)
@@ -70,11 +81,13 @@ public class RequestSpecialPackage {
 
     // ----------- Extra performers beyond the dancing package
     @OneToMany(mappedBy = "request", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 32)
     private List<RequestExtraPerformer> extraPerformers = new ArrayList<>();
 
     // ------------ Status & pricing
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)   // not a MySQL ENUM, see StatusColumnMigration
+    @Column(nullable = false, length = 30)
     private RequestStatus status = RequestStatus.PENDING;
 
     // ----------------------------- STORED PRICES
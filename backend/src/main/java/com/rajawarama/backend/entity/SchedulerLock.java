@@ -0,0 +1,39 @@
+package com.rajawarama.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// One row per scheduled job. A node may run the job only while it holds the
+// row, i.e. after moving lockedUntil into the future with a conditional UPDATE.
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", nullable = false, updatable = false, length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", length = 255)
+    private String lockedBy;
+
+    public SchedulerLock(String name) {
+        this.name = name;
+        this.lockedUntil = LocalDateTime.of(2000, 1, 1, 0, 0);
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -44,9 +45,11 @@ public class SpecialPackage {
     private DancingGroupPackage linkedDancingPackage;
 
     @OneToMany(mappedBy = "specialPackage", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<SpecialPackageItem> items = new ArrayList<>();
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "special_package_free_items", joinColumns = @JoinColumn(name = "special_package_id"))
     @Column(name = "free_item_name")
     private List<String> freeItems = new ArrayList<>();
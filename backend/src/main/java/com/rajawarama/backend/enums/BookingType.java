@@ -0,0 +1,7 @@
+package com.rajawarama.backend.enums;
+
+public enum BookingType {
+    SPECIAL_PACKAGE,  // request_special_packages
+    DANCING_PACKAGE,  // request_dancing_packages
+    DRESS_ONLY        // request_dress_only
+}
@@ -0,0 +1,7 @@
+package com.rajawarama.backend.enums;
+
+public enum OutboxStatus {
+    PENDING,   // Waiting for (another) send attempt
+    SENT,      // Handed to the SMTP server
+    FAILED     // Gave up after the maximum number of attempts
+}
@@ -7,6 +7,11 @@ public enum RequestStatus {
     CANCELLED,           // Customer cancelled after price was set
     APPROVED,            // Admin approved final request
     REJECTED,            // Admin rejected the request
-    COMPLETED            // Event done — admin marked complete
+    COMPLETED,           // Event done — admin marked complete
+    EXPIRED;             // Nobody acted on the request in time (scheduled job)
+
+    // Whether a booking in this status still occupies its event date
+    public boolean holdsEventDate() {
+        return this != CANCELLED && this != REJECTED && this != EXPIRED;
+    }
 }
- 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.rajawarama.backend.event;
+
+import com.rajawarama.backend.entity.RequestDancingPackage;
+import com.rajawarama.backend.entity.RequestDressOnly;
+import com.rajawarama.backend.entity.RequestSpecialPackage;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// -----------------------------------------------------------------------------
+// Published by the three booking services whenever a booking is created
+// (previousStatus = null) or moves to another status.
+//
+// Listeners that touch shared in-memory state should use
+// @TransactionalEventListener so they only see committed changes.
+// -----------------------------------------------------------------------------
+public record BookingStatusChangedEvent(
+        BookingType type,
+        UUID requestId,
+        UUID userId,
+        String userEmail,
+        LocalDate eventDate,
+        RequestStatus previousStatus,
+        RequestStatus newStatus,
+        Double bookingSubtotal,
+        Double grandTotal
+) {
+
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+
+    public static BookingStatusChangedEvent of(RequestSpecialPackage b, RequestStatus previousStatus) {
+        return new BookingStatusChangedEvent(
+                BookingType.SPECIAL_PACKAGE, b.getRequestId(),
+                b.getUser().getUserId(), b.getUser().getEmail(), b.getEventDate(),
+                previousStatus, b.getStatus(), b.getBookingSubtotal(), b.getGrandTotal()
+        );
+    }
+
+    public static BookingStatusChangedEvent of(RequestDancingPackage b, RequestStatus previousStatus) {
+        return new BookingStatusChangedEvent(
+                BookingType.DANCING_PACKAGE, b.getRequestId(),
+                b.getUser().getUserId(), b.getUser().getEmail(), b.getEventDate(),
+                previousStatus, b.getStatus(), b.getBookingSubtotal(), b.getGrandTotal()
+        );
+    }
+
+    public static BookingStatusChangedEvent of(RequestDressOnly b, RequestStatus previousStatus) {
+        return new BookingStatusChangedEvent(
+                BookingType.DRESS_ONLY, b.getRequestId(),
+                b.getUser().getUserId(), b.getUser().getEmail(), b.getEventDate(),
+                previousStatus, b.getStatus(), b.getBookingSubtotal(), b.getGrandTotal()
+        );
+    }
+}
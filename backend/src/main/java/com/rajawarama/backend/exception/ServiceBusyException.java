@@ -0,0 +1,17 @@
+package com.rajawarama.backend.exception;
+
+// A bounded resource (e.g. the password-hashing pool) is saturated; the
+// client should retry after the given number of seconds.
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rajawarama.backend.observability;
+
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// -----------------------------------------------------------------------------
+// Booking lifecycle metrics, fed by committed BookingStatusChangedEvents:
+//
+//   bookings.transitions{type, from, to}  – from = NONE for a new booking
+//   bookings.subtotal{type}               – subtotal at create, as a histogram
+// -----------------------------------------------------------------------------
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    private final MeterRegistry registry;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        String type = event.type().name();
+
+        Counter.builder("bookings.transitions")
+                .description("Booking status transitions")
+                .tag("type", type)
+                .tag("from", event.isCreation() ? "NONE" : event.previousStatus().name())
+                .tag("to", event.newStatus().name())
+                .register(registry)
+                .increment();
+
+        if (event.isCreation() && event.bookingSubtotal() != null) {
+            DistributionSummary.builder("bookings.subtotal")
+                    .description("Booking subtotal when the booking is created")
+                    .tag("type", type)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1_000.0)
+                    .maximumExpectedValue(5_000_000.0)
+                    .register(registry)
+                    .record(event.bookingSubtotal());
+        }
+    }
+}
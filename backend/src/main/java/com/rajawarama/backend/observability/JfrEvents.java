@@ -0,0 +1,142 @@
+package com.rajawarama.backend.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// -----------------------------------------------------------------------------
+// Custom JDK Flight Recorder events for the application's hot paths.
+//
+// They cost next to nothing unless a recording with these events enabled is
+// running (see JfrRecordingService / /api/admin/jfr). Each event is started
+// where the work starts and committed where it ends; commit() is a no-op when
+// the event is disabled, so callers only guard the field assignments that
+// would otherwise do extra work.
+// -----------------------------------------------------------------------------
+public final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    @Name("rajawarama.BookingCreate")
+    @Label("Booking Create")
+    @Category({"Rajawarama", "Booking"})
+    @Description("A customer booking created (whole createBooking, pricing and capacity included)")
+    @StackTrace(false)
+    public static class BookingCreate extends Event {
+        @Label("Booking Type")
+        public String bookingType;
+
+        @Label("Dress Selections")
+        public int dressSelections;
+
+        @Label("Extra Performers")
+        public int extraPerformers;
+
+        public static BookingCreate start(String bookingType) {
+            BookingCreate event = new BookingCreate();
+            event.bookingType = bookingType;
+            event.begin();
+            return event;
+        }
+
+        public void finish(int dressSelections, int extraPerformers) {
+            this.dressSelections = dressSelections;
+            this.extraPerformers = extraPerformers;
+            commit();
+        }
+    }
+
+    @Name("rajawarama.Pricing")
+    @Label("Booking Pricing")
+    @Category({"Rajawarama", "Booking"})
+    @Description("Booking subtotal computation")
+    @StackTrace(false)
+    public static class Pricing extends Event {
+        @Label("Booking Type")
+        public String bookingType;
+
+        @Label("Line Items")
+        public int lineItems;
+
+        @Label("Subtotal")
+        public double subtotal;
+
+        public static Pricing start(String bookingType) {
+            Pricing event = new Pricing();
+            event.bookingType = bookingType;
+            event.begin();
+            return event;
+        }
+
+        public void finish(int lineItems, double subtotal) {
+            this.lineItems = lineItems;
+            this.subtotal = subtotal;
+            commit();
+        }
+    }
+
+    @Name("rajawarama.JwtVerify")
+    @Label("JWT Verification")
+    @Category({"Rajawarama", "Security"})
+    @Description("Access token signature check and claim parsing in JwtAuthenticationFilter")
+    @StackTrace(false)
+    public static class JwtVerify extends Event {
+        @Label("Valid")
+        public boolean valid;
+
+        @Label("Revoked")
+        public boolean revoked;
+    }
+
+    @Name("rajawarama.ImageServe")
+    @Label("Image Serve")
+    @Category({"Rajawarama", "Images"})
+    @Description("Image lookup in ImageController (the body itself is streamed afterwards)")
+    @StackTrace(false)
+    public static class ImageServe extends Event {
+        @Label("File Name")
+        public String fileName;
+
+        @Label("Found")
+        public boolean found;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("rajawarama.Report")
+    @Label("Report")
+    @Category({"Rajawarama", "Reports"})
+    @Description("A ReportController endpoint")
+    @StackTrace(false)
+    public static class Report extends Event {
+        @Label("Endpoint")
+        public String endpoint;
+
+        @Label("Rows")
+        public int rows;
+
+        @Label("Response Size")
+        @DataAmount
+        public long bytes;
+
+        public static Report start(String endpoint) {
+            Report event = new Report();
+            event.endpoint = endpoint;
+            event.begin();
+            return event;
+        }
+
+        public void finish(int rows, long bytes) {
+            this.rows = rows;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.rajawarama.backend.observability;
+
+import com.rajawarama.backend.exception.BadRequestException;
+import com.rajawarama.backend.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+// -----------------------------------------------------------------------------
+// One on-demand Flight Recorder recording per node, driven from /api/admin/jfr.
+//
+// Uses the JDK "default" settings (the low-overhead profile meant for
+// production) plus every rajawarama.* event. The recording is always bounded:
+// it stops by itself after its duration and keeps at most max-size on disk,
+// both capped by app.jfr.* so a forgotten recording cannot fill the disk.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "rajawarama-admin";
+
+    private final long maxDurationSeconds;
+    private final long maxSizeMb;
+
+    private Recording recording;
+
+    public record Status(
+            String state,
+            Instant startedAt,
+            Long durationSeconds,
+            Long maxSizeBytes,
+            Long sizeBytes
+    ) {
+    }
+
+    public JfrRecordingService(
+            @Value("${app.jfr.max-duration-seconds:900}") long maxDurationSeconds,
+            @Value("${app.jfr.max-size-mb:100}") long maxSizeMb
+    ) {
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeMb = maxSizeMb;
+    }
+
+    // -----------------------------------------
+    // Start a new recording (the previous one is discarded)
+    // -----------------------------------------
+    public synchronized Status start(long durationSeconds, long sizeMb) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new BadRequestException("A recording is already running; stop it first");
+        }
+        if (durationSeconds <= 0 || sizeMb <= 0) {
+            throw new BadRequestException("Duration and size must be positive");
+        }
+
+        Configuration settings;
+        try {
+            settings = Configuration.getConfiguration("default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR default settings are not available", e);
+        }
+
+        closeQuietly();
+        Recording next = new Recording(settings);
+        next.setName(RECORDING_NAME);
+        next.setToDisk(true);
+        next.setDuration(Duration.ofSeconds(Math.min(durationSeconds, maxDurationSeconds)));
+        next.setMaxSize(Math.min(sizeMb, maxSizeMb) * 1024 * 1024);
+        next.enable(JfrEvents.BookingCreate.class);
+        next.enable(JfrEvents.Pricing.class);
+        next.enable(JfrEvents.JwtVerify.class);
+        next.enable(JfrEvents.ImageServe.class);
+        next.enable(JfrEvents.Report.class);
+        next.start();
+
+        recording = next;
+        log.info("JFR recording started: duration={}s maxSize={}MB",
+                next.getDuration().toSeconds(), next.getMaxSize() / (1024 * 1024));
+        return status();
+    }
+
+    // -----------------------------------------
+    // Stop the running recording; the data stays available for download
+    // -----------------------------------------
+    public synchronized Status stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new BadRequestException("No recording is running");
+        }
+        recording.stop();
+        log.info("JFR recording stopped");
+        return status();
+    }
+
+    public synchronized Status status() {
+        if (recording == null) {
+            return new Status("NONE", null, null, null, null);
+        }
+        Duration duration = recording.getDuration();
+        return new Status(
+                recording.getState().name(),
+                recording.getStartTime(),
+                duration != null ? duration.toSeconds() : null,
+                recording.getMaxSize(),
+                recording.getSize()
+        );
+    }
+
+    // -----------------------------------------
+    // Dump the recording (running or stopped) to a temp file. The returned
+    // stream deletes the file when it is closed.
+    // -----------------------------------------
+    public synchronized InputStream openDump() {
+        if (recording == null || recording.getState() == RecordingState.NEW
+                || recording.getState() == RecordingState.CLOSED) {
+            throw new ResourceNotFoundException("No recording to download");
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump the JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.rajawarama.backend.observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// -----------------------------------------------------------------------------
+// Metrics, scraped from /api/admin/actuator/prometheus (admin only, like the
+// rest of /api/admin/**).
+//
+// What is published where:
+//   http.server.requests    – latency histogram per route; tagged here with
+//                             the route "group" so dashboards can sum per area
+//   bookings.transitions    – BookingMetrics, per booking type and from → to
+//   bookings.subtotal       – BookingMetrics, subtotal distribution at create
+//   images.reads            – ImageController, disk reads by result + bytes
+//   auth.jwt.verifications  – JwtAuthenticationFilter, by outcome
+//   singleflight.*          – SingleFlight, computations run vs. shared
+//   hikaricp.*              – every pool (primary, replica, report) by pool name
+//   hibernate.*             – session factory statistics
+// -----------------------------------------------------------------------------
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    // Add a low-cardinality "group" tag, derived from the uri template
+    @Bean
+    public MeterFilter routeGroupTag() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) return id;
+                return id.withTag(Tag.of("group", routeGroup(id.getTag("uri"))));
+            }
+
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) return config;
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    static String routeGroup(String uri) {
+        if (uri == null || !uri.startsWith("/api/")) return "other";
+
+        if (uri.startsWith("/api/auth")) return "auth";
+        if (uri.startsWith("/api/profile")) return "profile";
+        if (uri.startsWith("/api/public")) return "public-catalog";
+        if (uri.startsWith("/api/images")) return "images";
+        if (uri.startsWith("/api/bookings")) return "customer-bookings";
+
+        if (uri.startsWith("/api/admin/reports")) return "reports";
+        if (uri.startsWith("/api/admin/booking-requests") || uri.startsWith("/api/admin/bookings")) {
+            return "admin-bookings";
+        }
+        if (uri.startsWith("/api/admin/users")) return "admin-users";
+        if (uri.startsWith("/api/admin/jobs") || uri.startsWith("/api/admin/single-flight")
+                || uri.startsWith("/api/admin/jfr") || uri.startsWith("/api/admin/actuator")) {
+            return "admin-ops";
+        }
+        if (uri.startsWith("/api/admin/")) return "admin-catalog";
+        return "other";
+    }
+}
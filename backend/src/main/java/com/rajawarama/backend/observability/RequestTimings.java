@@ -0,0 +1,87 @@
+package com.rajawarama.backend.observability;
+
+import java.util.function.Function;
+
+// -----------------------------------------------------------------------------
+// Per-request time accounting, kept in a thread-local for the request thread.
+//
+// ServerTimingFilter opens it at the start of a request and reads it at the
+// end; the JDBC proxy (StatementTimingDataSource), the services'
+// mapToResponse methods and ServerTimingBodyAdvice add to it. Work done on
+// other threads (e.g. the /mine fan-out) is not counted. Outside a request
+// every call is a no-op.
+// -----------------------------------------------------------------------------
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long dbNanos;
+    private long mappingNanos;
+    private long serializationStartNanos;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    // -----------------------------------------
+    // Recording
+    // -----------------------------------------
+    static void addStatement(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.statementCount++;
+            timings.dbNanos += nanos;
+        }
+    }
+
+    static void markSerializationStart() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.serializationStartNanos == 0) {
+            timings.serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    // Entity → DTO mapping, timed; use as the body of a service's mapToResponse
+    public static <S, R> R timeMapping(S source, Function<S, R> mapper) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return mapper.apply(source);
+        }
+        long start = System.nanoTime();
+        try {
+            return mapper.apply(source);
+        } finally {
+            timings.mappingNanos += System.nanoTime() - start;
+        }
+    }
+
+    // -----------------------------------------
+    // Reading
+    // -----------------------------------------
+    int statementCount() {
+        return statementCount;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    long mappingNanos() {
+        return mappingNanos;
+    }
+
+    // From the first response-body write until `endNanos`; 0 when no body was written
+    long serializationNanos(long endNanos) {
+        return serializationStartNanos == 0 ? 0 : endNanos - serializationStartNanos;
+    }
+}
@@ -0,0 +1,239 @@
+package com.rajawarama.backend.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// -----------------------------------------------------------------------------
+// Adds a Server-Timing header to every API response:
+//
+//   Server-Timing: db;dur=12.4;desc="7 statements", map;dur=3.1, ser;dur=0.8, total;dur=19.6
+//
+// db    – time inside JDBC statement executions (StatementTimingDataSource)
+// map   – time in the services' mapToResponse methods (lazy loads included)
+// ser   – from the controller handing back its result until the response is done
+// total – the whole request, security filters included
+//
+// Nothing is buffered: the header is set just before the first body byte
+// reaches the container (or at the end when there is no body), so downloads
+// and exports stream as before. A body larger than Jackson's write buffer is
+// timed up to its first chunk. Streaming endpoints (SSE, NDJSON) and actuator
+// scrapes are skipped. A sampled share of requests, and every request slower
+// than app.server-timing.slow-ms, is also logged as one key=value line.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private final double logSampleRate;
+    private final long slowMs;
+
+    public ServerTimingFilter(
+            @Value("${app.server-timing.log-sample-rate:0.01}") double logSampleRate,
+            @Value("${app.server-timing.slow-ms:1000}") long slowMs
+    ) {
+        this.logSampleRate = logSampleRate;
+        this.slowMs = slowMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !path.startsWith("/api/")
+                || path.startsWith("/api/admin/actuator/")
+                || path.endsWith("/stream")
+                || path.equals("/api/bookings/mine");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.start();
+        long start = System.nanoTime();
+        TimingHeaderResponse wrapper = new TimingHeaderResponse(response, () -> {
+            long now = System.nanoTime();
+            return header(timings, now - start, now);
+        });
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            long end = System.nanoTime();
+            RequestTimings.clear();
+
+            wrapper.writeHeader();
+            logIfSampled(request, response.getStatus(), timings, end - start, end);
+        }
+    }
+
+    private static String header(RequestTimings t, long totalNanos, long end) {
+        return String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d statements\", map;dur=%.1f, ser;dur=%.1f, total;dur=%.1f",
+                millis(t.dbNanos()), t.statementCount(),
+                millis(t.mappingNanos()),
+                millis(t.serializationNanos(end)),
+                millis(totalNanos));
+    }
+
+    private void logIfSampled(HttpServletRequest request, int status, RequestTimings t, long totalNanos, long end) {
+        boolean slow = totalNanos / 1_000_000 >= slowMs;
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= logSampleRate) {
+            return;
+        }
+        log.info(String.format(Locale.ROOT,
+                "request method=%s path=%s status=%d totalMs=%.1f dbMs=%.1f statements=%d mapMs=%.1f serMs=%.1f slow=%s",
+                request.getMethod(), request.getServletPath(), status,
+                millis(totalNanos), millis(t.dbNanos()), t.statementCount(),
+                millis(t.mappingNanos()), millis(t.serializationNanos(end)), slow));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // -----------------------------------------
+    // Sets the header once, right before the response is committed: on the
+    // first body write or flush, on sendError / sendRedirect, or at the end
+    // of the request when nothing was written.
+    // -----------------------------------------
+    private static final class TimingHeaderResponse extends HttpServletResponseWrapper {
+
+        private final Supplier<String> header;
+        private boolean written;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        TimingHeaderResponse(HttpServletResponse response, Supplier<String> header) {
+            super(response);
+            this.header = header;
+        }
+
+        void writeHeader() {
+            if (written) {
+                return;
+            }
+            written = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, header.get());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        writeHeader();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        writeHeader();
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        writeHeader();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        writeHeader();
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] buf, int off, int len) {
+                        writeHeader();
+                        delegate.write(buf, off, len);
+                    }
+
+                    @Override
+                    public void flush() {
+                        writeHeader();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        writeHeader();
+                        delegate.close();
+                    }
+                });
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.rajawarama.backend.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// -----------------------------------------------------------------------------
+// JDBC proxy that counts and times every statement execution (execute*,
+// including batches) for RequestTimings. Connections and statements are
+// wrapped in JDK dynamic proxies; everything other than execute* is passed
+// straight through.
+// -----------------------------------------------------------------------------
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    public StatementTimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && isStatementFactory(method)) {
+                        return wrapStatement(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<?> type) {
+        Class<?> iface = type == CallableStatement.class ? CallableStatement.class
+                : type == PreparedStatement.class ? PreparedStatement.class
+                : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                RequestTimings.addStatement(System.nanoTime() - start);
+            }
+        };
+        return Proxy.newProxyInstance(StatementTimingDataSource.class.getClassLoader(), new Class<?>[]{iface}, handler);
+    }
+
+    private static boolean isStatementFactory(Method method) {
+        String name = method.getName();
+        return name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.entity.ArchivedBooking;
+import com.rajawarama.backend.enums.BookingType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, UUID> {
+
+    // Reports: archived bookings of a type created in [from, to); either bound may be null
+    @Query("select new com.rajawarama.backend.dto.BookingReportRow(a.requestId, a.bookingType, a.customerName, a.customerEmail, " +
+            "a.packageName, a.eventDate, a.hotelName, a.nearestCity, a.status, a.bookingSubtotal, " +
+            "a.transportPrice, a.grandTotal, a.createdAt, true) from ArchivedBooking a " +
+            "where a.bookingType = :type " +
+            "and (:from is null or a.createdAt >= :from) " +
+            "and (:to is null or a.createdAt < :to)")
+    List<BookingReportRow> findForReport(
+            @Param("type") BookingType type,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Delta sync tombstones: bookings of a type archived since the cursor
+    @Query("select a.requestId from ArchivedBooking a " +
+            "where a.bookingType = :type and a.archivedAt >= :since")
+    List<UUID> findIdsArchivedSince(
+            @Param("type") BookingType type,
+            @Param("since") LocalDateTime since
+    );
+
+    // Delta sync tombstones: one customer's bookings of a type archived since the cursor
+    @Query("select a.requestId from ArchivedBooking a " +
+            "where a.bookingType = :type and a.userId = :userId and a.archivedAt >= :since")
+    List<UUID> findIdsArchivedSinceForUser(
+            @Param("type") BookingType type,
+            @Param("userId") UUID userId,
+            @Param("since") LocalDateTime since
+    );
+}
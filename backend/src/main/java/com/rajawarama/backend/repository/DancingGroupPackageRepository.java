@@ -2,10 +2,16 @@ package com.rajawarama.backend.repository;
 
 import com.rajawarama.backend.entity.DancingGroupPackage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DancingGroupPackageRepository extends JpaRepository<DancingGroupPackage, UUID> {
     Optional<DancingGroupPackage> findByNameIgnoreCase(String name);
+
+    // Performer capacity ledger rebuild: [dancingPackageId, performerTypeId, quantity]
+    @Query("select p.id, key(q), value(q) from DancingGroupPackage p join p.quantities q")
+    List<Object[]> findAllQuantities();
 }
@@ -0,0 +1,50 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.LoginEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface LoginEventRepository extends JpaRepository<LoginEvent, UUID> {
+
+    // Login report: newest first, one page of [from, to); either bound may be null
+    @Query(value = "select e from LoginEvent e " +
+            "where (:from is null or e.loginAt >= :from) and (:to is null or e.loginAt < :to) " +
+            "order by e.loginAt desc",
+            countQuery = "select count(e) from LoginEvent e " +
+                    "where (:from is null or e.loginAt >= :from) and (:to is null or e.loginAt < :to)")
+    Page<LoginEvent> findPageInRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable page
+    );
+
+    // Login CSV: the whole range, newest first
+    @Query("select e from LoginEvent e " +
+            "where (:from is null or e.loginAt >= :from) and (:to is null or e.loginAt < :to) " +
+            "order by e.loginAt desc")
+    List<LoginEvent> findAllInRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Retention: one bounded chunk of old rows. Select the ids, then delete
+    // them, since DELETE ... LIMIT is MySQL-only
+    @Query("select e.id from LoginEvent e where e.loginAt < :cutoff order by e.loginAt")
+    List<UUID> findIdsOlderThan(
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable chunk
+    );
+
+    @Modifying
+    @Query("delete from LoginEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
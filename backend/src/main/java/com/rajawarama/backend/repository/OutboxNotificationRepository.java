@@ -0,0 +1,39 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.OutboxNotification;
+import com.rajawarama.backend.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxNotificationRepository extends JpaRepository<OutboxNotification, UUID> {
+
+    boolean existsByDedupeKey(String dedupeKey);
+
+    // Dispatcher: next batch that is due, oldest first
+    @Query("select n from OutboxNotification n " +
+            "where n.status = :status and n.nextAttemptAt <= :now " +
+            "order by n.nextAttemptAt")
+    List<OutboxNotification> findDue(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable batch
+    );
+
+    @Modifying
+    @Query("update OutboxNotification n set n.status = :status, n.sentAt = :sentAt, " +
+            "n.attempts = n.attempts + 1, n.lastError = null " +
+            "where n.id in :ids")
+    int markSent(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") OutboxStatus status,
+            @Param("sentAt") LocalDateTime sentAt
+    );
+}
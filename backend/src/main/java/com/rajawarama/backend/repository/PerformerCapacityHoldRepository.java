@@ -0,0 +1,28 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.PerformerCapacityHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PerformerCapacityHoldRepository extends JpaRepository<PerformerCapacityHold, UUID> {
+
+    // Performer capacity ledger rebuild: [requestId, eventDate, performerTypeId, quantity]
+    @Query("select h.requestId, h.eventDate, h.performerTypeId, h.quantity " +
+            "from PerformerCapacityHold h where h.eventDate >= :from")
+    List<Object[]> findHoldsFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query("delete from PerformerCapacityHold h where h.requestId = :requestId")
+    int deleteByRequestId(@Param("requestId") UUID requestId);
+
+    @Modifying
+    @Query("delete from PerformerCapacityHold h where h.requestId in :requestIds")
+    int deleteByRequestIdIn(@Param("requestIds") Collection<UUID> requestIds);
+}
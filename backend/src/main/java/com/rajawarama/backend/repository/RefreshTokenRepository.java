@@ -2,17 +2,49 @@ package com.rajawarama.backend.repository;
 
 import com.rajawarama.backend.entity.RefreshToken;
 import com.rajawarama.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     Optional<RefreshToken> findByUser(User user);
 
     void deleteByUser(User user);
 
-}
\ No newline at end of file
+    // Refresh: swap in the new token only while the presented one is still
+    // current. Of two concurrent refreshes with the same token, one updates the
+    // row and the other sees 0 rows changed.
+    @Modifying
+    @Query("update RefreshToken t set t.tokenHash = :newHash, t.expiryDate = :expiry " +
+            "where t.id = :id and t.tokenHash = :oldHash")
+    int rotate(
+            @Param("id") UUID id,
+            @Param("oldHash") String oldHash,
+            @Param("newHash") String newHash,
+            @Param("expiry") LocalDateTime expiry
+    );
+
+    // Expiry sweep: one bounded chunk of expired rows. Select the ids, then
+    // delete them, since DELETE ... LIMIT is MySQL-only
+    @Query("select t.id from RefreshToken t where t.expiryDate < :now order by t.expiryDate")
+    List<UUID> findExpiredIds(
+            @Param("now") LocalDateTime now,
+            Pageable chunk
+    );
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+}
@@ -1,15 +1,96 @@
 package com.rajawarama.backend.repository;
 
+import com.rajawarama.backend.dto.BookingReportRow;
 import com.rajawarama.backend.entity.RequestDressOnly;
 import com.rajawarama.backend.entity.User;
 import com.rajawarama.backend.enums.RequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface RequestDressOnlyRepository extends JpaRepository<RequestDressOnly, UUID> {
+    // To-one associations come with the rows; child collections are batch-loaded
+    @EntityGraph(attributePaths = {"user"})
     List<RequestDressOnly> findByUserOrderByCreatedAtDesc(User user);
+
+    // Admin list: selections and their dress items come with the rows, so the
+    // statement count does not grow with the number of bookings
+    @EntityGraph(attributePaths = {"user", "dressSelections", "dressSelections.dressItem"})
     List<RequestDressOnly> findAllByOrderByCreatedAtDesc();
+
+    // Admin list filtered by status
+    @EntityGraph(attributePaths = {"user", "dressSelections", "dressSelections.dressItem"})
+    List<RequestDressOnly> findByStatusInOrderByCreatedAtDesc(List<RequestStatus> statuses);
+
+    // Delta sync: every row touched since the cursor, oldest change first
+    @EntityGraph(attributePaths = {"user"})
+    List<RequestDressOnly> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(LocalDateTime since);
+
+    // Delta sync: one customer's rows touched since the cursor
+    @EntityGraph(attributePaths = {"user"})
+    List<RequestDressOnly> findByUserAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(User user, LocalDateTime since);
     boolean existsByUserAndStatusIn(User user, List<RequestStatus> statuses);
-}
\ No newline at end of file
+
+    // Booking calendar rebuild: [eventDate, number of bookings on that date]
+    @Query("select r.eventDate, count(r) from RequestDressOnly r where r.status in :statuses group by r.eventDate")
+    List<Object[]> countByEventDate(@Param("statuses") List<RequestStatus> statuses);
+
+    // Scheduled jobs: next chunk (keyset on requestId) of bookings in a status
+    // whose event date is before the given day
+    @Query("select r from RequestDressOnly r join fetch r.user " +
+            "where r.status = :status and r.eventDate < :before and r.requestId > :after " +
+            "order by r.requestId")
+    List<RequestDressOnly> findChunkWithEventBefore(
+            @Param("status") RequestStatus status,
+            @Param("before") LocalDate before,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Scheduled jobs: next chunk (keyset on requestId) of bookings in a status
+    // that nobody touched since staleBefore, or whose event date already passed
+    @Query("select r from RequestDressOnly r join fetch r.user " +
+            "where r.status = :status and (r.updatedAt < :staleBefore or r.eventDate < :today) " +
+            "and r.requestId > :after " +
+            "order by r.requestId")
+    List<RequestDressOnly> findStaleChunk(
+            @Param("status") RequestStatus status,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("today") LocalDate today,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Archive job: ids of the next chunk (keyset on requestId) of closed
+    // bookings untouched since updatedBefore
+    @Query("select r.requestId from RequestDressOnly r " +
+            "where r.status in :statuses and r.updatedAt < :updatedBefore and r.requestId > :after " +
+            "order by r.requestId")
+    List<UUID> findArchivableIds(
+            @Param("statuses") List<RequestStatus> statuses,
+            @Param("updatedBefore") LocalDateTime updatedBefore,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Reports: bookings created in [from, to); either bound may be null.
+    // Selected as report rows, so no booking entity is loaded
+    @Query("select new com.rajawarama.backend.dto.BookingReportRow(r.requestId, " +
+            "com.rajawarama.backend.enums.BookingType.DRESS_ONLY, u.fullName, u.email, cast(null as String), " +
+            "r.eventDate, r.hotelName, r.nearestCity, r.status, r.bookingSubtotal, r.transportPrice, " +
+            "r.grandTotal, r.createdAt, false) " +
+            "from RequestDressOnly r join r.user u " +
+            "where (:from is null or r.createdAt >= :from) " +
+            "and (:to is null or r.createdAt < :to)")
+    List<BookingReportRow> findForReport(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
@@ -1,28 +1,134 @@
 package com.rajawarama.backend.repository;
 
+import com.rajawarama.backend.dto.BookingReportRow;
 import com.rajawarama.backend.entity.RequestSpecialPackage;
 import com.rajawarama.backend.entity.User;
 import com.rajawarama.backend.enums.RequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface RequestSpecialPackageRepository extends JpaRepository<RequestSpecialPackage, UUID> {
 
     // All requests by a specific user (for My Bookings page)
+    // To-one associations come with the rows; child collections are batch-loaded
+    @EntityGraph(attributePaths = {"user", "specialPackage", "selectedDancingPackage"})
     List<RequestSpecialPackage> findByUserOrderByCreatedAtDesc(User user);
 
     // All requests by status (admin filtering)
     List<RequestSpecialPackage> findByStatusOrderByCreatedAtDesc(RequestStatus status);
 
-    // All requests ordered by newest (admin view all)
+    // All requests ordered by newest (admin view all). Dress selections come
+    // with the rows; extra performers are a second bag, see fetchExtraPerformers
+    @EntityGraph(attributePaths = {"user", "specialPackage", "selectedDancingPackage", "dressSelections", "dressSelections.dressItem"})
     List<RequestSpecialPackage> findAllByOrderByCreatedAtDesc();
 
+    // Admin list filtered by status
+    @EntityGraph(attributePaths = {"user", "specialPackage", "selectedDancingPackage", "dressSelections", "dressSelections.dressItem"})
+    List<RequestSpecialPackage> findByStatusInOrderByCreatedAtDesc(List<RequestStatus> statuses);
+
+    // Admin list, second pass: extra performers of rows already loaded
+    @Query("select distinct r from RequestSpecialPackage r " +
+            "left join fetch r.extraPerformers e left join fetch e.performerType " +
+            "where r in :requests")
+    List<RequestSpecialPackage> fetchExtraPerformers(@Param("requests") List<RequestSpecialPackage> requests);
+
+    // Delta sync: every row touched since the cursor, oldest change first
+    @EntityGraph(attributePaths = {"user", "specialPackage", "selectedDancingPackage"})
+    List<RequestSpecialPackage> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(LocalDateTime since);
+
+    // Delta sync: one customer's rows touched since the cursor
+    @EntityGraph(attributePaths = {"user", "specialPackage", "selectedDancingPackage"})
+    List<RequestSpecialPackage> findByUserAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(User user, LocalDateTime since);
+
     // Check if user already has a PENDING/PRICE_SET request for same date + package
     boolean existsByUserAndSpecialPackageIdAndStatusIn(
             User user,
             UUID specialPackageId,
             List<RequestStatus> statuses
     );
-}
\ No newline at end of file
+
+    // Performer capacity ledger rebuild, bookings made before holds were
+    // recorded: [requestId, eventDate, selectedDancingPackageId (nullable)]
+    @Query("select r.requestId, r.eventDate, d.id from RequestSpecialPackage r " +
+            "left join r.selectedDancingPackage d " +
+            "where r.status in :statuses and r.eventDate >= :from" +
+            " and not exists (select 1 from PerformerCapacityHold h where h.requestId = r.requestId)")
+    List<Object[]> findCapacityHolds(
+            @Param("statuses") List<RequestStatus> statuses,
+            @Param("from") LocalDate from
+    );
+
+    // Same, their extra performers: [requestId, performerTypeId, quantity]
+    @Query("select e.request.requestId, e.performerType.id, e.quantity " +
+            "from RequestExtraPerformer e " +
+            "where e.request.status in :statuses and e.request.eventDate >= :from" +
+            " and not exists (select 1 from PerformerCapacityHold h where h.requestId = e.request.requestId)")
+    List<Object[]> findExtraPerformerHolds(
+            @Param("statuses") List<RequestStatus> statuses,
+            @Param("from") LocalDate from
+    );
+
+    // Booking calendar rebuild: [eventDate, number of bookings on that date]
+    @Query("select r.eventDate, count(r) from RequestSpecialPackage r where r.status in :statuses group by r.eventDate")
+    List<Object[]> countByEventDate(@Param("statuses") List<RequestStatus> statuses);
+
+    // Scheduled jobs: next chunk (keyset on requestId) of bookings in a status
+    // whose event date is before the given day
+    @Query("select r from RequestSpecialPackage r join fetch r.user " +
+            "where r.status = :status and r.eventDate < :before and r.requestId > :after " +
+            "order by r.requestId")
+    List<RequestSpecialPackage> findChunkWithEventBefore(
+            @Param("status") RequestStatus status,
+            @Param("before") LocalDate before,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Scheduled jobs: next chunk (keyset on requestId) of bookings in a status
+    // that nobody touched since staleBefore, or whose event date already passed
+    @Query("select r from RequestSpecialPackage r join fetch r.user " +
+            "where r.status = :status and (r.updatedAt < :staleBefore or r.eventDate < :today) " +
+            "and r.requestId > :after " +
+            "order by r.requestId")
+    List<RequestSpecialPackage> findStaleChunk(
+            @Param("status") RequestStatus status,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("today") LocalDate today,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Archive job: ids of the next chunk (keyset on requestId) of closed
+    // bookings untouched since updatedBefore
+    @Query("select r.requestId from RequestSpecialPackage r " +
+            "where r.status in :statuses and r.updatedAt < :updatedBefore and r.requestId > :after " +
+            "order by r.requestId")
+    List<UUID> findArchivableIds(
+            @Param("statuses") List<RequestStatus> statuses,
+            @Param("updatedBefore") LocalDateTime updatedBefore,
+            @Param("after") UUID after,
+            Pageable chunk
+    );
+
+    // Reports: bookings created in [from, to); either bound may be null.
+    // Selected as report rows, so no booking entity is loaded
+    @Query("select new com.rajawarama.backend.dto.BookingReportRow(r.requestId, " +
+            "com.rajawarama.backend.enums.BookingType.SPECIAL_PACKAGE, u.fullName, u.email, p.name, " +
+            "r.eventDate, r.hotelName, r.nearestCity, r.status, r.bookingSubtotal, r.transportPrice, " +
+            "r.grandTotal, r.createdAt, false) " +
+            "from RequestSpecialPackage r join r.user u join r.specialPackage p " +
+            "where (:from is null or r.createdAt >= :from) " +
+            "and (:to is null or r.createdAt < :to)")
+    List<BookingReportRow> findForReport(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
@@ -0,0 +1,31 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // Take the lock only if nobody holds it (or the holder's lease ran out)
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+            "where l.name = :name and l.lockedUntil <= :now")
+    int tryLock(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until
+    );
+
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int unlock(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
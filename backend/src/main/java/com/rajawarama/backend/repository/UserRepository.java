@@ -1,7 +1,10 @@
 package com.rajawarama.backend.repository;
 
 import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findAllByIsDeletedFalse();
 
+    // Notification recipients, e.g. every active admin: [userId, email]
+    @Query("select u.userId, u.email from User u where u.role = :role and u.isDeleted = false")
+    List<Object[]> findActiveRecipientsByRole(@Param("role") Role role);
+
 }
@@ -0,0 +1,107 @@
+package com.rajawarama.backend.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// -----------------------------------------------------------------------------
+// Access tokens revoked before they expire.
+//
+// Revoking a user records a watermark: every access token of that user issued
+// before that millisecond is rejected. Access tokens carry a millisecond
+// issued-at claim (JwtUtil.ISSUED_AT_MS_CLAIM), so a token issued right after
+// the revocation (login after logout, the refresh after a password change)
+// is not caught by it even when both fall in the same second. A watermark
+// only matters for as long as a token issued before it can still be alive,
+// so entries are dropped after JwtUtil.ACCESS_TOKEN_EXPIRATION.
+//
+// Checks go through a Bloom filter first: a user who was never revoked (the
+// normal case) is answered from a few bit probes, without touching the map.
+// Bloom filters cannot forget, so two generations are kept and rotated every
+// token lifetime; a revoked user stays in the current or previous generation
+// for at least one full lifetime.
+//
+// State is per instance: with several backend nodes each node only knows the
+// revocations it performed itself.
+// -----------------------------------------------------------------------------
+@Component
+public class AccessTokenRevocationRegistry {
+
+    // userId → tokens issued before this epoch millisecond are revoked
+    private final Map<UUID, Long> watermarks = new ConcurrentHashMap<>();
+
+    private final AtomicReference<BloomFilter> current = new AtomicReference<>(new BloomFilter());
+    private volatile BloomFilter previous = new BloomFilter();
+
+    public void revoke(UUID userId) {
+        watermarks.merge(userId, System.currentTimeMillis(), Math::max);
+        current.get().add(userId);
+    }
+
+    public boolean isRevoked(UUID userId, long issuedAtMillis) {
+        if (!current.get().mightContain(userId) && !previous.mightContain(userId)) {
+            return false;
+        }
+        Long watermark = watermarks.get(userId);
+        return watermark != null && issuedAtMillis < watermark;
+    }
+
+    // -----------------------------------------
+    // Forget watermarks older than a token lifetime and rotate the filters
+    // -----------------------------------------
+    @Scheduled(fixedRate = JwtUtil.ACCESS_TOKEN_EXPIRATION)
+    public void expire() {
+        BloomFilter fresh = new BloomFilter();
+        previous = current.getAndSet(fresh);
+
+        long cutoff = System.currentTimeMillis() - JwtUtil.ACCESS_TOKEN_EXPIRATION;
+        watermarks.values().removeIf(watermark -> watermark < cutoff);
+    }
+
+    // Fixed-size Bloom filter over user ids (64 Kbit, 4 probes)
+    private static final class BloomFilter {
+
+        private static final int BITS = 1 << 16;
+        private static final int PROBES = 4;
+
+        private final AtomicLongArray words = new AtomicLongArray(BITS / 64);
+
+        void add(UUID userId) {
+            long h1 = userId.getMostSignificantBits();
+            long h2 = userId.getLeastSignificantBits() | 1;
+            for (int i = 0; i < PROBES; i++) {
+                int bit = index(h1 + i * h2);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long old;
+                do {
+                    old = words.get(word);
+                } while ((old & mask) == 0 && !words.compareAndSet(word, old, old | mask));
+            }
+        }
+
+        boolean mightContain(UUID userId) {
+            long h1 = userId.getMostSignificantBits();
+            long h2 = userId.getLeastSignificantBits() | 1;
+            for (int i = 0; i < PROBES; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int index(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return (int) (hash & (BITS - 1));
+        }
+    }
+}
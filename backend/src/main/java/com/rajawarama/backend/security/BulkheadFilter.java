@@ -0,0 +1,157 @@
+package com.rajawarama.backend.security;
+
+import com.rajawarama.backend.config.DataSourceRoute;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// -----------------------------------------------------------------------------
+// Concurrency bulkheads per route group.
+//
+// Each group gets its own number of concurrent requests, a short waiting line
+// and a maximum wait. A request that finds its group full and the line full
+// (or waits too long) is answered 503 + Retry-After at once, so one kind of
+// traffic (e.g. a large CSV export) can never take every servlet thread away
+// from the others. Report requests additionally run on the separate report
+// connection pool (see DataSourceConfig).
+//
+// Requests outside these groups (auth, customer reads, streams) are not limited.
+// -----------------------------------------------------------------------------
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public enum Group {
+        REPORTS,
+        ADMIN_WRITES,
+        CUSTOMER_WRITES,
+        PUBLIC_CATALOG
+    }
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+
+    private final Map<Group, Bulkhead> bulkheads = new EnumMap<>(Group.class);
+
+    public BulkheadFilter(
+            @Value("${app.bulkhead.reports.max-concurrent:2}") int reportsConcurrent,
+            @Value("${app.bulkhead.reports.max-waiting:4}") int reportsWaiting,
+            @Value("${app.bulkhead.reports.max-wait-ms:2000}") long reportsWaitMs,
+            @Value("${app.bulkhead.admin-writes.max-concurrent:8}") int adminConcurrent,
+            @Value("${app.bulkhead.admin-writes.max-waiting:16}") int adminWaiting,
+            @Value("${app.bulkhead.admin-writes.max-wait-ms:1000}") long adminWaitMs,
+            @Value("${app.bulkhead.customer-writes.max-concurrent:32}") int customerConcurrent,
+            @Value("${app.bulkhead.customer-writes.max-waiting:64}") int customerWaiting,
+            @Value("${app.bulkhead.customer-writes.max-wait-ms:1000}") long customerWaitMs,
+            @Value("${app.bulkhead.public-catalog.max-concurrent:64}") int catalogConcurrent,
+            @Value("${app.bulkhead.public-catalog.max-waiting:128}") int catalogWaiting,
+            @Value("${app.bulkhead.public-catalog.max-wait-ms:500}") long catalogWaitMs
+    ) {
+        bulkheads.put(Group.REPORTS, new Bulkhead(reportsConcurrent, reportsWaiting, reportsWaitMs));
+        bulkheads.put(Group.ADMIN_WRITES, new Bulkhead(adminConcurrent, adminWaiting, adminWaitMs));
+        bulkheads.put(Group.CUSTOMER_WRITES, new Bulkhead(customerConcurrent, customerWaiting, customerWaitMs));
+        bulkheads.put(Group.PUBLIC_CATALOG, new Bulkhead(catalogConcurrent, catalogWaiting, catalogWaitMs));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Group group = classify(request.getMethod(), request.getServletPath());
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead bulkhead = bulkheads.get(group);
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            reject(response);
+            return;
+        }
+
+        try {
+            if (group == Group.REPORTS) {
+                try (DataSourceRoute.Scope ignored = DataSourceRoute.use(DataSourceRoute.Target.REPORT)) {
+                    filterChain.doFilter(request, response);
+                }
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    static Group classify(String method, String path) {
+        if ("OPTIONS".equals(method)) return null;
+        boolean read = "GET".equals(method);
+
+        if (path.startsWith("/api/admin/reports/")) return Group.REPORTS;
+        if (path.startsWith("/api/admin/") && !read) return Group.ADMIN_WRITES;
+        if (path.startsWith("/api/bookings/") && !read) return Group.CUSTOMER_WRITES;
+        if (path.startsWith("/api/public/") && read) return Group.PUBLIC_CATALOG;
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Server is busy, please try again shortly\"}");
+    }
+
+    // Semaphore plus a bounded count of requests waiting for it
+    private static final class Bulkhead {
+
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final int maxWaiting;
+        private final long maxWaitMs;
+
+        Bulkhead(int maxConcurrent, int maxWaiting, long maxWaitMs) {
+            this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+            this.maxWaiting = maxWaiting;
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        boolean tryEnter() throws InterruptedException {
+            if (permits.tryAcquire()) return true;
+
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                return false;
+            }
+            try {
+                return permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        void exit() {
+            permits.release();
+        }
+    }
+}
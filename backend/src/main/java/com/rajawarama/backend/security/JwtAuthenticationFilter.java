@@ -1,10 +1,13 @@
 package com.rajawarama.backend.security;
 
+import com.rajawarama.backend.observability.JfrEvents;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,12 +17,30 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationRegistry revocationRegistry;
+
+    // auth.jwt.verifications{outcome}
+    private final Counter validTokens;
+    private final Counter invalidTokens;
+    private final Counter revokedTokens;
+
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            AccessTokenRevocationRegistry revocationRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.revocationRegistry = revocationRegistry;
+        this.validTokens = verificationCounter(meterRegistry, "valid");
+        this.invalidTokens = verificationCounter(meterRegistry, "invalid");
+        this.revokedTokens = verificationCounter(meterRegistry, "revoked");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -28,6 +49,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        // Already authenticated earlier in the chain (metrics scrape token)
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -37,14 +64,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        if (!jwtUtil.isTokenValid(token)) {
+        // One signature check; every claim comes from the same parse
+        JfrEvents.JwtVerify jfr = new JfrEvents.JwtVerify();
+        jfr.begin();
+        Claims claims = jwtUtil.parseValidClaims(token);
+        String userId = claims != null ? claims.get("userId", String.class) : null;
+        boolean revoked = claims != null && (userId == null || isRevoked(userId, JwtUtil.issuedAtMillis(claims)));
+        jfr.valid = claims != null;
+        jfr.revoked = revoked;
+        jfr.commit();
+        (claims == null ? invalidTokens : revoked ? revokedTokens : validTokens).increment();
+
+        // Invalid, or revoked (logout, deleted, role or password changed): treat as anonymous
+        if (claims == null || revoked) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = jwtUtil.extractEmail(token);
-        String role = jwtUtil.extractRole(token);
-        String userId = jwtUtil.extractUserId(token);
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
 
         // Store userId properly
         Map<String, String> details = Map.of(
@@ -63,5 +101,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         filterChain.doFilter(request, response);
     }
-}
 
+    private boolean isRevoked(String userId, long issuedAtMillis) {
+        try {
+            return revocationRegistry.isRevoked(UUID.fromString(userId), issuedAtMillis);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private static Counter verificationCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("auth.jwt.verifications")
+                .description("Bearer tokens checked by the JWT filter")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -8,7 +8,13 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -43,6 +49,15 @@ public class JwtUtil {
         }
     }
 
+    // Verify once and hand back every claim; null when the token is not valid
+    public Claims parseValidClaims(String token) {
+        try {
+            return extractAllClaims(token);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
@@ -61,26 +76,55 @@ public class JwtUtil {
 
 
 
-    private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 15; // 15 min
+    static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 15; // 15 min
     private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7 days
 
+    // "iat" only has whole seconds; revocation watermarks need the millisecond
+    static final String ISSUED_AT_MS_CLAIM = "iatMs";
+
     public String generateAccessToken(String email, String role, String userId) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", role)
                 .claim("userId", userId)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+                .claim(ISSUED_AT_MS_CLAIM, now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + ACCESS_TOKEN_EXPIRATION))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Issue time in epoch milliseconds (falls back to "iat" for tokens without the claim)
+    public static long issuedAtMillis(Claims claims) {
+        Number millis = claims.get(ISSUED_AT_MS_CLAIM, Number.class);
+        if (millis != null) return millis.longValue();
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0;
+    }
+
+    // Random jti: two refresh tokens issued in the same second must still differ
     public String generateRefreshToken(String email) {
         return Jwts.builder()
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
+
+    public LocalDateTime refreshTokenExpiry() {
+        return LocalDateTime.now().plus(Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
+    }
+
+    // Storage / lookup key for a refresh token: SHA-256, 64 hex characters
+    public String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
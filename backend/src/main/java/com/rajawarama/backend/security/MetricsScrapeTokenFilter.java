@@ -0,0 +1,60 @@
+package com.rajawarama.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// -----------------------------------------------------------------------------
+// Static bearer token for the Prometheus scraper, which cannot log in and
+// renew a 15-minute access token. A match authenticates the request as
+// ROLE_METRICS; anything else falls through to the JWT filter, so admins can
+// still read the endpoint with their own token. Blank token = disabled.
+//
+// Only used in the scrape filter chain (SecurityConfig), so it is not a
+// @Component and never sees other requests.
+// -----------------------------------------------------------------------------
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "METRICS";
+
+    private final byte[] token;
+
+    public MetricsScrapeTokenFilter(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String authHeader = request.getHeader("Authorization");
+
+        if (token != null && authHeader != null && authHeader.startsWith("Bearer ")) {
+            byte[] presented = authHeader.substring(7).getBytes(StandardCharsets.UTF_8);
+            // Constant-time compare
+            if (MessageDigest.isEqual(token, presented)) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                "prometheus",
+                                null,
+                                List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))
+                        ));
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,87 @@
+package com.rajawarama.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+// -----------------------------------------------------------------------------
+// Throttles the endpoints that are expensive or attractive to abuse:
+// login / signup / refresh per client IP, and booking creation per user and
+// per IP. Runs right after JwtAuthenticationFilter so the userId is known.
+// Per-email login limits are applied in AuthService, where the email is parsed.
+// -----------------------------------------------------------------------------
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> BOOKING_CREATE_PATHS = Set.of(
+            "/api/bookings/special-packages",
+            "/api/bookings/dancing-packages",
+            "/api/bookings/dress-only"
+    );
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if ("POST".equals(request.getMethod())) {
+            long retryAfter = check(request.getServletPath(), request.getRemoteAddr());
+            if (retryAfter > 0) {
+                reject(response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private long check(String path, String ip) {
+        switch (path) {
+            case "/api/auth/login":
+                return rateLimiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, ip);
+            case "/api/auth/signup":
+                return rateLimiter.tryAcquire(RateLimiter.Group.SIGNUP_PER_IP, ip);
+            case "/api/auth/refresh":
+                return rateLimiter.tryAcquire(RateLimiter.Group.REFRESH_PER_IP, ip);
+            default:
+                if (!BOOKING_CREATE_PATHS.contains(path)) return 0;
+                long perUser = rateLimiter.tryAcquire(RateLimiter.Group.BOOKING_CREATE_PER_USER, currentUserId());
+                if (perUser > 0) return perUser;
+                return rateLimiter.tryAcquire(RateLimiter.Group.BOOKING_CREATE_PER_IP, ip);
+        }
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof Map<?, ?> details) {
+            Object userId = details.get("userId");
+            return userId != null ? userId.toString() : null;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Too many requests, please try again later\"}");
+    }
+}
@@ -0,0 +1,104 @@
+package com.rajawarama.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+// Token-bucket rate limits per route group and key (client IP, email, userId).
+//
+// Buckets live in one ConcurrentHashMap and are updated without locks. Buckets
+// that have refilled completely are dropped by a periodic sweep; once the map
+// holds app.rate-limit.max-keys buckets, new keys of a group share that
+// group's overflow bucket until the sweep makes room again.
+// -----------------------------------------------------------------------------
+@Component
+public class RateLimiter {
+
+    public enum Group {
+        LOGIN_PER_IP,
+        LOGIN_PER_EMAIL,
+        SIGNUP_PER_IP,
+        REFRESH_PER_IP,
+        BOOKING_CREATE_PER_USER,
+        BOOKING_CREATE_PER_IP
+    }
+
+    private record Limit(int capacity, long nanosPerToken) {
+    }
+
+    private record Key(Group group, String value) {
+    }
+
+    private static final String OVERFLOW = "*";
+
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+    private final Map<Key, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public RateLimiter(
+            @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${app.rate-limit.login-per-ip.capacity:20}") int loginIpCapacity,
+            @Value("${app.rate-limit.login-per-ip.per-minute:10}") int loginIpPerMinute,
+            @Value("${app.rate-limit.login-per-email.capacity:5}") int loginEmailCapacity,
+            @Value("${app.rate-limit.login-per-email.per-minute:2}") int loginEmailPerMinute,
+            @Value("${app.rate-limit.signup-per-ip.capacity:5}") int signupCapacity,
+            @Value("${app.rate-limit.signup-per-ip.per-minute:1}") int signupPerMinute,
+            @Value("${app.rate-limit.refresh-per-ip.capacity:30}") int refreshCapacity,
+            @Value("${app.rate-limit.refresh-per-ip.per-minute:30}") int refreshPerMinute,
+            @Value("${app.rate-limit.booking-per-user.capacity:5}") int bookingUserCapacity,
+            @Value("${app.rate-limit.booking-per-user.per-minute:2}") int bookingUserPerMinute,
+            @Value("${app.rate-limit.booking-per-ip.capacity:20}") int bookingIpCapacity,
+            @Value("${app.rate-limit.booking-per-ip.per-minute:10}") int bookingIpPerMinute
+    ) {
+        this.maxKeys = maxKeys;
+        limits.put(Group.LOGIN_PER_IP, limit(loginIpCapacity, loginIpPerMinute));
+        limits.put(Group.LOGIN_PER_EMAIL, limit(loginEmailCapacity, loginEmailPerMinute));
+        limits.put(Group.SIGNUP_PER_IP, limit(signupCapacity, signupPerMinute));
+        limits.put(Group.REFRESH_PER_IP, limit(refreshCapacity, refreshPerMinute));
+        limits.put(Group.BOOKING_CREATE_PER_USER, limit(bookingUserCapacity, bookingUserPerMinute));
+        limits.put(Group.BOOKING_CREATE_PER_IP, limit(bookingIpCapacity, bookingIpPerMinute));
+    }
+
+    // -----------------------------------------
+    // 0 when allowed, otherwise whole seconds until the next request may pass
+    // -----------------------------------------
+    public long tryAcquire(Group group, String key) {
+        if (key == null) return 0;
+
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(group, key, now).tryConsume(now);
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    // -----------------------------------------
+    // Drop buckets that have refilled completely
+    // -----------------------------------------
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private TokenBucket bucketFor(Group group, String value, long now) {
+        Key key = new Key(group, value);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            key = new Key(group, OVERFLOW);
+        }
+        Limit limit = limits.get(group);
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limit.capacity(), limit.nanosPerToken(), now));
+    }
+
+    private static Limit limit(int capacity, int perMinute) {
+        return new Limit(Math.max(1, capacity), TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute));
+    }
+}
@@ -0,0 +1,45 @@
+package com.rajawarama.backend.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// -----------------------------------------------------------------------------
+// Lock-free token bucket.
+//
+// Instead of a token count plus a refill timestamp the bucket keeps a single
+// value: the instant (System.nanoTime) at which it would be completely full
+// again. Taking a token pushes that instant one refill interval further; the
+// request is allowed while the instant stays within `capacity` intervals of
+// now. One AtomicLong, updated by compare-and-set, is the whole state.
+// -----------------------------------------------------------------------------
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long nanosPerToken, long now) {
+        this.nanosPerToken = nanosPerToken;
+        this.burstNanos = capacity * nanosPerToken;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    // 0 when a token was taken, otherwise nanoseconds until one is available
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + nanosPerToken;
+            long ahead = next - now;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Full again: forgetting the bucket changes nothing
+    boolean isIdle(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
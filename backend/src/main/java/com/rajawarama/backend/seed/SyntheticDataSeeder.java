@@ -0,0 +1,820 @@
+package com.rajawarama.backend.seed;
+
+import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.DressRole;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.service.PerformerCapacityLedger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+// -----------------------------------------------------------------------------
+// Synthetic scale-test data ("seed" profile).
+//
+//   ./mvnw spring-boot:run -Dspring-boot.run.profiles=seed
+//
+// Generates a realistic, deterministic dataset: the same app.seed.random-seed,
+// app.seed.anchor-date and counts always give the same rows – ids included, since
+// every UUID comes from the seeded Random and every date from the anchor.
+// Only the password hash differs (BCrypt salt).
+//
+//   catalog   – categories, dress items, performer types, dancing packages,
+//               special item types and special packages; prices and
+//               descriptions computed by the entities themselves
+//   users     – customers (plus a few admins), one shared password hash
+//   bookings  – special / dancing / dress-only, with dress selections and
+//               extra performers; past events mostly closed, future ones
+//               spread over the open statuses
+//   tokens    – one refresh token for most users, about half expired at the anchor
+//
+// Everything is written with batched JDBC, one transaction per chunk of
+// app.seed.batch-size rows (on MySQL add rewriteBatchedStatements=true, see
+// application-seed.properties). Booking services are bypassed: no events,
+// e-mails or outbox rows. The calendar rebuilds from the tables on
+// ApplicationReadyEvent, after this runner; the capacity ledger has already
+// rebuilt by then, so run() rebuilds it once more. Seeded bookings have no
+// performer_capacity_hold rows and count with their package's quantities.
+//
+// Runs only against a database without seed data (checked by e-mail prefix).
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    public static final String EMAIL_PREFIX = "seed-";
+    public static final String PASSWORD = "Seed@12345";
+
+    private static final String[] CITIES = {
+            "Bandarawela", "Badulla", "Ella", "Welimada", "Haputale", "Nuwara Eliya",
+            "Kandy", "Ratnapura", "Balangoda", "Monaragala"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Nimal", "Kasun", "Chamara", "Saman", "Ruwan", "Tharindu", "Dilshan", "Isuru",
+            "Pradeep", "Lahiru", "Sajith", "Nuwan", "Asela", "Chathura", "Gayan", "Mahesh"
+    };
+    private static final String[] LAST_NAMES = {
+            "Perera", "Fernando", "Silva", "Bandara", "Jayasinghe", "Herath", "Wickramasinghe",
+            "Rathnayake", "Dissanayake", "Karunaratne", "Gunawardena", "Senanayake"
+    };
+
+    private final PasswordEncoder passwordEncoder;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate chunkTransaction;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.seed.users:5000}")
+    private int userCount;
+
+    @Value("${app.seed.special-bookings:100000}")
+    private int specialBookingCount;
+
+    @Value("${app.seed.dancing-bookings:100000}")
+    private int dancingBookingCount;
+
+    @Value("${app.seed.dress-only-bookings:100000}")
+    private int dressOnlyBookingCount;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:20260101}")
+    private long randomSeed;
+
+    // Every generated timestamp and event date is relative to midnight of this day
+    @Value("${app.seed.anchor-date:2026-01-01}")
+    private String anchorDate;
+
+    @Value("${app.seed.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    private Random random;
+    private boolean binaryUuids;
+    private LocalDateTime now;
+
+    public SyntheticDataSeeder(
+            PasswordEncoder passwordEncoder,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ConfigurableApplicationContext context
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbc.queryForObject(
+                "select count(*) from users where email like ?", Integer.class, EMAIL_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            log.info("Seed data already present ({} seed users), nothing to do", existing);
+        } else {
+            seed();
+            context.getBean(PerformerCapacityLedger.class).rebuild();
+        }
+    }
+
+    // Once startup has finished: close the context (web server, schedulers,
+    // pools) so the JVM ends on its own, exit code 0
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void exitWhenDone() {
+        if (exitOnFinish) {
+            log.info("Seeding finished, shutting down (app.seed.exit-on-finish=true)");
+            SpringApplication.exit(context, () -> 0);
+        }
+    }
+
+    // -----------------------------------------
+    // Generate and insert everything; returns rows inserted per table
+    // -----------------------------------------
+    public Map<String, Integer> seed() {
+        random = new Random(randomSeed);
+        binaryUuids = isMySql();
+        now = LocalDate.parse(anchorDate).atStartOfDay();
+        long start = System.nanoTime();
+
+        Catalog catalog = seedCatalog();
+        List<UUID> customers = new ArrayList<>();
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("catalog", catalog.size());
+        counts.put("users", seedUsers(customers));
+        counts.putAll(seedSpecialBookings(customers, catalog));
+        counts.putAll(seedDancingBookings(customers, catalog));
+        counts.putAll(seedDressOnlyBookings(customers, catalog));
+        counts.put("refresh_tokens", seedRefreshTokens(customers));
+
+        log.info("Seed data inserted in {} s: {}", (System.nanoTime() - start) / 1_000_000_000, counts);
+        return counts;
+    }
+
+    // -----------------------------------------
+    // CATALOG (through JPA)
+    // -----------------------------------------
+    private record Catalog(
+            List<DressItem> dressItems,
+            List<DancingPerformerType> performerTypes,
+            List<DancingGroupPackage> dancingPackages,
+            List<SpecialPackage> specialPackages
+    ) {
+        int size() {
+            return dressItems.size() + performerTypes.size() + dancingPackages.size() + specialPackages.size();
+        }
+    }
+
+    private Catalog seedCatalog() {
+        List<Category> categories = new ArrayList<>();
+        String[] categoryNames = {"Classic", "Royal", "Heritage", "Kandyan", "Modern", "Premium"};
+        for (int i = 0; i < categoryNames.length; i++) {
+            Category category = new Category("Seed " + categoryNames[i], categoryNames[i] + " dress collection");
+            category.setCategoryId(nextUuid());
+            category.setGroomDressPrice(22_000.0 + i * 3_000);
+            category.setBestmanDressPrice(13_000.0 + i * 2_000);
+            category.setPageBoyDressPrice(7_500.0 + i * 1_000);
+            categories.add(category);
+        }
+
+        List<DressItem> dressItems = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            DressItem item = new DressItem("Seed Dress " + (i + 1), null, categories.get(i % categories.size()));
+            item.setDressItemId(nextUuid());
+            item.setDescription("Synthetic dress item " + (i + 1));
+            item.setQuantityAdult(2 + random.nextInt(8));
+            item.setQuantityPageBoys(random.nextInt(6));
+            dressItems.add(item);
+        }
+
+        List<DancingPerformerType> performerTypes = new ArrayList<>();
+        String[] performerNames = {
+                "Kandyan Dancer", "Drummer", "Ves Dancer", "Flute Player",
+                "Jayamangala Gatha Singer", "Pantheru Dancer", "Raban Player", "Kavadi Dancer"
+        };
+        for (int i = 0; i < performerNames.length; i++) {
+            DancingPerformerType type = new DancingPerformerType(
+                    "Seed " + performerNames[i], 4_000.0 + i * 750, 10 + random.nextInt(30));
+            type.setId(nextUuid());
+            performerTypes.add(type);
+        }
+
+        List<DancingGroupPackage> dancingPackages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            DancingGroupPackage pkg = new DancingGroupPackage();
+            pkg.setId(nextUuid());
+            pkg.setName("Seed Dancing Group " + (i + 1));
+            for (DancingPerformerType type : performerTypes) {
+                if (random.nextInt(3) > 0) {
+                    pkg.getIncludedPerformers().add(type);
+                    pkg.getQuantities().put(type.getId(), 1 + random.nextInt(4));
+                }
+            }
+            pkg.updateCalculatedFields();
+            dancingPackages.add(pkg);
+        }
+
+        List<SpecialItemType> itemTypes = List.of(
+                itemType("Seed Groom Dressing", 25_000.0),
+                itemType("Seed Bestmen Dressing", 15_000.0),
+                itemType("Seed Pageboy Dressing", 8_500.0),
+                itemType("Seed Poruwa Decoration", 45_000.0),
+                itemType("Seed Setty Back", 30_000.0),
+                itemType("Seed Oil Lamp", 3_500.0),
+                itemType("Seed Ashtaka", 12_000.0),
+                itemType("Seed Table Decoration", 18_000.0)
+        );
+
+        List<SpecialPackage> specialPackages = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            SpecialPackage pkg = new SpecialPackage();
+            pkg.setId(nextUuid());
+            pkg.setName("Seed Special " + (i + 1));
+            pkg.setDiscountPercent((double) random.nextInt(4) * 2.5);
+            pkg.setWeddingCoordinationIncluded(random.nextBoolean());
+            pkg.setWeddingPackagingIncluded(random.nextBoolean());
+            pkg.setLinkedDancingPackage(random.nextInt(4) > 0
+                    ? dancingPackages.get(random.nextInt(dancingPackages.size())) : null);
+            for (int t = 0; t < itemTypes.size(); t++) {
+                if (t == 0 || random.nextBoolean()) {
+                    SpecialPackageItem item = new SpecialPackageItem();
+                    item.setId(nextUuid());
+                    item.setSpecialPackage(pkg);
+                    item.setSpecialItemType(itemTypes.get(t));
+                    item.setQuantity(t == 0 ? 1 : 1 + random.nextInt(4));
+                    pkg.getItems().add(item);
+                }
+            }
+            if (random.nextBoolean()) {
+                pkg.getFreeItems().add("Welcome dance");
+            }
+            pkg.calculateFinalPriceAndDescription();
+            specialPackages.add(pkg);
+        }
+
+        insertCatalog(categories, dressItems, performerTypes, dancingPackages, itemTypes, specialPackages);
+        return new Catalog(dressItems, performerTypes, dancingPackages, specialPackages);
+    }
+
+    // The entities above only compute prices and descriptions; the rows are
+    // written here so ids and timestamps come from the seed, not from
+    // Hibernate's generators and @CreationTimestamp
+    private void insertCatalog(List<Category> categories,
+                               List<DressItem> dressItems,
+                               List<DancingPerformerType> performerTypes,
+                               List<DancingGroupPackage> dancingPackages,
+                               List<SpecialItemType> itemTypes,
+                               List<SpecialPackage> specialPackages) {
+        String q = identifierQuote();
+
+        List<Object[]> categoryRows = new ArrayList<>();
+        for (Category c : categories) {
+            categoryRows.add(new Object[]{uuid(c.getCategoryId()), c.getName(), c.getDescription(),
+                    c.getGroomDressPrice(), c.getBestmanDressPrice(), c.getPageBoyDressPrice(), now, now});
+        }
+
+        List<Object[]> dressRows = new ArrayList<>();
+        for (DressItem d : dressItems) {
+            dressRows.add(new Object[]{uuid(d.getDressItemId()), d.getDressItemName(), d.getDescription(),
+                    d.getQuantityAdult(), d.getQuantityPageBoys(), uuid(d.getCategory().getCategoryId()), now, now});
+        }
+
+        List<Object[]> performerRows = new ArrayList<>();
+        for (DancingPerformerType t : performerTypes) {
+            performerRows.add(new Object[]{uuid(t.getId()), t.getName(), t.getPricePerUnit(), t.getMaxAvailable(), now, now});
+        }
+
+        List<Object[]> dancingRows = new ArrayList<>();
+        List<Object[]> includedRows = new ArrayList<>();
+        List<Object[]> quantityRows = new ArrayList<>();
+        for (DancingGroupPackage pkg : dancingPackages) {
+            dancingRows.add(new Object[]{uuid(pkg.getId()), pkg.getName(), pkg.getDetails(), pkg.getTotalPrice(), now, now});
+            for (DancingPerformerType t : pkg.getIncludedPerformers()) {
+                includedRows.add(new Object[]{uuid(pkg.getId()), uuid(t.getId())});
+                quantityRows.add(new Object[]{uuid(pkg.getId()), uuid(t.getId()), pkg.getQuantities().get(t.getId())});
+            }
+        }
+
+        List<Object[]> itemTypeRows = new ArrayList<>();
+        for (SpecialItemType t : itemTypes) {
+            itemTypeRows.add(new Object[]{uuid(t.getId()), t.getName(), t.getPricePerUnit(), t.getMaxAvailable(), now, now});
+        }
+
+        List<Object[]> specialRows = new ArrayList<>();
+        List<Object[]> specialItemRows = new ArrayList<>();
+        List<Object[]> freeItemRows = new ArrayList<>();
+        for (SpecialPackage pkg : specialPackages) {
+            specialRows.add(new Object[]{uuid(pkg.getId()), pkg.getName(), pkg.getDescription(), pkg.getDiscountPercent(),
+                    pkg.getFinalPrice(), pkg.isWeddingCoordinationIncluded(), pkg.isWeddingPackagingIncluded(),
+                    pkg.getLinkedDancingPackage() != null ? uuid(pkg.getLinkedDancingPackage().getId()) : null, now, now});
+            for (SpecialPackageItem item : pkg.getItems()) {
+                specialItemRows.add(new Object[]{uuid(item.getId()), uuid(pkg.getId()),
+                        uuid(item.getSpecialItemType().getId()), item.getQuantity()});
+            }
+            for (String free : pkg.getFreeItems()) {
+                freeItemRows.add(new Object[]{uuid(pkg.getId()), free});
+            }
+        }
+
+        chunkTransaction.executeWithoutResult(status -> {
+            jdbc.batchUpdate(CATEGORY_SQL, categoryRows);
+            jdbc.batchUpdate(String.format(DRESS_ITEM_SQL, q + "quantity_(adult)" + q, q + "quantity_(page_boys)" + q), dressRows);
+            jdbc.batchUpdate(PERFORMER_TYPE_SQL, performerRows);
+            jdbc.batchUpdate(DANCING_PACKAGE_SQL, dancingRows);
+            jdbc.batchUpdate(PACKAGE_PERFORMER_SQL, includedRows);
+            jdbc.batchUpdate(PACKAGE_QUANTITY_SQL, quantityRows);
+            jdbc.batchUpdate(SPECIAL_ITEM_TYPE_SQL, itemTypeRows);
+            jdbc.batchUpdate(SPECIAL_PACKAGE_SQL, specialRows);
+            jdbc.batchUpdate(SPECIAL_PACKAGE_ITEM_SQL, specialItemRows);
+            if (!freeItemRows.isEmpty()) jdbc.batchUpdate(FREE_ITEM_SQL, freeItemRows);
+        });
+    }
+
+    // -----------------------------------------
+    // USERS
+    // -----------------------------------------
+    private int seedUsers(List<UUID> customers) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        int inserted = 0;
+
+        for (int i = 0; i < userCount; i++) {
+            UUID userId = nextUuid();
+            boolean admin = i < 5;
+            String first = pick(FIRST_NAMES);
+            String last = pick(LAST_NAMES);
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 365 * 3));
+            LocalDateTime lastLogin = random.nextInt(5) == 0
+                    ? null
+                    : min(createdAt.plusMinutes(random.nextInt(60 * 24 * 365)), now);
+
+            rows.add(new Object[]{
+                    uuid(userId),
+                    String.format("%s%s-%05d@example.com", EMAIL_PREFIX, admin ? "admin" : "user", i),
+                    first + " " + last,
+                    passwordHash,
+                    "07" + (10_000_000 + random.nextInt(90_000_000)),
+                    (admin ? Role.ADMIN : Role.CUSTOMER).name(),
+                    createdAt,
+                    lastLogin,
+                    random.nextInt(50) == 0 && !admin
+            });
+            if (!admin) customers.add(userId);
+
+            if (rows.size() == batchSize) inserted += flush(USERS_SQL, rows);
+        }
+        return inserted + flush(USERS_SQL, rows);
+    }
+
+    // -----------------------------------------
+    // SPECIAL PACKAGE BOOKINGS
+    // -----------------------------------------
+    private Map<String, Integer> seedSpecialBookings(List<UUID> customers, Catalog catalog) {
+        List<Object[]> bookings = new ArrayList<>(batchSize);
+        List<Object[]> selections = new ArrayList<>();
+        List<Object[]> extras = new ArrayList<>();
+        int[] inserted = new int[3];
+
+        for (int i = 0; i < specialBookingCount; i++) {
+            UUID requestId = nextUuid();
+            SpecialPackage pkg = pick(catalog.specialPackages());
+            DancingGroupPackage dancing = random.nextInt(5) == 0
+                    ? pick(catalog.dancingPackages()) : pkg.getLinkedDancingPackage();
+
+            double subtotal = price(pkg.getFinalPrice())
+                    - price(pkg.getLinkedDancingPackage() != null ? pkg.getLinkedDancingPackage().getTotalPrice() : null)
+                    + price(dancing != null ? dancing.getTotalPrice() : null);
+
+            selections.add(new Object[]{uuid(nextUuid()), uuid(requestId), DressRole.GROOM.name(),
+                    uuid(pick(catalog.dressItems()).getDressItemId())});
+            for (int b = random.nextInt(4); b > 0; b--) {
+                selections.add(new Object[]{uuid(nextUuid()), uuid(requestId), DressRole.BEST_MAN.name(),
+                        uuid(pick(catalog.dressItems()).getDressItemId())});
+            }
+            for (int p = random.nextInt(3); p > 0; p--) {
+                selections.add(new Object[]{uuid(nextUuid()), uuid(requestId), DressRole.PAGE_BOY.name(),
+                        uuid(pick(catalog.dressItems()).getDressItemId())});
+            }
+            for (int e = random.nextInt(3); e > 0; e--) {
+                DancingPerformerType type = pick(catalog.performerTypes());
+                int quantity = 1 + random.nextInt(3);
+                subtotal += type.getPricePerUnit() * quantity;
+                extras.add(new Object[]{uuid(nextUuid()), uuid(requestId), uuid(type.getId()), quantity});
+            }
+
+            Lifecycle life = lifecycle();
+            bookings.add(new Object[]{
+                    uuid(requestId), uuid(pick(customers)), uuid(pkg.getId()),
+                    "Hotel " + pick(CITIES), pick(CITIES), life.eventDate, contactNo(),
+                    LocalTime.of(6 + random.nextInt(3), 15 * random.nextInt(4)),
+                    LocalTime.of(9 + random.nextInt(3), 15 * random.nextInt(4)),
+                    random.nextInt(4) == 0 ? "Synthetic booking " + i : null,
+                    dancing != null ? uuid(dancing.getId()) : null,
+                    life.status.name(), subtotal, life.transport(), life.grandTotal(subtotal), life.accepted(),
+                    life.createdAt, life.updatedAt
+            });
+
+            if (bookings.size() == batchSize) {
+                flushChunk(inserted, SPECIAL_SQL, bookings, SPECIAL_SELECTION_SQL, selections, SPECIAL_EXTRA_SQL, extras);
+            }
+        }
+        flushChunk(inserted, SPECIAL_SQL, bookings, SPECIAL_SELECTION_SQL, selections, SPECIAL_EXTRA_SQL, extras);
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("request_special_packages", inserted[0]);
+        counts.put("request_dress_selections", inserted[1]);
+        counts.put("request_extra_performers", inserted[2]);
+        return counts;
+    }
+
+    // -----------------------------------------
+    // DANCING PACKAGE BOOKINGS
+    // -----------------------------------------
+    private Map<String, Integer> seedDancingBookings(List<UUID> customers, Catalog catalog) {
+        List<Object[]> bookings = new ArrayList<>(batchSize);
+        List<Object[]> extras = new ArrayList<>();
+        int[] inserted = new int[3];
+
+        for (int i = 0; i < dancingBookingCount; i++) {
+            UUID requestId = nextUuid();
+            DancingGroupPackage pkg = pick(catalog.dancingPackages());
+            double subtotal = price(pkg.getTotalPrice());
+
+            for (int e = random.nextInt(4); e > 0; e--) {
+                DancingPerformerType type = pick(catalog.performerTypes());
+                int quantity = 1 + random.nextInt(3);
+                subtotal += type.getPricePerUnit() * quantity;
+                extras.add(new Object[]{uuid(nextUuid()), uuid(requestId), uuid(type.getId()), quantity});
+            }
+
+            Lifecycle life = lifecycle();
+            bookings.add(new Object[]{
+                    uuid(requestId), uuid(pick(customers)), uuid(pkg.getId()),
+                    "Hotel " + pick(CITIES), pick(CITIES), life.eventDate, contactNo(),
+                    LocalTime.of(6 + random.nextInt(3), 15 * random.nextInt(4)),
+                    LocalTime.of(9 + random.nextInt(3), 15 * random.nextInt(4)),
+                    random.nextInt(4) == 0 ? "Synthetic booking " + i : null,
+                    life.status.name(), subtotal, life.transport(), life.grandTotal(subtotal), life.accepted(),
+                    life.createdAt, life.updatedAt
+            });
+
+            if (bookings.size() == batchSize) {
+                flushChunk(inserted, DANCING_SQL, bookings, DANCING_EXTRA_SQL, extras, null, null);
+            }
+        }
+        flushChunk(inserted, DANCING_SQL, bookings, DANCING_EXTRA_SQL, extras, null, null);
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("request_dancing_packages", inserted[0]);
+        counts.put("dancing_request_extra_performers", inserted[1]);
+        return counts;
+    }
+
+    // -----------------------------------------
+    // DRESS-ONLY BOOKINGS
+    // -----------------------------------------
+    private Map<String, Integer> seedDressOnlyBookings(List<UUID> customers, Catalog catalog) {
+        List<Object[]> bookings = new ArrayList<>(batchSize);
+        List<Object[]> selections = new ArrayList<>();
+        int[] inserted = new int[3];
+
+        for (int i = 0; i < dressOnlyBookingCount; i++) {
+            UUID requestId = nextUuid();
+            double subtotal = 0.0;
+
+            for (DressRole role : DressRole.values()) {
+                if (role != DressRole.GROOM && random.nextBoolean()) continue;
+                DressItem dress = pick(catalog.dressItems());
+                int quantity = role == DressRole.GROOM ? 1 : 1 + random.nextInt(4);
+                subtotal += price(priceForRole(dress.getCategory(), role)) * quantity;
+                selections.add(new Object[]{uuid(nextUuid()), uuid(requestId), uuid(dress.getDressItemId()),
+                        role.name(), quantity});
+            }
+
+            Lifecycle life = lifecycle();
+            bookings.add(new Object[]{
+                    uuid(requestId), uuid(pick(customers)), contactNo(), life.eventDate,
+                    "Hotel " + pick(CITIES), pick(CITIES),
+                    LocalTime.of(6 + random.nextInt(3), 15 * random.nextInt(4)),
+                    LocalTime.of(9 + random.nextInt(3), 15 * random.nextInt(4)),
+                    random.nextInt(4) == 0 ? "Synthetic booking " + i : null,
+                    life.status.name(), life.transport(), subtotal, life.grandTotal(subtotal), life.accepted(),
+                    life.createdAt, life.updatedAt
+            });
+
+            if (bookings.size() == batchSize) {
+                flushChunk(inserted, DRESS_ONLY_SQL, bookings, DRESS_ONLY_SELECTION_SQL, selections, null, null);
+            }
+        }
+        flushChunk(inserted, DRESS_ONLY_SQL, bookings, DRESS_ONLY_SELECTION_SQL, selections, null, null);
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("request_dress_only", inserted[0]);
+        counts.put("request_dress_only_selections", inserted[1]);
+        return counts;
+    }
+
+    // -----------------------------------------
+    // REFRESH TOKENS (at most one per customer, about half already expired)
+    // -----------------------------------------
+    private int seedRefreshTokens(List<UUID> customers) {
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        int inserted = 0;
+
+        for (int i = 0; i < customers.size(); i++) {
+            if (random.nextInt(10) < 3) continue;
+
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 14));
+            rows.add(new Object[]{
+                    uuid(nextUuid()),
+                    sha256Hex("seed-refresh-token-" + i),
+                    uuid(customers.get(i)),
+                    createdAt.plusDays(7),
+                    createdAt
+            });
+            if (rows.size() == batchSize) inserted += flush(REFRESH_TOKEN_SQL, rows);
+        }
+        return inserted + flush(REFRESH_TOKEN_SQL, rows);
+    }
+
+    // -----------------------------------------
+    // BOOKING LIFECYCLE: event date, status and the prices / timestamps
+    // that go with it
+    // -----------------------------------------
+    private record Lifecycle(
+            LocalDate eventDate,
+            RequestStatus status,
+            Double transportPrice,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        Double transport() {
+            return transportPrice;
+        }
+
+        Double grandTotal(double subtotal) {
+            return transportPrice != null ? subtotal + transportPrice : null;
+        }
+
+        boolean accepted() {
+            return status == RequestStatus.ACCEPTED_WITH_PRICE
+                    || status == RequestStatus.APPROVED
+                    || status == RequestStatus.COMPLETED;
+        }
+    }
+
+    private Lifecycle lifecycle() {
+        LocalDate today = now.toLocalDate();
+        LocalDate eventDate = today.minusDays(730).plusDays(random.nextInt(730 + 365));
+        boolean past = eventDate.isBefore(today);
+
+        int roll = random.nextInt(100);
+        RequestStatus status = past
+                ? roll < 60 ? RequestStatus.COMPLETED
+                : roll < 70 ? RequestStatus.CANCELLED
+                : roll < 78 ? RequestStatus.REJECTED
+                : roll < 90 ? RequestStatus.EXPIRED
+                : RequestStatus.APPROVED
+                : roll < 30 ? RequestStatus.PENDING
+                : roll < 50 ? RequestStatus.PRICE_SET
+                : roll < 65 ? RequestStatus.ACCEPTED_WITH_PRICE
+                : roll < 95 ? RequestStatus.APPROVED
+                : roll < 98 ? RequestStatus.CANCELLED
+                : RequestStatus.REJECTED;
+
+        boolean priced = status != RequestStatus.PENDING && !(status == RequestStatus.EXPIRED && random.nextBoolean());
+        Double transport = priced ? 2_500.0 + random.nextInt(26) * 500 : null;
+
+        LocalDateTime createdAt = min(
+                eventDate.atStartOfDay().minusDays(7 + random.nextInt(174)).plusMinutes(random.nextInt(60 * 24)),
+                now.minusHours(1));
+        LocalDateTime updatedAt = status == RequestStatus.PENDING
+                ? createdAt
+                : min(createdAt.plusHours(1 + random.nextInt(24 * 10)), now);
+
+        return new Lifecycle(eventDate, status, transport, createdAt, updatedAt);
+    }
+
+    // -----------------------------------------
+    // JDBC
+    // -----------------------------------------
+    private static final String CATEGORY_SQL =
+            "insert into category (category_id, name, description, groom_dress_price, bestman_dress_price, " +
+                    "pageboy_dress_price, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The two quantity columns need quoting; filled in with the database's quote character
+    private static final String DRESS_ITEM_SQL =
+            "insert into dress_item (dress_item_id, dress_name, description, %s, %s, category_id, " +
+                    "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PERFORMER_TYPE_SQL =
+            "insert into dancing_performer_type (performer_type_id, name, price_per_unit, max_available, " +
+                    "created_at, updated_at) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String DANCING_PACKAGE_SQL =
+            "insert into dancing_group_package (dancing_package_id, dancing_package_name, details, total_price, " +
+                    "created_at, updated_at) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String PACKAGE_PERFORMER_SQL =
+            "insert into package_performer_type (dancing_package_id, performer_type_id) values (?, ?)";
+
+    // Column names as Hibernate derives them for DancingGroupPackage.quantities
+    private static final String PACKAGE_QUANTITY_SQL =
+            "insert into package_performer_quantity (dancing_group_package_dancing_package_id, quantities_key, quantity) " +
+                    "values (?, ?, ?)";
+
+    private static final String SPECIAL_ITEM_TYPE_SQL =
+            "insert into special_item_type (id, name, price_per_unit, max_available, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?)";
+
+    private static final String SPECIAL_PACKAGE_SQL =
+            "insert into special_package (special_package_id, name, description, discount_percent, final_price, " +
+                    "wedding_coordination_included, wedding_packaging_included, dancing_package_id, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SPECIAL_PACKAGE_ITEM_SQL =
+            "insert into special_package_item (id, special_package_id, special_item_type_id, quantity) " +
+                    "values (?, ?, ?, ?)";
+
+    private static final String FREE_ITEM_SQL =
+            "insert into special_package_free_items (special_package_id, free_item_name) values (?, ?)";
+
+    private static final String USERS_SQL =
+            "insert into users (user_id, email, full_name, password_hash, phone, role, created_at, last_login, is_deleted) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SPECIAL_SQL =
+            "insert into request_special_packages (sp_request_id, user_id, special_package_id, hotel_name, nearest_city, " +
+                    "event_date, contact_no, groom_arrival_time, poruwa_start_time, special_notes, " +
+                    "selected_dancing_package_id, status, booking_subtotal, transport_price, grand_total, " +
+                    "final_price_accepted, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SPECIAL_SELECTION_SQL =
+            "insert into request_dress_selections (selection_id, sp_request_id, dress_role, dress_item_id) " +
+                    "values (?, ?, ?, ?)";
+
+    private static final String SPECIAL_EXTRA_SQL =
+            "insert into request_extra_performers (extra_performer_id, sp_request_id, performer_type_id, quantity) " +
+                    "values (?, ?, ?, ?)";
+
+    private static final String DANCING_SQL =
+            "insert into request_dancing_packages (dp_request_id, user_id, dancing_package_id, hotel_name, nearest_city, " +
+                    "event_date, contact_no, groom_arrival_time, poruwa_start_time, special_notes, " +
+                    "status, booking_subtotal, transport_price, grand_total, final_price_accepted, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DANCING_EXTRA_SQL =
+            "insert into dancing_request_extra_performers (extra_performer_id, dp_request_id, performer_type_id, quantity) " +
+                    "values (?, ?, ?, ?)";
+
+    private static final String DRESS_ONLY_SQL =
+            "insert into request_dress_only (request_id, user_id, contact_no, event_date, hotel_name, nearest_city, " +
+                    "groom_arrival_time, poruwa_start_time, special_notes, status, transport_price, booking_subtotal, " +
+                    "grand_total, final_price_accepted, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DRESS_ONLY_SELECTION_SQL =
+            "insert into request_dress_only_selections (selection_id, request_id, dress_item_id, dress_role, quantity) " +
+                    "values (?, ?, ?, ?, ?)";
+
+    private static final String REFRESH_TOKEN_SQL =
+            "insert into refresh_tokens (refresh_token_id, token_hash, user_id, expiry_date, created_at) " +
+                    "values (?, ?, ?, ?, ?)";
+
+    private int flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) return 0;
+        int n = rows.size();
+        chunkTransaction.executeWithoutResult(status -> jdbc.batchUpdate(sql, rows));
+        rows.clear();
+        return n;
+    }
+
+    // Parents and their children in one transaction
+    private void flushChunk(int[] inserted,
+                            String parentSql, List<Object[]> parents,
+                            String childSql, List<Object[]> children,
+                            String otherChildSql, List<Object[]> otherChildren) {
+        if (parents.isEmpty()) return;
+        chunkTransaction.executeWithoutResult(status -> {
+            jdbc.batchUpdate(parentSql, parents);
+            if (!children.isEmpty()) jdbc.batchUpdate(childSql, children);
+            if (otherChildSql != null && !otherChildren.isEmpty()) jdbc.batchUpdate(otherChildSql, otherChildren);
+        });
+        inserted[0] += parents.size();
+        inserted[1] += children.size();
+        inserted[2] += otherChildren != null ? otherChildren.size() : 0;
+        parents.clear();
+        children.clear();
+        if (otherChildren != null) otherChildren.clear();
+    }
+
+    // Hibernate stores UUIDs as binary(16) on MySQL and as a native uuid elsewhere (H2)
+    private Object uuid(UUID id) {
+        if (!binaryUuids) return id;
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private boolean isMySql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not determine the database product", e);
+        }
+    }
+
+    // ` on MySQL, " on H2
+    private String identifierQuote() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getIdentifierQuoteString);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not determine the identifier quote", e);
+        }
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private UUID nextUuid() {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;                   // version 4
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // IETF variant
+        return new UUID(msb, lsb);
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String contactNo() {
+        return "07" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private static double price(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private static Double priceForRole(Category category, DressRole role) {
+        return switch (role) {
+            case GROOM    -> category.getGroomDressPrice();
+            case BEST_MAN -> category.getBestmanDressPrice();
+            case PAGE_BOY -> category.getPageBoyDressPrice();
+        };
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private SpecialItemType itemType(String name, double price) {
+        SpecialItemType type = new SpecialItemType();
+        type.setId(nextUuid());
+        type.setName(name);
+        type.setPricePerUnit(price);
+        return type;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.CreateUserRequest;
 import com.rajawarama.backend.dto.UpdateUserRequest;
 import com.rajawarama.backend.dto.UserResponse;
 import com.rajawarama.backend.entity.User;
 import com.rajawarama.backend.repository.RefreshTokenRepository;
 import com.rajawarama.backend.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.rajawarama.backend.security.AccessTokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.rajawarama.backend.exception.BadRequestException;
 
 
@@ -21,10 +22,13 @@ import java.util.UUID;
 public class AdminUserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenRevocationRegistry revocationRegistry;
 
     // ADMIN Views all users
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll()
                 .stream()
@@ -52,7 +56,7 @@ public class AdminUserService {
             existingUser.setRole(request.getRole());
             existingUser.setDeleted(false);
             existingUser.setPasswordHash(
-                    passwordEncoder.encode(request.getPassword())
+                    passwordHashing.encode(request.getPassword())
             );
 
             return mapToResponse(userRepository.save(existingUser));
@@ -62,7 +66,7 @@ public class AdminUserService {
         User newUser = new User(
                 request.getEmail(),
                 request.getFullName(),
-                passwordEncoder.encode(request.getPassword()),
+                passwordHashing.encode(request.getPassword()),
                 request.getPhone(),
                 request.getRole()
         );
@@ -77,6 +81,11 @@ public class AdminUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // A role change must not wait for the old access token to expire
+        if (user.getRole() != request.getRole()) {
+            revocationRegistry.revoke(user.getUserId());
+        }
+
         user.setFullName(request.getFullName());
         user.setPhone(request.getPhone());
         user.setRole(request.getRole());
@@ -85,6 +94,8 @@ public class AdminUserService {
     }
 
     // ADMIN performs Soft delete on users
+    // The session ends immediately: refresh token removed, access tokens revoked
+    @Transactional
     public void softDeleteUser(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -92,6 +103,9 @@ public class AdminUserService {
         user.softDelete();
 
         userRepository.save(user);
+        refreshTokenRepository.findByUser(user)
+                .ifPresent(refreshTokenRepository::delete);
+        revocationRegistry.revoke(user.getUserId());
     }
 
     // ADMIN Restores a soft-deleted user
@@ -119,6 +133,7 @@ public class AdminUserService {
 
         // Safely delete the user
         userRepository.delete(user);
+        revocationRegistry.revoke(userId);
     }
 
 
@@ -3,16 +3,19 @@ package com.rajawarama.backend.service;
 import com.rajawarama.backend.dto.AuthResponse;
 import com.rajawarama.backend.dto.LoginRequest;
 import com.rajawarama.backend.dto.SignUpRequest;
+import com.rajawarama.backend.entity.LoginEvent;
 import com.rajawarama.backend.entity.RefreshToken;
 import com.rajawarama.backend.entity.User;
 import com.rajawarama.backend.enums.Role;
 import com.rajawarama.backend.exception.AuthenticationException;
+import com.rajawarama.backend.exception.TooManyRequestsException;
 import com.rajawarama.backend.repository.RefreshTokenRepository;
 import com.rajawarama.backend.repository.UserRepository;
+import com.rajawarama.backend.security.AccessTokenRevocationRegistry;
 import com.rajawarama.backend.security.JwtUtil;
+import com.rajawarama.backend.security.RateLimiter;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +26,13 @@ import java.time.LocalDateTime;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final LoginEventRecorder loginEventRecorder;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final RateLimiter rateLimiter;
+    private final AccessTokenRevocationRegistry revocationRegistry;
 
 
     public void register(SignUpRequest request) {
@@ -42,7 +49,7 @@ public class AuthService {
                     user.setDeleted(false);
                     user.setFullName(request.getFullName());
                     user.setPhone(request.getPhone());
-                    user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+                    user.setPasswordHash(passwordHashing.encode(request.getPassword()));
                     user.setRole(Role.CUSTOMER); // safety reset
 
                     userRepository.save(user);
@@ -53,7 +60,7 @@ public class AuthService {
                     User newUser = new User(
                             request.getEmail(),
                             request.getFullName(),
-                            passwordEncoder.encode(request.getPassword()),
+                            passwordHashing.encode(request.getPassword()),
                             request.getPhone(),
                             Role.CUSTOMER
                     );
@@ -66,18 +73,33 @@ public class AuthService {
     @Transactional
     public AuthResponse login(LoginRequest request) {
 
+        // Per-account throttle (per-IP limits are in RateLimitFilter)
+        long retryAfter = rateLimiter.tryAcquire(
+                RateLimiter.Group.LOGIN_PER_EMAIL,
+                request.getEmail() != null ? request.getEmail().trim().toLowerCase() : null
+        );
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many login attempts, please try again later", retryAfter);
+        }
+
         User user = userRepository
                 .findByEmailAndIsDeletedFalse(request.getEmail())
                 .orElseThrow(() ->
                         new AuthenticationException("Invalid email or password!")
                 );
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashing.matches(request.getPassword(), user.getPasswordHash())) {
             throw new AuthenticationException("Invalid email or password!");
         }
 
-        user.updateLastLogin();
-        userRepository.save(user);
+        // Stored hash uses an older (lower) BCrypt cost → re-hash while we have the password
+        if (passwordHashing.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHashing.encode(request.getPassword()));
+        }
+
+        // No users write on the login path: lastLogin is flushed in the background
+        LocalDateTime loginAt = LocalDateTime.now();
+        lastLoginBuffer.record(user.getUserId(), loginAt);
 
         // Generate Access Token
         String accessToken = jwtUtil.generateAccessToken(
@@ -86,25 +108,25 @@ public class AuthService {
                 user.getUserId().toString()
         );
 
-        // Generate Refresh Token
+        // Generate Refresh Token (only its hash is stored)
         String refreshTokenValue = jwtUtil.generateRefreshToken(user.getEmail());
+        String refreshTokenHash = jwtUtil.hashToken(refreshTokenValue);
+        LocalDateTime refreshExpiry = jwtUtil.refreshTokenExpiry();
 
         RefreshToken refreshToken = refreshTokenRepository.findByUser(user)
                 .orElse(null);
 
         if (refreshToken != null) {
-            refreshToken.setToken(refreshTokenValue);
-            refreshToken.setExpiryDate(LocalDateTime.now().plusDays(7));
+            refreshToken.rotate(refreshTokenHash, refreshExpiry);
         } else {
-            refreshToken = new RefreshToken(
-                    user,
-                    refreshTokenValue,
-                    LocalDateTime.now().plusDays(7)
-            );
+            refreshToken = new RefreshToken(user, refreshTokenHash, refreshExpiry);
         }
 
         refreshTokenRepository.save(refreshToken);
 
+        // Login history (written asynchronously, in batches)
+        loginEventRecorder.record(new LoginEvent(user, loginAt, refreshToken.getExpiryDate()));
+
         return new AuthResponse(
                 accessToken,
                 refreshTokenValue,
@@ -115,27 +137,52 @@ public class AuthService {
         );
     }
 
+    // Every refresh rotates the refresh token: the presented one stops working
+    // and the response carries its replacement.
+    @Transactional
     public AuthResponse refreshToken(String refreshTokenValue) {
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        if (refreshTokenValue == null || refreshTokenValue.isBlank()) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(jwtUtil.hashToken(refreshTokenValue))
+                .orElseThrow(() -> new AuthenticationException("Invalid refresh token"));
 
         if (refreshToken.isExpired()) {
             refreshTokenRepository.delete(refreshToken);
-            throw new RuntimeException("Refresh token expired");
+            throw new AuthenticationException("Refresh token expired");
         }
 
         User user = refreshToken.getUser();
 
+        if (user.isDeleted()) {
+            refreshTokenRepository.delete(refreshToken);
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
         String newAccessToken = jwtUtil.generateAccessToken(
                 user.getEmail(),
                 user.getRole().name(),
                 user.getUserId().toString()
         );
 
+        // Conditional on the presented hash, so a concurrent refresh with the
+        // same token cannot also succeed
+        String newRefreshTokenValue = jwtUtil.generateRefreshToken(user.getEmail());
+        int rotated = refreshTokenRepository.rotate(
+                refreshToken.getId(),
+                refreshToken.getTokenHash(),
+                jwtUtil.hashToken(newRefreshTokenValue),
+                jwtUtil.refreshTokenExpiry()
+        );
+        if (rotated == 0) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
         return new AuthResponse(
                 newAccessToken,
-                refreshTokenValue,
+                newRefreshTokenValue,
                 user.getUserId(),
                 user.getEmail(),
                 user.getRole().name(),
@@ -146,10 +193,17 @@ public class AuthService {
     // ================= LOGOUT =================
     public void logout(String refreshTokenValue) {
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        if (refreshTokenValue == null || refreshTokenValue.isBlank()) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(jwtUtil.hashToken(refreshTokenValue))
                 .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
 
         refreshTokenRepository.delete(refreshToken);
+
+        // The access token issued with this session dies with it
+        revocationRegistry.revoke(refreshToken.getUser().getUserId());
     }
 
 }
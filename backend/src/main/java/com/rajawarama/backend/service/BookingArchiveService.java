@@ -0,0 +1,196 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.config.ReadReplica;
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.repository.ArchivedBookingRepository;
+import com.rajawarama.backend.repository.RequestDancingPackageRepository;
+import com.rajawarama.backend.repository.RequestDressOnlyRepository;
+import com.rajawarama.backend.repository.RequestSpecialPackageRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// -----------------------------------------------------------------------------
+// Archive tier for closed bookings.
+//
+// Bookings that reached a final status (COMPLETED, CANCELLED, REJECTED,
+// EXPIRED) and have not changed for app.archive.horizon-days are copied into
+// booking_archive and deleted from their live table. Their dress selections
+// and extra performers move to booking_archive_dress_selection and
+// booking_archive_extra_performer. The nightly job lives in
+// BookingMaintenanceJobs; this service does the per-chunk move and gives the
+// reports one view over live + archived rows.
+// -----------------------------------------------------------------------------
+@Service
+@RequiredArgsConstructor
+public class BookingArchiveService {
+
+    public static final List<RequestStatus> CLOSED_STATUSES = List.of(
+            RequestStatus.COMPLETED,
+            RequestStatus.CANCELLED,
+            RequestStatus.REJECTED,
+            RequestStatus.EXPIRED
+    );
+
+    private final ArchivedBookingRepository       archiveRepo;
+    private final RequestSpecialPackageRepository spBookingRepo;
+    private final RequestDancingPackageRepository dpBookingRepo;
+    private final RequestDressOnlyRepository      dobBookingRepo;
+    private final EntityManager                   entityManager;
+
+    @Value("${app.archive.horizon-days:365}")
+    private int horizonDays;
+
+    // Closed bookings last updated before this moment are due for the archive
+    public LocalDateTime archiveCutoff() {
+        return LocalDateTime.now().minusDays(horizonDays);
+    }
+
+    // -----------------------------------------
+    // MOVE ONE CHUNK (caller owns the transaction)
+    //
+    // Each chunk is a handful of set-based statements, whatever its size:
+    // INSERT ... SELECT the booking rows and their children into the archive
+    // tables, then DELETE the live children and bookings by id.
+    // -----------------------------------------
+    public void archiveSpecialPackages(List<UUID> ids) {
+        if (ids.isEmpty()) return;
+        entityManager.createQuery(
+                        "insert into ArchivedBooking (requestId, bookingType, userId, customerName, customerEmail, " +
+                                "contactNo, packageName, dancingPackageName, eventDate, hotelName, nearestCity, status, " +
+                                "bookingSubtotal, transportPrice, grandTotal, createdAt, updatedAt, archivedAt) " +
+                                "select r.requestId, :type, u.userId, u.fullName, u.email, " +
+                                "r.contactNo, p.name, d.name, r.eventDate, r.hotelName, r.nearestCity, r.status, " +
+                                "r.bookingSubtotal, r.transportPrice, r.grandTotal, r.createdAt, r.updatedAt, :now " +
+                                "from RequestSpecialPackage r join r.user u join r.specialPackage p " +
+                                "left join r.selectedDancingPackage d where r.requestId in :ids")
+                .setParameter("type", BookingType.SPECIAL_PACKAGE)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                        "insert into ArchivedDressSelection (selectionId, requestId, role, dressItemId, dressItemName, quantity) " +
+                                "select s.id, s.request.requestId, s.role, i.dressItemId, i.dressItemName, 1 " +
+                                "from RequestDressSelection s join s.dressItem i where s.request.requestId in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                        "insert into ArchivedExtraPerformer (extraPerformerId, requestId, performerTypeId, performerTypeName, quantity) " +
+                                "select e.id, e.request.requestId, t.id, t.name, e.quantity " +
+                                "from RequestExtraPerformer e join e.performerType t where e.request.requestId in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        delete("delete from RequestDressSelection s where s.request.requestId in :ids", ids);
+        delete("delete from RequestExtraPerformer e where e.request.requestId in :ids", ids);
+        delete("delete from PerformerCapacityHold h where h.requestId in :ids", ids);
+        delete("delete from RequestSpecialPackage r where r.requestId in :ids", ids);
+    }
+
+    public void archiveDancingPackages(List<UUID> ids) {
+        if (ids.isEmpty()) return;
+        entityManager.createQuery(
+                        "insert into ArchivedBooking (requestId, bookingType, userId, customerName, customerEmail, " +
+                                "contactNo, packageName, eventDate, hotelName, nearestCity, status, " +
+                                "bookingSubtotal, transportPrice, grandTotal, createdAt, updatedAt, archivedAt) " +
+                                "select r.requestId, :type, u.userId, u.fullName, u.email, " +
+                                "r.contactNo, p.name, r.eventDate, r.hotelName, r.nearestCity, r.status, " +
+                                "r.bookingSubtotal, r.transportPrice, r.grandTotal, r.createdAt, r.updatedAt, :now " +
+                                "from RequestDancingPackage r join r.user u join r.dancingPackage p " +
+                                "where r.requestId in :ids")
+                .setParameter("type", BookingType.DANCING_PACKAGE)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                        "insert into ArchivedExtraPerformer (extraPerformerId, requestId, performerTypeId, performerTypeName, quantity) " +
+                                "select e.id, e.dancingRequest.requestId, t.id, t.name, e.quantity " +
+                                "from DancingRequestExtraPerformer e join e.performerType t " +
+                                "where e.dancingRequest.requestId in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        delete("delete from DancingRequestExtraPerformer e where e.dancingRequest.requestId in :ids", ids);
+        delete("delete from PerformerCapacityHold h where h.requestId in :ids", ids);
+        delete("delete from RequestDancingPackage r where r.requestId in :ids", ids);
+    }
+
+    public void archiveDressOnly(List<UUID> ids) {
+        if (ids.isEmpty()) return;
+        entityManager.createQuery(
+                        "insert into ArchivedBooking (requestId, bookingType, userId, customerName, customerEmail, " +
+                                "contactNo, eventDate, hotelName, nearestCity, status, " +
+                                "bookingSubtotal, transportPrice, grandTotal, createdAt, updatedAt, archivedAt) " +
+                                "select r.requestId, :type, u.userId, u.fullName, u.email, " +
+                                "r.contactNo, r.eventDate, r.hotelName, r.nearestCity, r.status, " +
+                                "r.bookingSubtotal, r.transportPrice, r.grandTotal, r.createdAt, r.updatedAt, :now " +
+                                "from RequestDressOnly r join r.user u where r.requestId in :ids")
+                .setParameter("type", BookingType.DRESS_ONLY)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                        "insert into ArchivedDressSelection (selectionId, requestId, role, dressItemId, dressItemName, quantity) " +
+                                "select s.selectionId, s.request.requestId, s.role, i.dressItemId, i.dressItemName, s.quantity " +
+                                "from RequestDressOnlySelection s join s.dressItem i where s.request.requestId in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        delete("delete from RequestDressOnlySelection s where s.request.requestId in :ids", ids);
+        delete("delete from RequestDressOnly r where r.requestId in :ids", ids);
+    }
+
+    // -----------------------------------------
+    // REPORT ROWS (live + archive), newest first
+    //
+    // Anything archived was last updated before the cutoff, so it was also
+    // created before it: a range starting after the cutoff never needs the
+    // archive table. Report requests already run on the REPORT pool (which
+    // is on the replica when there is one); other callers get the replica too.
+    // -----------------------------------------
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<BookingReportRow> reportRows(BookingType type, LocalDate from, LocalDate to) {
+        LocalDateTime fromTime = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toTime   = to   != null ? to.plusDays(1).atStartOfDay() : null;
+
+        List<BookingReportRow> live = switch (type) {
+            case SPECIAL_PACKAGE -> spBookingRepo.findForReport(fromTime, toTime);
+            case DANCING_PACKAGE -> dpBookingRepo.findForReport(fromTime, toTime);
+            case DRESS_ONLY      -> dobBookingRepo.findForReport(fromTime, toTime);
+        };
+
+        List<BookingReportRow> archived = rangeReachesArchive(from)
+                ? archiveRepo.findForReport(type, fromTime, toTime)
+                : List.of();
+
+        return Stream.concat(live.stream(), archived.stream())
+                .sorted(Comparator.comparing(BookingReportRow::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    public boolean rangeReachesArchive(LocalDate from) {
+        return from == null || !from.isAfter(archiveCutoff().toLocalDate());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private void delete(String hql, List<UUID> ids) {
+        entityManager.createQuery(hql)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,146 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.BookingCalendarResponse;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.exception.BadRequestException;
+import com.rajawarama.backend.repository.RequestDancingPackageRepository;
+import com.rajawarama.backend.repository.RequestDressOnlyRepository;
+import com.rajawarama.backend.repository.RequestSpecialPackageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// -----------------------------------------------------------------------------
+// Busy-dates calendar for the booking date picker.
+//
+// Keeps the number of active bookings (all three booking types) per event date
+// in memory, one 31-slot counter array per month. It is loaded once at startup
+// and then maintained from BookingStatusChangedEvent, so reading the calendar
+// never touches the database.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingCalendarService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final RequestSpecialPackageRepository spBookingRepo;
+    private final RequestDancingPackageRepository dpBookingRepo;
+    private final RequestDressOnlyRepository      dobBookingRepo;
+
+    @Value("${app.calendar.full-threshold:3}")
+    private int fullThreshold;
+
+    private final Map<YearMonth, AtomicIntegerArray> loadByMonth = new ConcurrentHashMap<>();
+
+    // -----------------------------------------
+    // PUBLIC: Calendar for the date picker
+    // -----------------------------------------
+    public BookingCalendarResponse getCalendar(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new BadRequestException("Calendar range can be at most " + MAX_RANGE_DAYS + " days");
+        }
+
+        List<BookingCalendarResponse.MonthLoad> months = new ArrayList<>();
+        for (YearMonth ym = YearMonth.from(from); !ym.isAfter(YearMonth.from(to)); ym = ym.plusMonths(1)) {
+            months.add(encodeMonth(ym));
+        }
+
+        return BookingCalendarResponse.builder()
+                .from(from)
+                .to(to)
+                .fullThreshold(fullThreshold)
+                .months(months)
+                .build();
+    }
+
+    // -----------------------------------------
+    // Keep the counters in step with committed status changes
+    // -----------------------------------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        boolean heldBefore = !event.isCreation() && event.previousStatus().holdsEventDate();
+        boolean holdsNow   = event.newStatus().holdsEventDate();
+
+        if (heldBefore != holdsNow) {
+            adjust(event.eventDate(), holdsNow ? 1 : -1);
+        }
+    }
+
+    // -----------------------------------------
+    // Load all counters from the booking tables at startup
+    // -----------------------------------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<YearMonth, AtomicIntegerArray> fresh = new HashMap<>();
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.addAll(spBookingRepo.countByEventDate(PerformerCapacityLedger.HOLDING_STATUSES));
+        rows.addAll(dpBookingRepo.countByEventDate(PerformerCapacityLedger.HOLDING_STATUSES));
+        rows.addAll(dobBookingRepo.countByEventDate(PerformerCapacityLedger.HOLDING_STATUSES));
+
+        for (Object[] row : rows) {
+            LocalDate date = (LocalDate) row[0];
+            int count = ((Number) row[1]).intValue();
+            fresh.computeIfAbsent(YearMonth.from(date), ym -> new AtomicIntegerArray(31))
+                    .addAndGet(date.getDayOfMonth() - 1, count);
+        }
+
+        loadByMonth.clear();
+        loadByMonth.putAll(fresh);
+
+        log.info("Booking calendar rebuilt: {} months with bookings", fresh.size());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private void adjust(LocalDate date, int delta) {
+        loadByMonth.computeIfAbsent(YearMonth.from(date), ym -> new AtomicIntegerArray(31))
+                .getAndUpdate(date.getDayOfMonth() - 1, current -> Math.max(0, current + delta));
+    }
+
+    private BookingCalendarResponse.MonthLoad encodeMonth(YearMonth ym) {
+        AtomicIntegerArray counters = loadByMonth.get(ym);
+        int days = ym.lengthOfMonth();
+
+        int[] runs = new int[days * 2];
+        int size = 0;
+        long fullDays = 0L;
+
+        for (int day = 0; day < days; day++) {
+            int load = counters != null ? counters.get(day) : 0;
+
+            if (size > 0 && runs[size - 2] == load) {
+                runs[size - 1]++;
+            } else {
+                runs[size++] = load;
+                runs[size++] = 1;
+            }
+            if (fullThreshold > 0 && load >= fullThreshold) {
+                fullDays |= 1L << day;
+            }
+        }
+
+        return BookingCalendarResponse.MonthLoad.builder()
+                .month(ym.toString())
+                .load(Arrays.copyOf(runs, size))
+                .fullDays(fullDays)
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.booking.BookingStreamEvent;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+// -----------------------------------------------------------------------------
+// Live booking events over SSE.
+//
+// Every committed BookingStatusChangedEvent becomes a compact "booking"
+// event with id "<instance>-<seq>". The last app.sse.replay-size events are
+// kept in a ring, so a client reconnecting with Last-Event-ID gets what it
+// missed. If that id is from another server instance or has already left
+// the ring, the client gets a "reset" event instead and should reload
+// (e.g. through the ?updatedSince= delta endpoints).
+//
+// Admins see every event. Customers subscribe by user id and only wake for
+// their own bookings; each user may hold app.sse.max-per-user connections,
+// and opening one more closes that user's oldest.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Service
+public class BookingEventStream {
+
+    private final Executor sender;
+
+    // Distinguishes event ids from a previous run of the application
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.sse.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.sse.replay-size:1024}")
+    private int replaySize;
+
+    @Value("${app.sse.max-per-user:3}")
+    private int maxPerUser;
+
+    private record Entry(long seq, UUID userId, BookingStreamEvent event) {
+    }
+
+    // Guarded by itself: appending + fanning out, and replay + subscribing,
+    // happen under the same lock so no event is lost or duplicated in between
+    private final ArrayDeque<Entry> ring = new ArrayDeque<>();
+    private long lastSeq;
+
+    private final List<SseSubscription> adminSubscriptions = new CopyOnWriteArrayList<>();
+
+    // userId → that customer's open connections, oldest first
+    private final Map<UUID, List<SseSubscription>> userSubscriptions = new ConcurrentHashMap<>();
+
+    public BookingEventStream(@Qualifier("sseSendExecutor") Executor sender) {
+        this.sender = sender;
+    }
+
+    // -----------------------------------------
+    // ADMIN: every booking of every customer
+    // -----------------------------------------
+    public SseEmitter subscribeAdmin(String lastEventId) {
+        SseSubscription subscription = new SseSubscription(timeoutMs, bufferSize, sender);
+        subscription.onClose(() -> adminSubscriptions.remove(subscription));
+
+        synchronized (ring) {
+            replay(subscription, lastEventId, entry -> true);
+            adminSubscriptions.add(subscription);
+        }
+        return subscription.emitter();
+    }
+
+    // -----------------------------------------
+    // CUSTOMER: only this user's bookings
+    // -----------------------------------------
+    public SseEmitter subscribeUser(UUID userId, String lastEventId) {
+        SseSubscription subscription = new SseSubscription(timeoutMs, bufferSize, sender);
+        // Adding and removing both happen inside the map's per-key compute, so
+        // a close that drops the user's last list can never interleave with a
+        // subscribe adding to that same (then orphaned) list
+        subscription.onClose(() -> userSubscriptions.compute(userId, (id, list) -> {
+            if (list == null) return null;
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        }));
+
+        SseSubscription[] evicted = new SseSubscription[1];
+        synchronized (ring) {
+            replay(subscription, lastEventId, entry -> userId.equals(entry.userId()));
+
+            userSubscriptions.compute(userId, (id, list) -> {
+                List<SseSubscription> own = list != null ? list : new CopyOnWriteArrayList<>();
+                own.add(subscription);
+                if (own.size() > maxPerUser) {
+                    evicted[0] = own.remove(0);
+                }
+                return own;
+            });
+        }
+        if (evicted[0] != null) {
+            evicted[0].close();
+        }
+        return subscription.emitter();
+    }
+
+    // -----------------------------------------
+    // Fan out committed booking changes
+    // -----------------------------------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        BookingStreamEvent payload = BookingStreamEvent.builder()
+                .type(event.type())
+                .requestId(event.requestId())
+                .previousStatus(event.previousStatus())
+                .status(event.newStatus())
+                .grandTotal(event.grandTotal())
+                .eventDate(event.eventDate())
+                .at(LocalDateTime.now())
+                .build();
+
+        synchronized (ring) {
+            Entry entry = new Entry(++lastSeq, event.userId(), payload);
+            ring.addLast(entry);
+            if (ring.size() > replaySize) {
+                ring.removeFirst();
+            }
+            for (SseSubscription subscription : adminSubscriptions) {
+                subscription.offer(toSse(entry));
+            }
+            List<SseSubscription> own = userSubscriptions.get(event.userId());
+            if (own != null) {
+                for (SseSubscription subscription : own) {
+                    subscription.offer(toSse(entry));
+                }
+            }
+        }
+    }
+
+    // -----------------------------------------
+    // Keep idle connections (and proxies in between) alive
+    // -----------------------------------------
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (SseSubscription subscription : adminSubscriptions) {
+            subscription.offer(SseEmitter.event().comment("heartbeat"));
+        }
+        userSubscriptions.values().forEach(own -> own.forEach(subscription ->
+                subscription.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // Caller holds the ring lock
+    private void replay(SseSubscription subscription, String lastEventId, Predicate<Entry> visible) {
+        if (lastEventId == null || lastEventId.isBlank()) return;
+
+        long after = parseSeq(lastEventId);
+        long oldest = ring.isEmpty() ? lastSeq + 1 : ring.peekFirst().seq();
+
+        if (after < 0 || after > lastSeq || after + 1 < oldest) {
+            subscription.offer(SseEmitter.event().name("reset").data("replay unavailable"));
+            return;
+        }
+        for (Entry entry : ring) {
+            if (entry.seq() > after && visible.test(entry)) {
+                subscription.offer(toSse(entry));
+            }
+        }
+    }
+
+    // "<instance>-<seq>" → seq, or -1 when it is not one of ours
+    private long parseSeq(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(instanceId)) return -1;
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(Entry entry) {
+        return SseEmitter.event()
+                .id(instanceId + "-" + entry.seq())
+                .name("booking")
+                .data(entry.event(), MediaType.APPLICATION_JSON);
+    }
+}
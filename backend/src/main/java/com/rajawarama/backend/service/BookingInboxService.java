@@ -0,0 +1,158 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.config.ReadReplica;
+import com.rajawarama.backend.dto.BookingInboxResponse;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// -----------------------------------------------------------------------------
+// Admin inbox: one page of bookings of every type, newest first.
+//
+// A single UNION ALL query over the three booking tables selects only the
+// columns the inbox shows. Each branch is filtered by status, positioned by
+// the keyset cursor (createdAt desc, requestId desc) and limited on its own,
+// so the database never sorts more than three pages' worth of rows.
+// -----------------------------------------------------------------------------
+@Service
+@RequiredArgsConstructor
+public class BookingInboxService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final EntityManager entityManager;
+
+    // One branch per booking type: [type, requestId, name, email, package, eventDate, status, grandTotal, createdAt]
+    private static final Map<BookingType, String> BRANCHES = Map.of(
+            BookingType.SPECIAL_PACKAGE,
+            "select 'SPECIAL_PACKAGE' as bookingType, r.requestId as requestId, u.fullName as name, u.email as email, p.name as packageName, " +
+                    "r.eventDate as eventDate, r.status as status, r.grandTotal as grandTotal, r.createdAt as createdAt " +
+                    "from RequestSpecialPackage r join r.user u join r.specialPackage p",
+            BookingType.DANCING_PACKAGE,
+            "select 'DANCING_PACKAGE' as bookingType, r.requestId as requestId, u.fullName as name, u.email as email, p.name as packageName, " +
+                    "r.eventDate as eventDate, r.status as status, r.grandTotal as grandTotal, r.createdAt as createdAt " +
+                    "from RequestDancingPackage r join r.user u join r.dancingPackage p",
+            BookingType.DRESS_ONLY,
+            "select 'DRESS_ONLY' as bookingType, r.requestId as requestId, u.fullName as name, u.email as email, cast(null as String) as packageName, " +
+                    "r.eventDate as eventDate, r.status as status, r.grandTotal as grandTotal, r.createdAt as createdAt " +
+                    "from RequestDressOnly r join r.user u"
+    );
+
+    // Hibernate cannot order a bare union of limited branches, so the union is
+    // wrapped in a derived table and ordered by its column names
+    private static final String OUTER_SELECT =
+            "select t.bookingType, t.requestId, t.name, t.email, t.packageName, " +
+            "t.eventDate, t.status, t.grandTotal, t.createdAt from (";
+
+    private static final String OUTER_ORDER = ") t order by t.createdAt desc, t.requestId desc";
+
+    private static final String BRANCH_FILTER =
+            " where r.status in :statuses" +
+            " and (:cursorAt is null or r.createdAt < :cursorAt" +
+            " or (r.createdAt = :cursorAt and r.requestId < :cursorId))" +
+            " order by r.createdAt desc, r.requestId desc limit :limit";
+
+    // Replica lag only delays new rows: the keyset cursor names a row, not a
+    // point in time, and every action re-checks the status on the primary
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public BookingInboxResponse getInbox(
+            List<BookingType> types,
+            List<RequestStatus> statuses,
+            String cursor,
+            int limit
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<BookingType> selectedTypes = types == null || types.isEmpty()
+                ? List.of(BookingType.values())
+                : types.stream().distinct().toList();
+        List<RequestStatus> selectedStatuses = statuses == null || statuses.isEmpty()
+                ? List.of(RequestStatus.values())
+                : statuses;
+
+        Cursor position = Cursor.decode(cursor);
+
+        StringJoiner hql = new StringJoiner(" union all ");
+        for (BookingType type : BookingType.values()) {
+            if (selectedTypes.contains(type)) {
+                hql.add("(" + BRANCHES.get(type) + BRANCH_FILTER + ")");
+            }
+        }
+
+        // Fetch one extra row to know whether another page exists
+        TypedQuery<Object[]> query = entityManager
+                .createQuery(OUTER_SELECT + hql + OUTER_ORDER, Object[].class)
+                .setParameter("statuses", selectedStatuses)
+                .setParameter("cursorAt", position != null ? position.createdAt() : null)
+                .setParameter("cursorId", position != null ? position.requestId() : null)
+                .setParameter("limit", limit + 1)
+                .setMaxResults(limit + 1);
+
+        List<BookingInboxResponse.Row> rows = query.getResultList().stream()
+                .map(this::toRow)
+                .toList();
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            BookingInboxResponse.Row last = rows.get(limit - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getRequestId()).encode();
+        }
+
+        return BookingInboxResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private BookingInboxResponse.Row toRow(Object[] r) {
+        return BookingInboxResponse.Row.builder()
+                .type(BookingType.valueOf((String) r[0]))
+                .requestId((UUID) r[1])
+                .customerName((String) r[2])
+                .customerEmail((String) r[3])
+                .packageName((String) r[4])
+                .eventDate((LocalDate) r[5])
+                .status((RequestStatus) r[6])
+                .grandTotal((Double) r[7])
+                .createdAt((LocalDateTime) r[8])
+                .build();
+    }
+
+    // Opaque page cursor: base64url("createdAt|requestId") of the last row served
+    private record Cursor(LocalDateTime createdAt, UUID requestId) {
+
+        String encode() {
+            String raw = createdAt + "|" + requestId;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
+}
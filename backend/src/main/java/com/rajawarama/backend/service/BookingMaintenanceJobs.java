@@ -0,0 +1,232 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.RequestDancingPackage;
+import com.rajawarama.backend.entity.RequestDressOnly;
+import com.rajawarama.backend.entity.RequestSpecialPackage;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.repository.RequestDancingPackageRepository;
+import com.rajawarama.backend.repository.RequestDressOnlyRepository;
+import com.rajawarama.backend.repository.RequestSpecialPackageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// -----------------------------------------------------------------------------
+// Nightly booking housekeeping across all three booking tables:
+//
+//   - APPROVED bookings whose event date has passed   → COMPLETED
+//   - PENDING requests the admin never priced         → EXPIRED
+//   - PRICE_SET requests the customer never answered  → EXPIRED
+//   - closed bookings past the archive horizon        → booking_archive
+//
+// Rows are processed in bounded chunks (keyset on requestId), one transaction
+// per chunk, and every transition publishes BookingStatusChangedEvent just like
+// the admin / customer endpoints do.
+// -----------------------------------------------------------------------------
+@Component
+public class BookingMaintenanceJobs {
+
+    private static final UUID KEYSET_START = new UUID(0L, 0L);
+
+    private final RequestSpecialPackageRepository spBookingRepo;
+    private final RequestDancingPackageRepository dpBookingRepo;
+    private final RequestDressOnlyRepository      dobBookingRepo;
+    private final ApplicationEventPublisher       eventPublisher;
+    private final ScheduledJobRunner              jobRunner;
+    private final BookingArchiveService           archiveService;
+    private final TransactionTemplate             chunkTransaction;
+
+    @Value("${app.jobs.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.jobs.expiry.pending-days:14}")
+    private int pendingDays;
+
+    @Value("${app.jobs.expiry.price-set-days:7}")
+    private int priceSetDays;
+
+    public BookingMaintenanceJobs(RequestSpecialPackageRepository spBookingRepo,
+                                  RequestDancingPackageRepository dpBookingRepo,
+                                  RequestDressOnlyRepository dobBookingRepo,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ScheduledJobRunner jobRunner,
+                                  BookingArchiveService archiveService,
+                                  PlatformTransactionManager transactionManager) {
+        this.spBookingRepo = spBookingRepo;
+        this.dpBookingRepo = dpBookingRepo;
+        this.dobBookingRepo = dobBookingRepo;
+        this.eventPublisher = eventPublisher;
+        this.jobRunner = jobRunner;
+        this.archiveService = archiveService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // -----------------------------------------
+    // APPROVED → COMPLETED once the event date has passed
+    // -----------------------------------------
+    @Scheduled(cron = "${app.jobs.auto-complete.cron:0 15 2 * * *}")
+    public void autoCompleteFinishedBookings() {
+        LocalDate today = LocalDate.now();
+        RequestStatus from = RequestStatus.APPROVED;
+        RequestStatus to   = RequestStatus.COMPLETED;
+
+        jobRunner.run("booking-auto-complete", Duration.ofMinutes(30), () -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("specialPackages", processInChunks(
+                    (after, chunk) -> spBookingRepo.findChunkWithEventBefore(from, today, after, chunk),
+                    RequestSpecialPackage::getRequestId,
+                    b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+            counts.put("dancingPackages", processInChunks(
+                    (after, chunk) -> dpBookingRepo.findChunkWithEventBefore(from, today, after, chunk),
+                    RequestDancingPackage::getRequestId,
+                    b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+            counts.put("dressOnly", processInChunks(
+                    (after, chunk) -> dobBookingRepo.findChunkWithEventBefore(from, today, after, chunk),
+                    RequestDressOnly::getRequestId,
+                    b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+            return counts;
+        });
+    }
+
+    // -----------------------------------------
+    // Stale PENDING / PRICE_SET → EXPIRED
+    // -----------------------------------------
+    @Scheduled(cron = "${app.jobs.expiry.cron:0 30 2 * * *}")
+    public void expireStaleRequests() {
+        LocalDate today = LocalDate.now();
+
+        jobRunner.run("booking-expiry", Duration.ofMinutes(30), () -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            expireStale(RequestStatus.PENDING, LocalDateTime.now().minusDays(pendingDays), today, counts);
+            expireStale(RequestStatus.PRICE_SET, LocalDateTime.now().minusDays(priceSetDays), today, counts);
+            return counts;
+        });
+    }
+
+    private void expireStale(RequestStatus status, LocalDateTime staleBefore, LocalDate today,
+                             Map<String, Integer> counts) {
+        RequestStatus to = RequestStatus.EXPIRED;
+
+        counts.put("specialPackages." + status, processInChunks(
+                (after, chunk) -> spBookingRepo.findStaleChunk(status, staleBefore, today, after, chunk),
+                RequestSpecialPackage::getRequestId,
+                b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+        counts.put("dancingPackages." + status, processInChunks(
+                (after, chunk) -> dpBookingRepo.findStaleChunk(status, staleBefore, today, after, chunk),
+                RequestDancingPackage::getRequestId,
+                b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+        counts.put("dressOnly." + status, processInChunks(
+                (after, chunk) -> dobBookingRepo.findStaleChunk(status, staleBefore, today, after, chunk),
+                RequestDressOnly::getRequestId,
+                b -> transition(b, b.getStatus(), to, b::setStatus, BookingStatusChangedEvent::of)));
+    }
+
+    // -----------------------------------------
+    // Closed bookings past the horizon → booking_archive
+    //
+    // Archived rows disappear from the live table, so the keyset simply
+    // moves past them; the next chunk starts after the last id seen.
+    // -----------------------------------------
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void archiveClosedBookings() {
+        List<RequestStatus> closed = BookingArchiveService.CLOSED_STATUSES;
+
+        jobRunner.run("booking-archive", Duration.ofHours(1), () -> {
+            LocalDateTime cutoff = archiveService.archiveCutoff();
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("specialPackages", processIdChunks(
+                    (after, chunk) -> spBookingRepo.findArchivableIds(closed, cutoff, after, chunk),
+                    archiveService::archiveSpecialPackages));
+            counts.put("dancingPackages", processIdChunks(
+                    (after, chunk) -> dpBookingRepo.findArchivableIds(closed, cutoff, after, chunk),
+                    archiveService::archiveDancingPackages));
+            counts.put("dressOnly", processIdChunks(
+                    (after, chunk) -> dobBookingRepo.findArchivableIds(closed, cutoff, after, chunk),
+                    archiveService::archiveDressOnly));
+            return counts;
+        });
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // Load → transition → commit, one chunk at a time, until a short chunk
+    private <T> int processInChunks(
+            BiFunction<UUID, Pageable, List<T>> loadChunk,
+            Function<T, UUID> idOf,
+            Consumer<T> action
+    ) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        UUID after = KEYSET_START;
+        int total = 0;
+
+        while (true) {
+            final UUID from = after;
+            List<T> rows = chunkTransaction.execute(s -> {
+                List<T> loaded = loadChunk.apply(from, chunk);
+                loaded.forEach(action);
+                return loaded;
+            });
+
+            if (rows == null || rows.isEmpty()) break;
+            total += rows.size();
+            after = idOf.apply(rows.get(rows.size() - 1));
+            if (rows.size() < chunkSize) break;
+        }
+        return total;
+    }
+
+    // Same loop for jobs that act on a whole chunk of ids at once
+    private int processIdChunks(
+            BiFunction<UUID, Pageable, List<UUID>> loadChunk,
+            Consumer<List<UUID>> action
+    ) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        UUID after = KEYSET_START;
+        int total = 0;
+
+        while (true) {
+            final UUID from = after;
+            List<UUID> ids = chunkTransaction.execute(s -> {
+                List<UUID> loaded = loadChunk.apply(from, chunk);
+                action.accept(loaded);
+                return loaded;
+            });
+
+            if (ids == null || ids.isEmpty()) break;
+            total += ids.size();
+            after = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) break;
+        }
+        return total;
+    }
+
+    private <T> void transition(
+            T booking,
+            RequestStatus previousStatus,
+            RequestStatus newStatus,
+            Consumer<RequestStatus> setStatus,
+            BiFunction<T, RequestStatus, BookingStatusChangedEvent> toEvent
+    ) {
+        setStatus.accept(newStatus);
+        eventPublisher.publishEvent(toEvent.apply(booking, previousStatus));
+    }
+}
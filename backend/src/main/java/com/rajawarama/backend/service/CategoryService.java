@@ -1,5 +1,6 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.CategoryResponse;
 import com.rajawarama.backend.dto.CreateCategoryRequest;
 import com.rajawarama.backend.dto.UpdateCategoryRequest;
@@ -8,6 +9,7 @@ import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -37,6 +39,8 @@ public class CategoryService {
     }
 
     // ================= GET ALL CATEGORIES =================
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<CategoryResponse> getAll() {
         return categoryRepository.findAll()
                 .stream()
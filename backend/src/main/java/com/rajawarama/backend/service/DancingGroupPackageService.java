@@ -1,11 +1,13 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.DancingGroupPackageRequest;
 import com.rajawarama.backend.dto.DancingGroupPackageResponse;
 import com.rajawarama.backend.entity.DancingGroupPackage;
 import com.rajawarama.backend.entity.DancingPerformerType;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.DancingGroupPackageRepository;
 import com.rajawarama.backend.repository.DancingPerformerTypeRepository;
 import lombok.RequiredArgsConstructor;
@@ -59,6 +61,8 @@ public class DancingGroupPackageService {
         return mapToResponse(saved);
     }
 
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<DancingGroupPackageResponse> getAllDancingGroupPackages() {
         // Sort by name (alphabetical) – safe field
         Sort sort = Sort.by(Sort.Direction.ASC, "name");
@@ -121,6 +125,10 @@ public class DancingGroupPackageService {
 
     // Mapping helper – uses stored totalPrice
     private DancingGroupPackageResponse mapToResponse(DancingGroupPackage pkg) {
+        return RequestTimings.timeMapping(pkg, this::buildResponse);
+    }
+
+    private DancingGroupPackageResponse buildResponse(DancingGroupPackage pkg) {
         List<DancingGroupPackageResponse.PerformerSummary> performerSummaries = new ArrayList<>();
 
         for (DancingPerformerType type : pkg.getIncludedPerformers()) {
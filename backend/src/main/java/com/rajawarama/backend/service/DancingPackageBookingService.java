@@ -1,14 +1,20 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.dto.booking.BookingDeltaResponse;
 import com.rajawarama.backend.dto.booking.CreateDancingPackageBookingRequest;
 import com.rajawarama.backend.dto.booking.DancingPackageBookingResponse;
 import com.rajawarama.backend.dto.booking.SetTransportPriceRequest;
 import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.BookingType;
 import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.JfrEvents;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +30,9 @@ public class DancingPackageBookingService {
     private final UserRepository userRepository;
     private final DancingGroupPackageRepository dancingPackageRepository;
     private final DancingPerformerTypeRepository performerTypeRepository;
+    private final PerformerCapacityLedger capacityLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchivedBookingRepository archivedBookingRepository;
 
     // -------------------------------------
     // CUSTOMER - Create a new booking
@@ -33,6 +42,8 @@ public class DancingPackageBookingService {
             String userEmail,
             CreateDancingPackageBookingRequest request
     ) {
+        JfrEvents.BookingCreate jfr = JfrEvents.BookingCreate.start("DANCING_PACKAGE");
+
         // 1. Load user
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found!"));
@@ -96,28 +107,71 @@ public class DancingPackageBookingService {
         // Formula:
         //   bookingSubtotal = dancingPackage.totalPrice + extraPerformers total
         //
+        JfrEvents.Pricing pricingJfr = JfrEvents.Pricing.start("DANCING_PACKAGE");
         double basePrice = dancingPackage.getTotalPrice() != null
                 ? dancingPackage.getTotalPrice() : 0.0;
         double bookingSubtotal = basePrice + extraPerformersTotal;
         booking.setBookingSubtotal(bookingSubtotal);
+        pricingJfr.finish(booking.getExtraPerformers().size(), bookingSubtotal);
         // grandTotal stays null until admin sets transport price
 
-        return mapToResponse(bookingRepository.save(booking));
+        RequestDancingPackage saved = saveAndPublish(booking, null);
+
+        // 7. Reserve package + extra performers for the event date
+        //    (fails the booking when the date is already fully booked)
+        capacityLedger.reserve(
+                saved.getRequestId(),
+                saved.getEventDate(),
+                dancingPackage,
+                saved.getExtraPerformers().stream().collect(Collectors.toMap(
+                        DancingRequestExtraPerformer::getPerformerType,
+                        DancingRequestExtraPerformer::getQuantity,
+                        Integer::sum))
+        );
+
+        jfr.finish(0, saved.getExtraPerformers().size());
+        return mapToResponse(saved);
     }
 
     //-------------------------------------------------
     // CUSTOMER - Get my bookings
     //-------------------------------------------------
+    @Transactional(readOnly = true)
     public List<DancingPackageBookingResponse> getMyBookings(String userEmail) {
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return getBookingsFor(user);
+    }
+
+    //-------------------------------------------------
+    // CUSTOMER - Bookings of an already resolved user (/api/bookings/mine)
+    //-------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<DancingPackageBookingResponse> getBookingsFor(User user) {
         return bookingRepository.findByUserOrderByCreatedAtDesc(user)
                 .stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    //-------------------------------------------------
+    // CUSTOMER - Delta sync (?updatedSince=) — my bookings changed since the cursor
+    //-------------------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<DancingPackageBookingResponse> getMyBookingsChangedSince(String userEmail, String updatedSince) {
+        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        BookingDeltaBuilder<DancingPackageBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+
+        bookingRepository.findByUserAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(user, delta.since())
+                .forEach(b -> delta.changed(mapToResponse(b)));
+        archivedBookingRepository.findIdsArchivedSinceForUser(BookingType.DANCING_PACKAGE, user.getUserId(), delta.since())
+                .forEach(delta::removed);
+        return delta.build();
+    }
+
     //-------------------------------------------------
     // CUSTOMER: Get single booking
     //-------------------------------------------------
+    @Transactional(readOnly = true)
     public DancingPackageBookingResponse getMyBookingById(String userEmail, UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
         if (!booking.getUser().getEmail().equals(userEmail)) {
@@ -132,6 +186,7 @@ public class DancingPackageBookingService {
     @Transactional
     public DancingPackageBookingResponse cancelBooking(String userEmail, UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail)) {
             throw new BadRequestException("Access denied!");
         }
@@ -142,7 +197,7 @@ public class DancingPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.CANCELLED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     //-------------------------------------------------
@@ -151,6 +206,7 @@ public class DancingPackageBookingService {
     @Transactional
     public DancingPackageBookingResponse acceptPrice(String userEmail, UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail)) {
             throw new BadRequestException("Access denied");
         }
@@ -161,20 +217,56 @@ public class DancingPackageBookingService {
         }
         booking.setStatus(RequestStatus.ACCEPTED_WITH_PRICE);
         booking.setFinalPriceAccepted(true);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     //-------------------------------------------------
     // ADMIN: Get all bookings
     //-------------------------------------------------
+    @Transactional(readOnly = true)
     public List<DancingPackageBookingResponse> getAllBookings() {
         return bookingRepository.findAllByOrderByCreatedAtDesc()
                 .stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    //-------------------------------------------------
+    // ADMIN - Get all bookings in the given statuses (all when none given)
+    //-------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<DancingPackageBookingResponse> getAllBookings(List<RequestStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return getAllBookings();
+        }
+        return bookingRepository.findByStatusInOrderByCreatedAtDesc(statuses)
+                .stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    //-------------------------------------------------
+    // ADMIN - Delta sync (?updatedSince=)
+    //        Rows that moved to a status outside the filter, and archived
+    //        rows, come back as removed ids.
+    //-------------------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<DancingPackageBookingResponse> getAllBookingsChangedSince(String updatedSince, List<RequestStatus> statuses) {
+        BookingDeltaBuilder<DancingPackageBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+        boolean filtered = statuses != null && !statuses.isEmpty();
+
+        for (RequestDancingPackage b : bookingRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(delta.since())) {
+            if (!filtered || statuses.contains(b.getStatus())) {
+                delta.changed(mapToResponse(b));
+            } else {
+                delta.removed(b.getRequestId());
+            }
+        }
+        archivedBookingRepository.findIdsArchivedSince(BookingType.DANCING_PACKAGE, delta.since())
+                .forEach(delta::removed);
+        return delta.build();
+    }
+
     //-------------------------------------------------
     // ADMIN: Get booking by id
     //-------------------------------------------------
+    @Transactional(readOnly = true)
     public DancingPackageBookingResponse getBookingById(UUID requestId) {
         return mapToResponse(getBookingOrThrow(requestId));
     }
@@ -188,6 +280,7 @@ public class DancingPackageBookingService {
             UUID requestId, SetTransportPriceRequest request
     ) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
 
         if (booking.getStatus() != RequestStatus.PENDING) {
             throw new BadRequestException(
@@ -204,7 +297,7 @@ public class DancingPackageBookingService {
         booking.setGrandTotal(subtotal + transport);
 
         booking.setStatus(RequestStatus.PRICE_SET);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     //-------------------------------------------------
@@ -213,6 +306,7 @@ public class DancingPackageBookingService {
     @Transactional
     public DancingPackageBookingResponse approveBooking(UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.ACCEPTED_WITH_PRICE) {
             throw new BadRequestException(
                     "Can only approve bookings that the customer has accepted. " +
@@ -220,7 +314,7 @@ public class DancingPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.APPROVED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     //-------------------------------------------------
@@ -229,6 +323,7 @@ public class DancingPackageBookingService {
     @Transactional
     public DancingPackageBookingResponse rejectBooking(UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         List<RequestStatus> rejectable = List.of(
                 RequestStatus.PENDING, RequestStatus.PRICE_SET, RequestStatus.ACCEPTED_WITH_PRICE
         );
@@ -238,7 +333,7 @@ public class DancingPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.REJECTED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     //-------------------------------------------------
@@ -247,13 +342,24 @@ public class DancingPackageBookingService {
     @Transactional
     public DancingPackageBookingResponse completeBooking(UUID requestId) {
         RequestDancingPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.APPROVED) {
             throw new BadRequestException(
                     "Can only complete APPROVED bookings. Current status: " + booking.getStatus()
             );
         }
         booking.setStatus(RequestStatus.COMPLETED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
+    }
+
+    //-------------------------------------------------
+    // HELPER: save and announce the status change
+    //         (calendar, capacity ledger, ...)
+    //-------------------------------------------------
+    private RequestDancingPackage saveAndPublish(RequestDancingPackage booking, RequestStatus previousStatus) {
+        RequestDancingPackage saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingStatusChangedEvent.of(saved, previousStatus));
+        return saved;
     }
 
     //-------------------------------------------------
@@ -272,6 +378,11 @@ public class DancingPackageBookingService {
     //       report consistency even if package prices change later.
     //-------------------------------------------------
     private DancingPackageBookingResponse mapToResponse(RequestDancingPackage b) {
+        return RequestTimings.timeMapping(b, DancingPackageBookingService::buildResponse);
+    }
+
+    // Package-private for the benchmarks module
+    static DancingPackageBookingResponse buildResponse(RequestDancingPackage b) {
 
         List<DancingPackageBookingResponse.ExtraPerformerResponse> extraResponses =
                 b.getExtraPerformers().stream()
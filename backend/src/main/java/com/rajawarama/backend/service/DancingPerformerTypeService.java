@@ -1,5 +1,6 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.DancingPerformerTypeRequest;
 import com.rajawarama.backend.dto.DancingPerformerTypeResponse;
 import com.rajawarama.backend.entity.DancingPerformerType;
@@ -8,6 +9,7 @@ import com.rajawarama.backend.exception.ResourceNotFoundException;
 import com.rajawarama.backend.repository.DancingPerformerTypeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -33,6 +35,8 @@ public class DancingPerformerTypeService {
         return map(saved);
     }
 
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<DancingPerformerTypeResponse> getAll() {
         return repository.findAll()
                 .stream()
@@ -1,11 +1,13 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.CreateDressItemRequest;
 import com.rajawarama.backend.dto.DressItemResponse;
 import com.rajawarama.backend.entity.Category;
 import com.rajawarama.backend.entity.DressItem;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.CategoryRepository;
 import com.rajawarama.backend.repository.DressItemRepository;
 import lombok.RequiredArgsConstructor;
@@ -104,6 +106,8 @@ public class DressItemService {
     }
 
     //Get all dress items
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<DressItemResponse> getAll() {
         return dressItemRepository.findAll().stream()
                 .map(this::mapToResponse)
@@ -113,6 +117,8 @@ public class DressItemService {
 
     //Get single dress item by ID
 
+    @ReadReplica
+    @Transactional(readOnly = true)
     public DressItemResponse getById(UUID dressItemId) {
         DressItem item = dressItemRepository.findById(dressItemId)
                 .orElseThrow(() -> new ResourceNotFoundException("Dress item not found with ID: " + dressItemId));
@@ -137,6 +143,10 @@ public class DressItemService {
     //Map entity to DTO response
 
     private DressItemResponse mapToResponse(DressItem item) {
+        return RequestTimings.timeMapping(item, this::buildResponse);
+    }
+
+    private DressItemResponse buildResponse(DressItem item) {
         return DressItemResponse.builder()
                 .dressItemId(item.getDressItemId())
                 .dressItemName(item.getDressItemName())
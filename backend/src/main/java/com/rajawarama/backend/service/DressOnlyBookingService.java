@@ -1,15 +1,21 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.dto.booking.BookingDeltaResponse;
 import com.rajawarama.backend.dto.booking.CreateDressOnlyBookingRequest;
 import com.rajawarama.backend.dto.booking.DressOnlyBookingResponse;
 import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.BookingType;
 import com.rajawarama.backend.enums.DressRole;
 import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.JfrEvents;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +30,8 @@ public class DressOnlyBookingService {
     private final RequestDressOnlyRepository bookingRepository;
     private final UserRepository userRepository;
     private final DressItemRepository dressItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchivedBookingRepository archivedBookingRepository;
 
     @Value("${app.image.base-url:http://localhost:8080}")
     private String imageBaseUrl;
@@ -36,6 +44,8 @@ public class DressOnlyBookingService {
             String userEmail,
             CreateDressOnlyBookingRequest request
     ) {
+        JfrEvents.BookingCreate jfr = JfrEvents.BookingCreate.start("DRESS_ONLY");
+
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found!"));
 
@@ -77,22 +87,50 @@ public class DressOnlyBookingService {
         booking.setBookingSubtotal(subtotal);
         // grandTotal stays null until admin sets transport price
 
-        return mapToResponse(bookingRepository.save(booking));
+        RequestDressOnly saved = saveAndPublish(booking, null);
+        jfr.finish(saved.getDressSelections().size(), 0);
+        return mapToResponse(saved);
     }
 
     // ------------------------------------------------
     // CUSTOMER: Get my bookings
     // ------------------------------------------------
+    @Transactional(readOnly = true)
     public List<DressOnlyBookingResponse> getMyBookings(String userEmail) {
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return getBookingsFor(user);
+    }
+
+    // ------------------------------------------------
+    // CUSTOMER: Bookings of an already resolved user (/api/bookings/mine)
+    // ------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<DressOnlyBookingResponse> getBookingsFor(User user) {
         return bookingRepository.findByUserOrderByCreatedAtDesc(user)
                 .stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    // ------------------------------------------------
+    // CUSTOMER: Delta sync (?updatedSince=) — my bookings changed since the cursor
+    // ------------------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<DressOnlyBookingResponse> getMyBookingsChangedSince(String userEmail, String updatedSince) {
+        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        BookingDeltaBuilder<DressOnlyBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+
+        bookingRepository.findByUserAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(user, delta.since())
+                .forEach(b -> delta.changed(mapToResponse(b)));
+        archivedBookingRepository.findIdsArchivedSinceForUser(BookingType.DRESS_ONLY, user.getUserId(), delta.since())
+                .forEach(delta::removed);
+        return delta.build();
+    }
+
     // ------------------------------------------------
     // CUSTOMER: Get single booking
     // ------------------------------------------------
+    @Transactional(readOnly = true)
     public DressOnlyBookingResponse getMyBookingById(String userEmail, UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
         if (userEmail != null && !booking.getUser().getEmail().equals(userEmail)) {
@@ -107,12 +145,13 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse cancelBooking(String userEmail, UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail))
             throw new BadRequestException("Access denied");
         if (!List.of(RequestStatus.PENDING, RequestStatus.PRICE_SET).contains(booking.getStatus()))
             throw new BadRequestException("Cannot cancel at status: " + booking.getStatus());
         booking.setStatus(RequestStatus.CANCELLED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // ------------------------------------------------
@@ -121,26 +160,63 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse acceptPrice(String userEmail, UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail))
             throw new BadRequestException("Access denied");
         if (booking.getStatus() != RequestStatus.PRICE_SET)
             throw new BadRequestException("No price set yet. Status: " + booking.getStatus());
         booking.setStatus(RequestStatus.ACCEPTED_WITH_PRICE);
         booking.setFinalPriceAccepted(true);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // ------------------------------------------------
     // ADMIN: Get all
     // ------------------------------------------------
+    @Transactional(readOnly = true)
     public List<DressOnlyBookingResponse> getAllBookings() {
         return bookingRepository.findAllByOrderByCreatedAtDesc()
                 .stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    // ------------------------------------------------
+    // ADMIN: Get all bookings in the given statuses (all when none given)
+    // ------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<DressOnlyBookingResponse> getAllBookings(List<RequestStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return getAllBookings();
+        }
+        return bookingRepository.findByStatusInOrderByCreatedAtDesc(statuses)
+                .stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    // ------------------------------------------------
+    // ADMIN: Delta sync (?updatedSince=)
+    //        Rows that moved to a status outside the filter, and archived
+    //        rows, come back as removed ids.
+    // ------------------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<DressOnlyBookingResponse> getAllBookingsChangedSince(String updatedSince, List<RequestStatus> statuses) {
+        BookingDeltaBuilder<DressOnlyBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+        boolean filtered = statuses != null && !statuses.isEmpty();
+
+        for (RequestDressOnly b : bookingRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(delta.since())) {
+            if (!filtered || statuses.contains(b.getStatus())) {
+                delta.changed(mapToResponse(b));
+            } else {
+                delta.removed(b.getRequestId());
+            }
+        }
+        archivedBookingRepository.findIdsArchivedSince(BookingType.DRESS_ONLY, delta.since())
+                .forEach(delta::removed);
+        return delta.build();
+    }
+
     // ------------------------------------------------
     // ADMIN: Get by ID (no email check)
     // ------------------------------------------------
+    @Transactional(readOnly = true)
     public DressOnlyBookingResponse getBookingById(UUID requestId) {
         return mapToResponse(getOrThrow(requestId));
     }
@@ -151,6 +227,7 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse setTransportPrice(UUID requestId, Double transportPrice) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.PENDING)
             throw new BadRequestException(
                     "Transport price can only be set for PENDING requests. Status: " + booking.getStatus());
@@ -159,7 +236,7 @@ public class DressOnlyBookingService {
         double transport = transportPrice != null ? transportPrice : 0.0;
         booking.setGrandTotal(sub + transport);
         booking.setStatus(RequestStatus.PRICE_SET);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // ------------------------------------------------
@@ -168,11 +245,12 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse approveBooking(UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.ACCEPTED_WITH_PRICE)
             throw new BadRequestException(
                     "Can only approve bookings the customer has accepted. Status: " + booking.getStatus());
         booking.setStatus(RequestStatus.APPROVED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // ------------------------------------------------
@@ -181,6 +259,7 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse rejectBooking(UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         List<RequestStatus> rejectable = List.of(
                 RequestStatus.PENDING,
                 RequestStatus.PRICE_SET,
@@ -189,7 +268,7 @@ public class DressOnlyBookingService {
         if (!rejectable.contains(booking.getStatus()))
             throw new BadRequestException("Cannot reject booking with status: " + booking.getStatus());
         booking.setStatus(RequestStatus.REJECTED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // ------------------------------------------------
@@ -198,17 +277,28 @@ public class DressOnlyBookingService {
     @Transactional
     public DressOnlyBookingResponse completeBooking(UUID requestId) {
         RequestDressOnly booking = getOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.APPROVED)
             throw new BadRequestException(
                     "Can only complete APPROVED bookings. Status: " + booking.getStatus());
         booking.setStatus(RequestStatus.COMPLETED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
+    }
+
+    // ------------------------------------------------
+    // HELPER: Save and announce the status change
+    //         (calendar, capacity ledger, ...)
+    // ------------------------------------------------
+    private RequestDressOnly saveAndPublish(RequestDressOnly booking, RequestStatus previousStatus) {
+        RequestDressOnly saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingStatusChangedEvent.of(saved, previousStatus));
+        return saved;
     }
 
     // ------------------------------------------------
     // HELPER: Get price from category based on role
     // ------------------------------------------------
-    private Double getPriceForRole(DressItem item, DressRole role) {
+    private static Double getPriceForRole(DressItem item, DressRole role) {
         Category cat = item.getCategory();
         if (cat == null) return null;
         return switch (role) {
@@ -230,6 +320,11 @@ public class DressOnlyBookingService {
     // MAPPER: Entity → Response DTO
     // ------------------------------------------------
     private DressOnlyBookingResponse mapToResponse(RequestDressOnly b) {
+        return RequestTimings.timeMapping(b, booking -> buildResponse(booking, imageBaseUrl));
+    }
+
+    // Package-private for the benchmarks module
+    static DressOnlyBookingResponse buildResponse(RequestDressOnly b, String imageBaseUrl) {
 
         List<DressOnlyBookingResponse.DressSelectionResponse> sels =
                 b.getDressSelections().stream().map(s -> {
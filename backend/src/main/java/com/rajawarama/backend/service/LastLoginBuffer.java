@@ -0,0 +1,116 @@
+package com.rajawarama.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// -----------------------------------------------------------------------------
+// Write-behind buffer for users.last_login.
+//
+// Logins only record the timestamp here; repeated logins of the same user
+// between two flushes collapse into one entry (the latest time wins). A
+// scheduled flush writes each chunk as one JDBC batch of a single UPDATE
+// statement in one transaction, and the buffer is flushed once more on
+// shutdown. The UPDATE only ever moves last_login forward, so a late flush
+// from another node cannot overwrite a newer value.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+public class LastLoginBuffer {
+
+    private static final int MAX_BATCH = 500;
+
+    private static final String ADVANCE_SQL =
+            "update users set last_login = ? " +
+                    "where user_id = ? and (last_login is null or last_login < ?)";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transaction;
+
+    // Hibernate stores UUIDs as BINARY(16) on MySQL; resolved on first flush
+    private Boolean binaryUuids;
+
+    // userId → latest login not yet written
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginBuffer(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(UUID userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        List<UUID> userIds = new ArrayList<>(pending.keySet());
+
+        for (int from = 0; from < userIds.size(); from += MAX_BATCH) {
+            // Take the entries out before writing; logins that arrive meanwhile start a new entry
+            Map<UUID, LocalDateTime> batch = new HashMap<>();
+            for (UUID userId : userIds.subList(from, Math.min(from + MAX_BATCH, userIds.size()))) {
+                LocalDateTime loginAt = pending.remove(userId);
+                if (loginAt != null) batch.put(userId, loginAt);
+            }
+            if (batch.isEmpty()) continue;
+
+            try {
+                transaction.executeWithoutResult(s -> advance(batch));
+            } catch (RuntimeException ex) {
+                // Put them back (keeping anything newer) and retry on the next flush
+                log.warn("Could not write last login for {} users: {}", batch.size(), ex.getMessage());
+                batch.forEach(this::record);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    private void advance(Map<UUID, LocalDateTime> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((userId, loginAt) -> {
+            Timestamp at = Timestamp.valueOf(loginAt);
+            rows.add(new Object[]{at, uuid(userId), at});
+        });
+        jdbc.batchUpdate(ADVANCE_SQL, rows);
+    }
+
+    private Object uuid(UUID id) {
+        if (binaryUuids == null) {
+            String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            binaryUuids = product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+        }
+        if (!binaryUuids) return id;
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,115 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.LoginEvent;
+import com.rajawarama.backend.repository.LoginEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// -----------------------------------------------------------------------------
+// Writes login_events off the login path.
+//
+// record() only puts the event on a bounded in-memory queue; a scheduled
+// flush inserts whatever has accumulated in one batched transaction, and the
+// queue is flushed once more on shutdown. If the queue is ever full (database
+// down for a long time) new events are dropped and counted rather than
+// slowing logins down.
+//
+// Also owns retention: rows older than app.login-events.retention-days are
+// deleted in chunks by a nightly job.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+public class LoginEventRecorder {
+
+    private static final int MAX_BATCH = 500;
+    private static final int DELETE_CHUNK = 1_000;
+
+    private final LoginEventRepository loginEventRepository;
+    private final ScheduledJobRunner jobRunner;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<LoginEvent> pending;
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Value("${app.login-events.retention-days:365}")
+    private int retentionDays;
+
+    public LoginEventRecorder(LoginEventRepository loginEventRepository,
+                              ScheduledJobRunner jobRunner,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.login-events.queue-capacity:10000}") int queueCapacity) {
+        this.loginEventRepository = loginEventRepository;
+        this.jobRunner = jobRunner;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    public void record(LoginEvent event) {
+        if (!pending.offer(event)) {
+            long total = dropped.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                log.warn("Login event queue full, {} events dropped so far", total);
+            }
+        }
+    }
+
+    // -----------------------------------------
+    // Batched insert of everything queued so far
+    // -----------------------------------------
+    @Scheduled(fixedDelayString = "${app.login-events.flush-interval-ms:2000}")
+    public void flush() {
+        List<LoginEvent> batch = new ArrayList<>(MAX_BATCH);
+        while (pending.drainTo(batch, MAX_BATCH) > 0) {
+            try {
+                transaction.executeWithoutResult(s -> loginEventRepository.saveAll(batch));
+            } catch (RuntimeException ex) {
+                // Keep what still fits and try again on the next flush
+                log.warn("Could not write {} login events: {}", batch.size(), ex.getMessage());
+                batch.forEach(pending::offer);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // -----------------------------------------
+    // Retention
+    // -----------------------------------------
+    @Scheduled(cron = "${app.login-events.retention-cron:0 45 3 * * *}")
+    public void deleteExpired() {
+        jobRunner.run("login-events-retention", Duration.ofMinutes(30), () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            int total = 0;
+            int deleted;
+            do {
+                Integer n = transaction.execute(s -> {
+                    List<UUID> ids = loginEventRepository.findIdsOlderThan(cutoff, PageRequest.of(0, DELETE_CHUNK));
+                    return ids.isEmpty() ? 0 : loginEventRepository.deleteByIdIn(ids);
+                });
+                deleted = n != null ? n : 0;
+                total += deleted;
+            } while (deleted == DELETE_CHUNK);
+            return Map.of("deleted", total);
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.booking.MyBookingTimelineItem;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// -----------------------------------------------------------------------------
+// All bookings of one customer, every type, newest first.
+//
+// The user is resolved once; the three booking queries then run in parallel
+// on bookingQueryExecutor (each in its own read-only transaction) and the
+// three already-sorted lists are merged by createdAt. Latency is the slowest
+// of the three queries rather than their sum.
+// -----------------------------------------------------------------------------
+@Service
+public class MyBookingsService {
+
+    private final UserRepository               userRepository;
+    private final SpecialPackageBookingService specialBookingService;
+    private final DancingPackageBookingService dancingBookingService;
+    private final DressOnlyBookingService      dressOnlyBookingService;
+    private final Executor                     bookingQueryExecutor;
+    private final BookingEventStream           eventStream;
+
+    public MyBookingsService(UserRepository userRepository,
+                             SpecialPackageBookingService specialBookingService,
+                             DancingPackageBookingService dancingBookingService,
+                             DressOnlyBookingService dressOnlyBookingService,
+                             @Qualifier("bookingQueryExecutor") Executor bookingQueryExecutor,
+                             BookingEventStream eventStream) {
+        this.userRepository = userRepository;
+        this.specialBookingService = specialBookingService;
+        this.dancingBookingService = dancingBookingService;
+        this.dressOnlyBookingService = dressOnlyBookingService;
+        this.bookingQueryExecutor = bookingQueryExecutor;
+        this.eventStream = eventStream;
+    }
+
+    // -----------------------------------------
+    // Fan out, then hand each merged item to the sink in timeline order.
+    // The returned future completes once every item has been handed over.
+    // -----------------------------------------
+    public CompletableFuture<Void> streamTimeline(String userEmail, Consumer<MyBookingTimelineItem> sink) {
+        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        CompletableFuture<List<MyBookingTimelineItem>> special = CompletableFuture.supplyAsync(
+                () -> specialBookingService.getBookingsFor(user).stream()
+                        .map(b -> item(BookingType.SPECIAL_PACKAGE, b.getRequestId(), b.getCreatedAt(), b))
+                        .toList(),
+                bookingQueryExecutor);
+        CompletableFuture<List<MyBookingTimelineItem>> dancing = CompletableFuture.supplyAsync(
+                () -> dancingBookingService.getBookingsFor(user).stream()
+                        .map(b -> item(BookingType.DANCING_PACKAGE, b.getRequestId(), b.getCreatedAt(), b))
+                        .toList(),
+                bookingQueryExecutor);
+        CompletableFuture<List<MyBookingTimelineItem>> dressOnly = CompletableFuture.supplyAsync(
+                () -> dressOnlyBookingService.getBookingsFor(user).stream()
+                        .map(b -> item(BookingType.DRESS_ONLY, b.getRequestId(), b.getCreatedAt(), b))
+                        .toList(),
+                bookingQueryExecutor);
+
+        return CompletableFuture.allOf(special, dancing, dressOnly)
+                .thenAccept(done -> mergeNewestFirst(List.of(special.join(), dancing.join(), dressOnly.join()), sink));
+    }
+
+    // -----------------------------------------
+    // Live status changes of this customer's bookings (SSE)
+    // -----------------------------------------
+    public SseEmitter subscribe(String userEmail, String lastEventId) {
+        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return eventStream.subscribeUser(user.getUserId(), lastEventId);
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // k-way merge of lists that are each sorted newest first
+    private void mergeNewestFirst(List<List<MyBookingTimelineItem>> lists, Consumer<MyBookingTimelineItem> sink) {
+        Comparator<MyBookingTimelineItem> newestFirst = Comparator.comparing(
+                MyBookingTimelineItem::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+        record Head(MyBookingTimelineItem item, Iterator<MyBookingTimelineItem> rest) {
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::item, newestFirst));
+
+        for (List<MyBookingTimelineItem> list : lists) {
+            Iterator<MyBookingTimelineItem> it = list.iterator();
+            if (it.hasNext()) heads.add(new Head(it.next(), it));
+        }
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            sink.accept(head.item());
+            if (head.rest().hasNext()) heads.add(new Head(head.rest().next(), head.rest()));
+        }
+    }
+
+    private MyBookingTimelineItem item(BookingType type, UUID requestId, LocalDateTime createdAt, Object booking) {
+        return MyBookingTimelineItem.builder()
+                .type(type)
+                .requestId(requestId)
+                .createdAt(createdAt)
+                .booking(booking)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.OutboxNotification;
+import com.rajawarama.backend.enums.OutboxStatus;
+import com.rajawarama.backend.repository.OutboxNotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// -----------------------------------------------------------------------------
+// Sends what NotificationOutboxWriter queued.
+//
+// Each run takes the "notification-dispatch" job lock, then works through
+// due rows in batches: one SMTP connection per batch, no transaction held
+// while talking to the mail server. Failed rows are retried with
+// exponential backoff (base * 2^attempts, capped) and marked FAILED after
+// app.notifications.max-attempts.
+//
+// Without spring.mail.host there is no JavaMailSender and rows simply wait.
+// For local testing point spring.mail.* at an in-process SMTP stand-in
+// (e.g. GreenMail) and the whole path runs unchanged.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final Duration BACKOFF_BASE = Duration.ofSeconds(30);
+    private static final Duration BACKOFF_MAX = Duration.ofHours(2);
+
+    private final OutboxNotificationRepository outboxRepository;
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final ScheduledJobRunner jobRunner;
+    private final TransactionTemplate transaction;
+
+    @Value("${app.notifications.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.from:no-reply@rajawarama.lk}")
+    private String from;
+
+    @Value("${app.notifications.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.notifications.max-attempts:8}")
+    private int maxAttempts;
+
+    public NotificationDispatcher(OutboxNotificationRepository outboxRepository,
+                                  ObjectProvider<JavaMailSender> mailSender,
+                                  ScheduledJobRunner jobRunner,
+                                  PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.jobRunner = jobRunner;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch-interval-ms:10000}")
+    public void dispatch() {
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (!enabled || sender == null) return;
+
+        jobRunner.run("notification-dispatch", Duration.ofMinutes(5), () -> {
+            int sent = 0, retried = 0, failed = 0;
+
+            while (true) {
+                List<OutboxNotification> batch = transaction.execute(s ->
+                        outboxRepository.findDue(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize)));
+                if (batch == null || batch.isEmpty()) break;
+
+                Map<UUID, String> errors = send(sender, batch);
+
+                List<UUID> ok = new ArrayList<>();
+                List<OutboxNotification> notOk = new ArrayList<>();
+                for (OutboxNotification n : batch) {
+                    String error = errors.get(n.getId());
+                    if (error == null) {
+                        ok.add(n.getId());
+                        continue;
+                    }
+                    n.setAttempts(n.getAttempts() + 1);
+                    n.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+                    if (n.getAttempts() >= maxAttempts) {
+                        n.setStatus(OutboxStatus.FAILED);
+                        failed++;
+                    } else {
+                        n.setNextAttemptAt(LocalDateTime.now().plus(backoff(n.getAttempts())));
+                        retried++;
+                    }
+                    notOk.add(n);
+                }
+
+                transaction.executeWithoutResult(s -> {
+                    if (!ok.isEmpty()) outboxRepository.markSent(ok, OutboxStatus.SENT, LocalDateTime.now());
+                    outboxRepository.saveAll(notOk);
+                });
+                sent += ok.size();
+
+                // Everything in this batch failed: the server is probably down, try again next run
+                if (ok.isEmpty() || batch.size() < batchSize) break;
+            }
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("sent", sent);
+            counts.put("retried", retried);
+            counts.put("failed", failed);
+            return counts;
+        });
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // Sends the batch over one connection; returns notificationId → error for the ones that failed
+    private Map<UUID, String> send(JavaMailSender sender, List<OutboxNotification> batch) {
+        Map<SimpleMailMessage, UUID> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxNotification n = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(n.getRecipient());
+            message.setSubject(n.getSubject());
+            message.setText(n.getBody());
+            messages[i] = message;
+            ids.put(message, n.getId());
+        }
+
+        Map<UUID, String> errors = new HashMap<>();
+        try {
+            sender.send(messages);
+        } catch (MailSendException e) {
+            // Per-message failures are keyed by the message we passed in
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(n -> errors.put(n.getId(), String.valueOf(e.getMessage())));
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                UUID id = ids.get(message);
+                if (id != null) errors.put(id, String.valueOf(cause.getMessage()));
+            });
+        } catch (MailException e) {
+            log.warn("Notification batch could not be sent: {}", e.getMessage());
+            batch.forEach(n -> errors.put(n.getId(), String.valueOf(e.getMessage())));
+        }
+        return errors;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BACKOFF_BASE.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(BACKOFF_MAX) > 0 ? BACKOFF_MAX : delay;
+    }
+}
@@ -0,0 +1,107 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.OutboxNotification;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.repository.OutboxNotificationRepository;
+import com.rajawarama.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// -----------------------------------------------------------------------------
+// Turns booking changes into outbox rows.
+//
+// A plain (synchronous) listener: it runs inside the transaction of
+// createBooking / setTransportPrice / approveBooking / ..., so the emails
+// are stored if and only if the booking change commits. Nothing here talks
+// to SMTP; NotificationDispatcher sends the rows later.
+//
+//   new request   → every active admin
+//   PRICE_SET     → customer (transport price set, please accept)
+//   APPROVED      → customer
+//   REJECTED      → customer
+// -----------------------------------------------------------------------------
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+
+    private final OutboxNotificationRepository outboxRepository;
+    private final UserRepository userRepository;
+
+    @EventListener
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        String booking = describe(event.type()) + " booking for " + event.eventDate();
+
+        if (event.isCreation()) {
+            for (Object[] admin : userRepository.findActiveRecipientsByRole(Role.ADMIN)) {
+                String adminEmail = (String) admin[1];
+                enqueue(key(event, "admin:" + admin[0]), adminEmail,
+                        "New " + booking,
+                        "A new " + booking + " was submitted by " + event.userEmail() + ".\n" +
+                                "Request ID: " + event.requestId() + "\n\n" +
+                                "Set the transport price from the admin dashboard.");
+            }
+            return;
+        }
+
+        RequestStatus status = event.newStatus();
+        switch (status) {
+            case PRICE_SET -> enqueue(key(event, "customer"), event.userEmail(),
+                    "Price ready for your " + booking,
+                    "The transport price for your " + booking + " has been set.\n" +
+                            "Grand total: Rs. " + money(event.grandTotal()) + "\n\n" +
+                            "Please log in to accept the price or cancel the request.");
+            case APPROVED -> enqueue(key(event, "customer"), event.userEmail(),
+                    "Your " + booking + " is approved",
+                    "Good news! Your " + booking + " has been approved.\n" +
+                            "Grand total: Rs. " + money(event.grandTotal()));
+            case REJECTED -> enqueue(key(event, "customer"), event.userEmail(),
+                    "Your " + booking + " was not accepted",
+                    "Sorry, we are unable to accept your " + booking + ".\n" +
+                            "Please contact us if you would like to choose another date.");
+            default -> {
+                // No email for the other transitions
+            }
+        }
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private void enqueue(String dedupeKey, String recipient, String subject, String body) {
+        if (outboxRepository.existsByDedupeKey(dedupeKey)) return;
+
+        OutboxNotification notification = new OutboxNotification();
+        notification.setDedupeKey(dedupeKey);
+        notification.setRecipient(recipient);
+        notification.setSubject(subject);
+        notification.setBody(body);
+        notification.setNextAttemptAt(LocalDateTime.now());
+        outboxRepository.save(notification);
+    }
+
+    // One email per booking, status and recipient. Recipients are named by a
+    // fixed-length tag or user id, never by e-mail, so the key stays well
+    // inside dedupe_key's 200 characters.
+    private String key(BookingStatusChangedEvent event, String recipient) {
+        String status = event.isCreation() ? "CREATED" : event.newStatus().name();
+        return event.type() + ":" + event.requestId() + ":" + status + ":" + recipient;
+    }
+
+    private String describe(BookingType type) {
+        return switch (type) {
+            case SPECIAL_PACKAGE -> "special package";
+            case DANCING_PACKAGE -> "dancing package";
+            case DRESS_ONLY      -> "dress-only";
+        };
+    }
+
+    private String money(Double amount) {
+        return amount != null ? String.format("%.2f", amount) : "-";
+    }
+}
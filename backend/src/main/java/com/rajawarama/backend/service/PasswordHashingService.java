@@ -0,0 +1,78 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// -----------------------------------------------------------------------------
+// All password hashing and verification goes through here.
+//
+// The BCrypt work runs on the bounded passwordHashExecutor, so a burst of
+// logins (or a credential-stuffing run) can occupy at most that many cores.
+// When the pool is saturated, or a hash waits longer than
+// app.security.password-hash.timeout-ms, the call fails with
+// ServiceBusyException (503 + Retry-After).
+// -----------------------------------------------------------------------------
+@Service
+public class PasswordHashingService {
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${app.security.password-hash.timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // True when the stored hash uses a lower BCrypt cost than the current one
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException ex) {
+            throw new ServiceBusyException("Server is busy, please try again shortly", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ServiceBusyException("Server is busy, please try again shortly", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException("Request interrupted", RETRY_AFTER_SECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
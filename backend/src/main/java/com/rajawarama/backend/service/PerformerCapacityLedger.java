@@ -0,0 +1,305 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.DancingGroupPackage;
+import com.rajawarama.backend.entity.DancingPerformerType;
+import com.rajawarama.backend.entity.PerformerCapacityHold;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.exception.BadRequestException;
+import com.rajawarama.backend.repository.DancingGroupPackageRepository;
+import com.rajawarama.backend.repository.PerformerCapacityHoldRepository;
+import com.rajawarama.backend.repository.RequestDancingPackageRepository;
+import com.rajawarama.backend.repository.RequestSpecialPackageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// -----------------------------------------------------------------------------
+// In-memory ledger of performers committed per (performerTypeId, eventDate).
+//
+// Every active dancing / special package booking holds its package-included
+// performers plus its extra performers for the event date. createBooking
+// reserves through here so maxAvailable is enforced atomically, and
+// cancel / reject give the performers back.
+//
+// Locking is striped by event date: two bookings for different dates never
+// wait on each other, two bookings for the same date are serialised.
+//
+// What each booking reserved is also written to performer_capacity_hold in
+// the booking's transaction, so later edits to a dancing package do not
+// change what older bookings hold. The ledger is rebuilt from those rows once
+// every singleton exists, which is before the web server starts accepting
+// requests.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformerCapacityLedger implements SmartInitializingSingleton {
+
+    // Statuses in which a booking keeps its performers for the event date
+    public static final List<RequestStatus> HOLDING_STATUSES = Arrays.stream(RequestStatus.values())
+            .filter(RequestStatus::holdsEventDate)
+            .toList();
+
+    private static final int STRIPES = 64;
+
+    private final RequestDancingPackageRepository dancingBookingRepository;
+    private final RequestSpecialPackageRepository specialBookingRepository;
+    private final DancingGroupPackageRepository dancingPackageRepository;
+    private final PerformerCapacityHoldRepository holdRepository;
+
+    private final Object[] stripes = createStripes();
+
+    // eventDate → (performerTypeId → committed quantity)
+    private final Map<LocalDate, Map<UUID, Integer>> committed = new ConcurrentHashMap<>();
+
+    // requestId → what that booking holds, so it can be released by id alone
+    private final Map<UUID, Hold> holds = new ConcurrentHashMap<>();
+
+    private record Hold(LocalDate eventDate, Map<UUID, Integer> performers) {
+    }
+
+    // -----------------------------------------
+    // Reserve performers for a new booking.
+    //
+    // Throws BadRequestException (nothing reserved) when any performer type
+    // would go over its maxAvailable on that date. If the surrounding
+    // transaction rolls back, the reservation is handed back automatically.
+    // -----------------------------------------
+    public void reserve(
+            UUID requestId,
+            LocalDate eventDate,
+            DancingGroupPackage dancingPackage,
+            Map<DancingPerformerType, Integer> extraPerformers
+    ) {
+        Map<UUID, Integer> demand = new HashMap<>();
+        Map<UUID, DancingPerformerType> types = new HashMap<>();
+
+        if (dancingPackage != null) {
+            for (DancingPerformerType type : dancingPackage.getIncludedPerformers()) {
+                int qty = dancingPackage.getQuantities().getOrDefault(type.getId(), 0);
+                if (qty > 0) {
+                    demand.merge(type.getId(), qty, Integer::sum);
+                    types.put(type.getId(), type);
+                }
+            }
+        }
+        extraPerformers.forEach((type, qty) -> {
+            if (qty != null && qty > 0) {
+                demand.merge(type.getId(), qty, Integer::sum);
+                types.put(type.getId(), type);
+            }
+        });
+
+        if (demand.isEmpty()) {
+            return;
+        }
+
+        synchronized (stripeFor(eventDate)) {
+            Map<UUID, Integer> day = committed.computeIfAbsent(eventDate, d -> new HashMap<>());
+
+            // Check everything first so a failed reservation changes nothing
+            for (Map.Entry<UUID, Integer> entry : demand.entrySet()) {
+                DancingPerformerType type = types.get(entry.getKey());
+                if (type.getMaxAvailable() == null) continue;
+
+                int alreadyBooked = day.getOrDefault(entry.getKey(), 0);
+                if (alreadyBooked + entry.getValue() > type.getMaxAvailable()) {
+                    int left = Math.max(0, type.getMaxAvailable() - alreadyBooked);
+                    throw new BadRequestException(
+                            "Not enough " + type.getName() + " performers available on " + eventDate +
+                                    ". Requested: " + entry.getValue() + ", available: " + left
+                    );
+                }
+            }
+
+            demand.forEach((typeId, qty) -> day.merge(typeId, qty, Integer::sum));
+            holds.put(requestId, new Hold(eventDate, demand));
+        }
+
+        // Hand the performers back if the booking never gets committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseNow(requestId);
+                    }
+                }
+            });
+        }
+
+        holdRepository.saveAll(demand.entrySet().stream()
+                .map(e -> new PerformerCapacityHold(requestId, eventDate, e.getKey(), e.getValue()))
+                .toList());
+    }
+
+    // -----------------------------------------
+    // Release whatever a booking holds (cancel / reject).
+    // The hold rows go with the caller's transaction; the in-memory
+    // counts follow once it commits.
+    // -----------------------------------------
+    @Transactional
+    public void release(UUID requestId) {
+        holdRepository.deleteByRequestId(requestId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(requestId);
+            }
+        });
+    }
+
+    // -----------------------------------------
+    // Give performers back when a booking stops holding its date.
+    // Runs inside the publishing transaction, so the release itself
+    // still waits for the commit.
+    // -----------------------------------------
+    @EventListener
+    @Transactional
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        if (event.type() == BookingType.DRESS_ONLY || event.isCreation()) return;
+
+        if (event.previousStatus().holdsEventDate() && !event.newStatus().holdsEventDate()) {
+            release(event.requestId());
+        }
+    }
+
+    // -----------------------------------------
+    // Committed quantity of a performer type on a date
+    // -----------------------------------------
+    public int committedOn(UUID performerTypeId, LocalDate eventDate) {
+        synchronized (stripeFor(eventDate)) {
+            Map<UUID, Integer> day = committed.get(eventDate);
+            return day != null ? day.getOrDefault(performerTypeId, 0) : 0;
+        }
+    }
+
+    // -----------------------------------------
+    // Rebuild before the web server starts, so no reservation can run
+    // against an empty ledger
+    // -----------------------------------------
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // -----------------------------------------
+    // Rebuild from the hold rows (today onwards).
+    //
+    // Bookings made before holds were recorded fall back to their package's
+    // current quantities plus their extra performers.
+    //
+    // Intended for startup: reservations that are in flight while the
+    // rebuild runs are not part of the snapshot.
+    // -----------------------------------------
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+
+        Map<UUID, Hold> snapshot = new HashMap<>();
+        for (Object[] row : holdRepository.findHoldsFrom(today)) {
+            snapshot.computeIfAbsent((UUID) row[0], id -> new Hold((LocalDate) row[1], new HashMap<>()))
+                    .performers().merge((UUID) row[2], (Integer) row[3], Integer::sum);
+        }
+
+        // Package-included quantities, per dancing package
+        Map<UUID, Map<UUID, Integer>> packageQuantities = new HashMap<>();
+        for (Object[] row : dancingPackageRepository.findAllQuantities()) {
+            packageQuantities.computeIfAbsent((UUID) row[0], id -> new HashMap<>())
+                    .put((UUID) row[1], (Integer) row[2]);
+        }
+
+        // Dancing package bookings
+        for (Object[] row : dancingBookingRepository.findCapacityHolds(HOLDING_STATUSES, today)) {
+            snapshot.put((UUID) row[0], new Hold((LocalDate) row[1],
+                    new HashMap<>(packageQuantities.getOrDefault((UUID) row[2], Map.of()))));
+        }
+        for (Object[] row : dancingBookingRepository.findExtraPerformerHolds(HOLDING_STATUSES, today)) {
+            addToHold(snapshot, (UUID) row[0], (UUID) row[1], (Integer) row[2]);
+        }
+
+        // Special package bookings (dancing package is optional)
+        for (Object[] row : specialBookingRepository.findCapacityHolds(HOLDING_STATUSES, today)) {
+            Map<UUID, Integer> included = row[2] != null
+                    ? packageQuantities.getOrDefault((UUID) row[2], Map.of())
+                    : Map.of();
+            snapshot.put((UUID) row[0], new Hold((LocalDate) row[1], new HashMap<>(included)));
+        }
+        for (Object[] row : specialBookingRepository.findExtraPerformerHolds(HOLDING_STATUSES, today)) {
+            addToHold(snapshot, (UUID) row[0], (UUID) row[1], (Integer) row[2]);
+        }
+
+        // Swap in stripe by stripe
+        for (int i = 0; i < STRIPES; i++) {
+            final int stripe = i;
+            synchronized (stripes[stripe]) {
+                committed.keySet().removeIf(date -> stripeIndex(date) == stripe);
+                holds.values().removeIf(hold -> stripeIndex(hold.eventDate()) == stripe);
+
+                snapshot.forEach((requestId, hold) -> {
+                    if (stripeIndex(hold.eventDate()) != stripe) return;
+                    holds.put(requestId, hold);
+                    Map<UUID, Integer> day = committed.computeIfAbsent(hold.eventDate(), d -> new HashMap<>());
+                    hold.performers().forEach((typeId, qty) -> day.merge(typeId, qty, Integer::sum));
+                });
+            }
+        }
+
+        log.info("Performer capacity ledger rebuilt: {} active bookings across {} event dates",
+                holds.size(), committed.size());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private void releaseNow(UUID requestId) {
+        Hold hold = holds.get(requestId);
+        if (hold == null) return;
+
+        synchronized (stripeFor(hold.eventDate())) {
+            if (holds.remove(requestId) == null) return;
+
+            Map<UUID, Integer> day = committed.get(hold.eventDate());
+            if (day == null) return;
+            hold.performers().forEach((typeId, qty) ->
+                    day.computeIfPresent(typeId, (id, current) -> current - qty > 0 ? current - qty : null));
+            if (day.isEmpty()) {
+                committed.remove(hold.eventDate());
+            }
+        }
+    }
+
+    private void addToHold(Map<UUID, Hold> snapshot, UUID requestId, UUID performerTypeId, Integer qty) {
+        Hold hold = snapshot.get(requestId);
+        if (hold != null && qty != null) {
+            hold.performers().merge(performerTypeId, qty, Integer::sum);
+        }
+    }
+
+    private Object stripeFor(LocalDate eventDate) {
+        return stripes[stripeIndex(eventDate)];
+    }
+
+    // Consecutive days land on different stripes
+    private static int stripeIndex(LocalDate eventDate) {
+        return (int) Math.floorMod(eventDate.toEpochDay(), (long) STRIPES);
+    }
+
+    private static Object[] createStripes() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
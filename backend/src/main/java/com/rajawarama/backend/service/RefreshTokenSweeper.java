@@ -0,0 +1,55 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.repository.RefreshTokenRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// -----------------------------------------------------------------------------
+// Deletes expired refresh tokens in bounded chunks, one short transaction per
+// chunk, so refresh_tokens stays proportional to the sessions that are still
+// usable instead of growing with every user who never logs out.
+// -----------------------------------------------------------------------------
+@Component
+public class RefreshTokenSweeper {
+
+    private static final int DELETE_CHUNK = 1_000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ScheduledJobRunner jobRunner;
+    private final TransactionTemplate transaction;
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+                               ScheduledJobRunner jobRunner,
+                               PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jobRunner = jobRunner;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.refresh-tokens.sweep-cron:0 15 * * * *}")
+    public void sweep() {
+        jobRunner.run("refresh-token-sweep", Duration.ofMinutes(15), () -> {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int deleted;
+            do {
+                Integer n = transaction.execute(s -> {
+                    List<UUID> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, DELETE_CHUNK));
+                    return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIdIn(ids);
+                });
+                deleted = n != null ? n : 0;
+                total += deleted;
+            } while (deleted == DELETE_CHUNK);
+            return Map.of("deleted", total);
+        });
+    }
+}
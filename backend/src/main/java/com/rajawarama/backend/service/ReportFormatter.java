@@ -0,0 +1,137 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.entity.LoginEvent;
+import com.rajawarama.backend.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// -----------------------------------------------------------------------------
+// Turns loaded report rows into what the admin reports return: the CSV
+// exports and the revenue chart series. No queries here; ReportController
+// loads the rows and hands them over.
+// -----------------------------------------------------------------------------
+@Component
+public class ReportFormatter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter DAY       = DateTimeFormatter.ofPattern("MMM dd");
+    private static final DateTimeFormatter WEEK      = DateTimeFormatter.ofPattern("ww yyyy");
+    private static final DateTimeFormatter MONTH     = DateTimeFormatter.ofPattern("MMM yyyy");
+    private static final DateTimeFormatter YEAR      = DateTimeFormatter.ofPattern("yyyy");
+
+    public String usersCsv(List<User> users) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Full Name,Email,Phone,Role,Status,Created At,Last Login\n");
+        for (User u : users) {
+            sb.append(row(
+                    u.getFullName(), u.getEmail(), u.getPhone(),
+                    u.getRole().name(),
+                    u.isDeleted() ? "Deactivated" : "Active",
+                    fmt(u.getCreatedAt()), fmt(u.getLastLogin())
+            )).append("\n");
+        }
+        return sb.toString();
+    }
+
+    public String loginsCsv(List<LoginEvent> logins) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Full Name,Email,Role,Login At,Token Expiry\n");
+        for (LoginEvent e : logins) {
+            sb.append(row(
+                    e.getUserFullName(), e.getUserEmail(),
+                    e.getRole(),
+                    fmt(e.getLoginAt()), fmt(e.getTokenExpiry())
+            )).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /** Booking export rows; dress-only bookings have no package column */
+    public String bookingsCsv(List<BookingReportRow> list, boolean withPackage) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(withPackage
+                ? "Request ID,Customer Name,Email,Package,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At\n"
+                : "Request ID,Customer Name,Email,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At\n");
+        for (BookingReportRow b : list) {
+            if (withPackage) {
+                sb.append(row(
+                        b.getRequestId().toString(),
+                        b.getCustomerName(), b.getCustomerEmail(),
+                        b.getPackageName(),
+                        b.getEventDate().toString(), b.getHotelName(), b.getNearestCity(),
+                        b.getStatus().name(),
+                        money(b.getBookingSubtotal()), money(b.getTransportPrice()), money(b.getGrandTotal()),
+                        fmt(b.getCreatedAt())
+                ));
+            } else {
+                sb.append(row(
+                        b.getRequestId().toString(),
+                        b.getCustomerName(), b.getCustomerEmail(),
+                        b.getEventDate().toString(), b.getHotelName(), b.getNearestCity(),
+                        b.getStatus().name(),
+                        money(b.getBookingSubtotal()), money(b.getTransportPrice()), money(b.getGrandTotal()),
+                        fmt(b.getCreatedAt())
+                ));
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /** Group combined revenue by daily / weekly / monthly / yearly label */
+    public Map<String, Double> revenueByPeriod(
+            String period,
+            List<BookingReportRow> spList,
+            List<BookingReportRow> dpList,
+            List<BookingReportRow> dobList
+    ) {
+        // Collect all (date, amount) pairs
+        List<Map.Entry<LocalDateTime, Double>> all = new ArrayList<>();
+        spList.stream().filter(b -> b.getGrandTotal() != null)
+                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
+        dpList.stream().filter(b -> b.getGrandTotal() != null)
+                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
+        dobList.stream().filter(b -> b.getGrandTotal() != null)
+                .forEach(b -> all.add(Map.entry(b.getCreatedAt(), b.getGrandTotal())));
+
+        Map<String, Double> map = new TreeMap<>();
+        for (Map.Entry<LocalDateTime, Double> e : all) {
+            String key = switch (period) {
+                case "daily"   -> e.getKey().format(DAY);
+                case "weekly"  -> "W" + e.getKey().format(WEEK);
+                case "yearly"  -> e.getKey().format(YEAR);
+                default        -> e.getKey().format(MONTH); // monthly
+            };
+            map.merge(key, e.getValue(), Double::sum);
+        }
+        return map;
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private static String fmt(LocalDateTime dt) {
+        return dt != null ? dt.format(DATE_TIME) : "";
+    }
+
+    private static String money(Double d) {
+        return d != null ? String.format("%.2f", d) : "0.00";
+    }
+
+    private static String row(String... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            String v = values[i] == null ? "" : values[i].replace("\"", "\"\"");
+            sb.append('"').append(v).append('"');
+            if (i < values.length - 1) sb.append(',');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.SchedulerLock;
+import com.rajawarama.backend.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// -----------------------------------------------------------------------------
+// Runs a scheduled job on at most one node at a time.
+//
+// The lock is a row in scheduler_locks that a node takes with a conditional
+// UPDATE (lockedUntil <= now). lockAtMost bounds how long a crashed node can
+// keep others out. Every run is timed, logged with its counts and kept as the
+// job's "last run" for the admin jobs endpoint.
+// -----------------------------------------------------------------------------
+@Slf4j
+@Service
+public class ScheduledJobRunner {
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final String owner;
+
+    private final Map<String, JobRun> lastRuns = new ConcurrentHashMap<>();
+
+    public record JobRun(
+            String job,
+            LocalDateTime startedAt,
+            long durationMs,
+            Map<String, Integer> counts,
+            String error
+    ) {
+    }
+
+    public ScheduledJobRunner(SchedulerLockRepository lockRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    // -----------------------------------------
+    // Run the task if this node gets the lock.
+    // Returns empty when another node is already running the job.
+    // -----------------------------------------
+    public Optional<JobRun> run(String job, Duration lockAtMost, Supplier<Map<String, Integer>> task) {
+        if (!tryLock(job, lockAtMost)) {
+            log.debug("Job {} skipped: locked by another node", job);
+            return Optional.empty();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        Map<String, Integer> counts = Map.of();
+        String error = null;
+
+        try {
+            counts = task.get();
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            log.error("Job {} failed", job, ex);
+        } finally {
+            unlock(job);
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        JobRun run = new JobRun(job, startedAt, durationMs, counts, error);
+        lastRuns.put(job, run);
+
+        // Frequent jobs with nothing to do (e.g. the notification dispatcher) stay quiet
+        if (error == null && counts.values().stream().allMatch(c -> c == 0)) {
+            log.debug("Job {} finished in {} ms: nothing to do", job, durationMs);
+        } else {
+            log.info("Job {} finished in {} ms: {}", job, durationMs, counts);
+        }
+        return Optional.of(run);
+    }
+
+    public List<JobRun> getLastRuns() {
+        return lastRuns.values().stream()
+                .sorted(Comparator.comparing(JobRun::job))
+                .toList();
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private boolean tryLock(String job, Duration lockAtMost) {
+        if (!lockRepository.existsById(job)) {
+            try {
+                lockTransaction.executeWithoutResult(s -> lockRepository.saveAndFlush(new SchedulerLock(job)));
+            } catch (DataIntegrityViolationException ignored) {
+                // Another node created the row first — fine
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = lockTransaction.execute(s ->
+                lockRepository.tryLock(job, owner, now, now.plus(lockAtMost)));
+        return updated != null && updated > 0;
+    }
+
+    private void unlock(String job) {
+        try {
+            lockTransaction.executeWithoutResult(s ->
+                    lockRepository.unlock(job, owner, LocalDateTime.now()));
+        } catch (RuntimeException ex) {
+            // The lease still runs out at lockedUntil
+            log.warn("Could not release lock for job {}", job, ex);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
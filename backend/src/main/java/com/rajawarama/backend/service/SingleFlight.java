@@ -0,0 +1,143 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// -----------------------------------------------------------------------------
+// Request coalescing for expensive reads.
+//
+// The first caller for a key computes the result on its own thread; callers
+// that arrive with the same key while it is running wait for that result
+// instead of computing it again. Nothing is cached: once the computation
+// finishes the key is free and the next caller computes afresh. Waiters give
+// up after app.single-flight.max-wait-ms with 503 + Retry-After, so a stuck
+// computation cannot pin every thread that asked for the same thing.
+//
+// Keys are "<endpoint>|<normalized params>"; counters are kept per endpoint
+// (the part before the first '|') and published as singleflight.computations
+// and singleflight.shared{endpoint}.
+// -----------------------------------------------------------------------------
+@Component
+public class SingleFlight implements MeterBinder {
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+
+    @Value("${app.single-flight.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    private static final class Counters {
+        final LongAdder computed = new LongAdder();
+        final LongAdder shared = new LongAdder();
+    }
+
+    public record Stats(String endpoint, long computed, long shared) {
+    }
+
+    public static String key(String endpoint, Object... params) {
+        StringBuilder sb = new StringBuilder(endpoint);
+        for (Object param : params) {
+            sb.append('|').append(param);
+        }
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> computation) {
+        Counters endpoint = counters.computeIfAbsent(endpointOf(key), this::newCounters);
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+
+        if (running != null) {
+            endpoint.shared.increment();
+            try {
+                return (T) running.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (TimeoutException e) {
+                throw new ServiceBusyException("Server is busy, please try again shortly", RETRY_AFTER_SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceBusyException("Request interrupted", RETRY_AFTER_SECONDS);
+            }
+        }
+
+        endpoint.computed.increment();
+        try {
+            T result = computation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public List<Stats> getStats() {
+        return counters.entrySet().stream()
+                .map(e -> new Stats(e.getKey(), e.getValue().computed.sum(), e.getValue().shared.sum()))
+                .sorted(Comparator.comparing(Stats::endpoint))
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        counters.forEach((endpoint, c) -> register(meterRegistry, endpoint, c));
+    }
+
+    private Counters newCounters(String endpoint) {
+        Counters c = new Counters();
+        MeterRegistry current = registry;
+        if (current != null) {
+            register(current, endpoint, c);
+        }
+        return c;
+    }
+
+    private static void register(MeterRegistry meterRegistry, String endpoint, Counters c) {
+        FunctionCounter.builder("singleflight.computations", c.computed, LongAdder::sum)
+                .description("Computations run by the single-flight layer")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder("singleflight.shared", c.shared, LongAdder::sum)
+                .description("Requests that shared another request's computation")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private static String endpointOf(String key) {
+        int bar = key.indexOf('|');
+        return bar < 0 ? key : key.substring(0, bar);
+    }
+
+    // The computation only ever fails with what execute() rethrows: unchecked
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) return runtime;
+        if (cause instanceof Error error) throw error;
+        return new IllegalStateException(cause);
+    }
+}
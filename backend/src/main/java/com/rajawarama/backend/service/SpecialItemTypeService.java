@@ -1,14 +1,15 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.SpecialItemTypeRequest;
 import com.rajawarama.backend.dto.SpecialItemTypeResponse;
 import com.rajawarama.backend.entity.SpecialItemType;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
 import com.rajawarama.backend.repository.SpecialItemTypeRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +36,8 @@ public class SpecialItemTypeService {
         return mapToResponse(saved);
     }
 
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<SpecialItemTypeResponse> getAll() {
         return repository.findAll().stream()
                 .map(this::mapToResponse)
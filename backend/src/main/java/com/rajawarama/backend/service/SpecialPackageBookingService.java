@@ -1,15 +1,21 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.dto.booking.BookingDeltaResponse;
 import com.rajawarama.backend.dto.booking.CreateSpecialPackageBookingRequest;
 import com.rajawarama.backend.dto.booking.SetTransportPriceRequest;
 import com.rajawarama.backend.dto.booking.SpecialPackageBookingResponse;
 import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.BookingType;
 import com.rajawarama.backend.enums.DressRole;
 import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.JfrEvents;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +33,9 @@ public class SpecialPackageBookingService {
     private final DressItemRepository dressItemRepository;
     private final DancingGroupPackageRepository dancingPackageRepository;
     private final DancingPerformerTypeRepository performerTypeRepository;
+    private final PerformerCapacityLedger capacityLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchivedBookingRepository archivedBookingRepository;
 
     // -----------------------------------------
     // CUSTOMER: Create a new booking
@@ -36,6 +45,8 @@ public class SpecialPackageBookingService {
             String userEmail,
             CreateSpecialPackageBookingRequest request
     ) {
+        JfrEvents.BookingCreate jfr = JfrEvents.BookingCreate.start("SPECIAL_PACKAGE");
+
         // 1. Load user
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found!"));
@@ -127,113 +138,73 @@ public class SpecialPackageBookingService {
         //                   + dressPriceAdjustment                            ← category pricing
         //
 
-        double basePackagePrice = specialPackage.getFinalPrice() != null
-                ? specialPackage.getFinalPrice() : 0.0;
-
-        // ── Dancing adjustment ────────────────────────────────────────────
-        double defaultDancingPrice = 0.0;
-        if (specialPackage.getLinkedDancingPackage() != null
-                && specialPackage.getLinkedDancingPackage().getTotalPrice() != null) {
-            defaultDancingPrice = specialPackage.getLinkedDancingPackage().getTotalPrice();
-        }
-
-        double selectedDancingPrice = 0.0;
-        if (resolvedDancingPackage != null && resolvedDancingPackage.getTotalPrice() != null) {
-            selectedDancingPrice = resolvedDancingPackage.getTotalPrice();
-        }
-
-        double dancingAdjustment = selectedDancingPrice - defaultDancingPrice;
+        JfrEvents.Pricing pricingJfr = JfrEvents.Pricing.start("SPECIAL_PACKAGE");
 
-        // ── Extra performers ──────────────────────────────────────────────
-        double extraPerformersTotal = 0.0;
-        if (request.getExtraPerformers() != null) {
-            for (CreateSpecialPackageBookingRequest.ExtraPerformerEntry entry
-                    : request.getExtraPerformers()) {
-                DancingPerformerType pt = performerTypeRepository
-                        .findById(entry.getPerformerTypeId())
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                                "Performer type not found: " + entry.getPerformerTypeId()));
-                extraPerformersTotal += (pt.getPricePerUnit() != null ? pt.getPricePerUnit() : 0.0)
-                        * (entry.getQuantity() != null ? entry.getQuantity() : 0);
-            }
-        }
-
-        // ── Category dress price adjustment ──────────────────────────────
-        //
-        // Extract the base prices that were baked into the special package
-        // using special_item_type name matching:
-        //   "groom"   → matches "Groom Dressing"   (25000)
-        //   "bestmen" → matches "Bestmen Dressing"  (15000)
-        //   "pageboy" → matches "Pageboy Dressing"  (8500)
-        //
-        // If the selected dress belongs to a category with different prices,
-        // we adjust the subtotal by the difference.
-        //
-        double baseGroomPrice   = getBaseRolePrice(specialPackage, "groom");
-        double baseBestmanPrice = getBaseRolePrice(specialPackage, "bestmen");
-        double basePageboyPrice = getBaseRolePrice(specialPackage, "pageboy");
-
-        double groomAdjustment   = 0.0;
-        double bestmanAdjustment = 0.0;
-        double pageboyAdjustment = 0.0;
-
-        if (request.getDressSelections() != null) {
-            for (CreateSpecialPackageBookingRequest.DressSelectionEntry entry
-                    : request.getDressSelections()) {
-
-                DressItem dress = dressItemRepository.findById(entry.getDressItemId())
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                                "Dress item not found: " + entry.getDressItemId()));
-                Category cat = dress.getCategory();
-
-                if (entry.getRole() == DressRole.GROOM && baseGroomPrice > 0) {
-                    Double catPrice = cat.getGroomDressPrice();
-                    if (catPrice != null) {
-                        groomAdjustment = catPrice - baseGroomPrice;
-                    }
-
-                } else if (entry.getRole() == DressRole.BEST_MAN && baseBestmanPrice > 0) {
-                    Double catPrice = cat.getBestmanDressPrice();
-                    if (catPrice != null) {
-                        bestmanAdjustment = catPrice - baseBestmanPrice;
-                    }
-
-                } else if (entry.getRole() == DressRole.PAGE_BOY && basePageboyPrice > 0) {
-                    Double catPrice = cat.getPageBoyDressPrice();
-                    if (catPrice != null) {
-                        pageboyAdjustment = catPrice - basePageboyPrice;
-                    }
-                }
-            }
-        }
-
-        double dressPriceAdjustment = groomAdjustment + bestmanAdjustment + pageboyAdjustment;
-
-        // ── Final subtotal ────────────────────────────────────────────────
-        double bookingSubtotal = basePackagePrice
-                + dancingAdjustment
-                + extraPerformersTotal
-                + dressPriceAdjustment;
+        double bookingSubtotal = calculateSubtotal(
+                specialPackage, resolvedDancingPackage,
+                booking.getDressSelections(), booking.getExtraPerformers());
 
         booking.setBookingSubtotal(bookingSubtotal);
         // grandTotal stays null until admin sets transport price
+        pricingJfr.finish(booking.getDressSelections().size() + booking.getExtraPerformers().size(), bookingSubtotal);
+
+        RequestSpecialPackage saved = saveAndPublish(booking, null);
+
+        // 9. Reserve dancing package + extra performers for the event date
+        //    (fails the booking when the date is already fully booked)
+        capacityLedger.reserve(
+                saved.getRequestId(),
+                saved.getEventDate(),
+                resolvedDancingPackage,
+                saved.getExtraPerformers().stream().collect(Collectors.toMap(
+                        RequestExtraPerformer::getPerformerType,
+                        RequestExtraPerformer::getQuantity,
+                        Integer::sum))
+        );
 
-        return mapToResponse(bookingRepository.save(booking));
+        jfr.finish(saved.getDressSelections().size(), saved.getExtraPerformers().size());
+        return mapToResponse(saved);
     }
 
     // -----------------------------------------
     // CUSTOMER: Get my bookings
     // -----------------------------------------
+    @Transactional(readOnly = true)
     public List<SpecialPackageBookingResponse> getMyBookings(String userEmail) {
         User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return getBookingsFor(user);
+    }
+
+    // -----------------------------------------
+    // CUSTOMER: Bookings of an already resolved user (/api/bookings/mine)
+    // -----------------------------------------
+    @Transactional(readOnly = true)
+    public List<SpecialPackageBookingResponse> getBookingsFor(User user) {
         return bookingRepository.findByUserOrderByCreatedAtDesc(user)
                 .stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    // -----------------------------------------
+    // CUSTOMER: Delta sync (?updatedSince=) — my bookings changed since the cursor
+    // -----------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<SpecialPackageBookingResponse> getMyBookingsChangedSince(String userEmail, String updatedSince) {
+        User user = userRepository.findByEmailAndIsDeletedFalse(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        BookingDeltaBuilder<SpecialPackageBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+
+        bookingRepository.findByUserAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(user, delta.since())
+                .forEach(b -> delta.changed(mapToResponse(b)));
+        archivedBookingRepository.findIdsArchivedSinceForUser(BookingType.SPECIAL_PACKAGE, user.getUserId(), delta.since())
+                .forEach(delta::removed);
+        return delta.build();
+    }
+
     // -----------------------------------------
     // CUSTOMER: Get single booking
     // -----------------------------------------
+    @Transactional(readOnly = true)
     public SpecialPackageBookingResponse getMyBookingById(String userEmail, UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
         if (!booking.getUser().getEmail().equals(userEmail)) {
@@ -248,6 +219,7 @@ public class SpecialPackageBookingService {
     @Transactional
     public SpecialPackageBookingResponse cancelBooking(String userEmail, UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail)) {
             throw new BadRequestException("Access denied!");
         }
@@ -258,7 +230,7 @@ public class SpecialPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.CANCELLED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // -----------------------------------------
@@ -267,6 +239,7 @@ public class SpecialPackageBookingService {
     @Transactional
     public SpecialPackageBookingResponse acceptPrice(String userEmail, UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (!booking.getUser().getEmail().equals(userEmail)) {
             throw new BadRequestException("Access denied");
         }
@@ -277,20 +250,61 @@ public class SpecialPackageBookingService {
         }
         booking.setStatus(RequestStatus.ACCEPTED_WITH_PRICE);
         booking.setFinalPriceAccepted(true);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // -----------------------------------------
     // ADMIN: Get all bookings
     // -----------------------------------------
+    @Transactional(readOnly = true)
     public List<SpecialPackageBookingResponse> getAllBookings() {
-        return bookingRepository.findAllByOrderByCreatedAtDesc()
-                .stream().map(this::mapToResponse).collect(Collectors.toList());
+        return mapAdminList(bookingRepository.findAllByOrderByCreatedAtDesc());
+    }
+
+    // -----------------------------------------
+    // ADMIN: Get all bookings in the given statuses (all when none given)
+    // -----------------------------------------
+    @Transactional(readOnly = true)
+    public List<SpecialPackageBookingResponse> getAllBookings(List<RequestStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return getAllBookings();
+        }
+        return mapAdminList(bookingRepository.findByStatusInOrderByCreatedAtDesc(statuses));
+    }
+
+    private List<SpecialPackageBookingResponse> mapAdminList(List<RequestSpecialPackage> bookings) {
+        if (!bookings.isEmpty()) {
+            bookingRepository.fetchExtraPerformers(bookings);
+        }
+        return bookings.stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    // -----------------------------------------
+    // ADMIN: Delta sync (?updatedSince=)
+    //        Rows that moved to a status outside the filter, and archived
+    //        rows, come back as removed ids.
+    // -----------------------------------------
+    @Transactional(readOnly = true)
+    public BookingDeltaResponse<SpecialPackageBookingResponse> getAllBookingsChangedSince(String updatedSince, List<RequestStatus> statuses) {
+        BookingDeltaBuilder<SpecialPackageBookingResponse> delta = BookingDeltaBuilder.since(updatedSince);
+        boolean filtered = statuses != null && !statuses.isEmpty();
+
+        for (RequestSpecialPackage b : bookingRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(delta.since())) {
+            if (!filtered || statuses.contains(b.getStatus())) {
+                delta.changed(mapToResponse(b));
+            } else {
+                delta.removed(b.getRequestId());
+            }
+        }
+        archivedBookingRepository.findIdsArchivedSince(BookingType.SPECIAL_PACKAGE, delta.since())
+                .forEach(delta::removed);
+        return delta.build();
     }
 
     // -----------------------------------------
     // ADMIN: Get booking by id
     // -----------------------------------------
+    @Transactional(readOnly = true)
     public SpecialPackageBookingResponse getBookingById(UUID requestId) {
         return mapToResponse(getBookingOrThrow(requestId));
     }
@@ -304,6 +318,7 @@ public class SpecialPackageBookingService {
             UUID requestId, SetTransportPriceRequest request
     ) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
 
         if (booking.getStatus() != RequestStatus.PENDING) {
             throw new BadRequestException(
@@ -320,7 +335,7 @@ public class SpecialPackageBookingService {
         booking.setGrandTotal(subtotal + transport);
 
         booking.setStatus(RequestStatus.PRICE_SET);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // -----------------------------------------
@@ -329,6 +344,7 @@ public class SpecialPackageBookingService {
     @Transactional
     public SpecialPackageBookingResponse approveBooking(UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.ACCEPTED_WITH_PRICE) {
             throw new BadRequestException(
                     "Can only approve bookings that the customer has accepted. " +
@@ -336,7 +352,7 @@ public class SpecialPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.APPROVED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // -----------------------------------------
@@ -345,6 +361,7 @@ public class SpecialPackageBookingService {
     @Transactional
     public SpecialPackageBookingResponse rejectBooking(UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         List<RequestStatus> rejectable = List.of(
                 RequestStatus.PENDING,
                 RequestStatus.PRICE_SET,
@@ -356,7 +373,7 @@ public class SpecialPackageBookingService {
             );
         }
         booking.setStatus(RequestStatus.REJECTED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
     }
 
     // -----------------------------------------
@@ -365,13 +382,24 @@ public class SpecialPackageBookingService {
     @Transactional
     public SpecialPackageBookingResponse completeBooking(UUID requestId) {
         RequestSpecialPackage booking = getBookingOrThrow(requestId);
+        RequestStatus previousStatus = booking.getStatus();
         if (booking.getStatus() != RequestStatus.APPROVED) {
             throw new BadRequestException(
                     "Can only complete APPROVED bookings. Current status: " + booking.getStatus()
             );
         }
         booking.setStatus(RequestStatus.COMPLETED);
-        return mapToResponse(bookingRepository.save(booking));
+        return mapToResponse(saveAndPublish(booking, previousStatus));
+    }
+
+    // -----------------------------------------
+    // HELPER: Save and announce the status change
+    //         (calendar, capacity ledger, ...)
+    // -----------------------------------------
+    private RequestSpecialPackage saveAndPublish(RequestSpecialPackage booking, RequestStatus previousStatus) {
+        RequestSpecialPackage saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingStatusChangedEvent.of(saved, previousStatus));
+        return saved;
     }
 
     // -----------------------------------------
@@ -382,6 +410,95 @@ public class SpecialPackageBookingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + requestId));
     }
 
+    // -----------------------------------------
+    // PRICING: bookingSubtotal from the resolved package, dancing package,
+    //          dress selections and extra performers (formula above, step 8).
+    //
+    // Pure computation over entities that createBooking already loaded;
+    // package-private and static so the benchmarks module can call it.
+    // -----------------------------------------
+    static double calculateSubtotal(
+            SpecialPackage specialPackage,
+            DancingGroupPackage resolvedDancingPackage,
+            List<RequestDressSelection> dressSelections,
+            List<RequestExtraPerformer> extraPerformers
+    ) {
+        double basePackagePrice = specialPackage.getFinalPrice() != null
+                ? specialPackage.getFinalPrice() : 0.0;
+
+        // ── Dancing adjustment ────────────────────────────────────────────
+        double defaultDancingPrice = 0.0;
+        if (specialPackage.getLinkedDancingPackage() != null
+                && specialPackage.getLinkedDancingPackage().getTotalPrice() != null) {
+            defaultDancingPrice = specialPackage.getLinkedDancingPackage().getTotalPrice();
+        }
+
+        double selectedDancingPrice = 0.0;
+        if (resolvedDancingPackage != null && resolvedDancingPackage.getTotalPrice() != null) {
+            selectedDancingPrice = resolvedDancingPackage.getTotalPrice();
+        }
+
+        double dancingAdjustment = selectedDancingPrice - defaultDancingPrice;
+
+        // ── Extra performers ──────────────────────────────────────────────
+        double extraPerformersTotal = 0.0;
+        for (RequestExtraPerformer extra : extraPerformers) {
+            DancingPerformerType pt = extra.getPerformerType();
+            extraPerformersTotal += (pt.getPricePerUnit() != null ? pt.getPricePerUnit() : 0.0)
+                    * (extra.getQuantity() != null ? extra.getQuantity() : 0);
+        }
+
+        // ── Category dress price adjustment ──────────────────────────────
+        //
+        // Extract the base prices that were baked into the special package
+        // using special_item_type name matching:
+        //   "groom"   → matches "Groom Dressing"   (25000)
+        //   "bestmen" → matches "Bestmen Dressing"  (15000)
+        //   "pageboy" → matches "Pageboy Dressing"  (8500)
+        //
+        // If the selected dress belongs to a category with different prices,
+        // we adjust the subtotal by the difference.
+        //
+        double baseGroomPrice   = getBaseRolePrice(specialPackage, "groom");
+        double baseBestmanPrice = getBaseRolePrice(specialPackage, "bestmen");
+        double basePageboyPrice = getBaseRolePrice(specialPackage, "pageboy");
+
+        double groomAdjustment   = 0.0;
+        double bestmanAdjustment = 0.0;
+        double pageboyAdjustment = 0.0;
+
+        for (RequestDressSelection selection : dressSelections) {
+            Category cat = selection.getDressItem().getCategory();
+
+            if (selection.getRole() == DressRole.GROOM && baseGroomPrice > 0) {
+                Double catPrice = cat.getGroomDressPrice();
+                if (catPrice != null) {
+                    groomAdjustment = catPrice - baseGroomPrice;
+                }
+
+            } else if (selection.getRole() == DressRole.BEST_MAN && baseBestmanPrice > 0) {
+                Double catPrice = cat.getBestmanDressPrice();
+                if (catPrice != null) {
+                    bestmanAdjustment = catPrice - baseBestmanPrice;
+                }
+
+            } else if (selection.getRole() == DressRole.PAGE_BOY && basePageboyPrice > 0) {
+                Double catPrice = cat.getPageBoyDressPrice();
+                if (catPrice != null) {
+                    pageboyAdjustment = catPrice - basePageboyPrice;
+                }
+            }
+        }
+
+        double dressPriceAdjustment = groomAdjustment + bestmanAdjustment + pageboyAdjustment;
+
+        // ── Final subtotal ────────────────────────────────────────────────
+        return basePackagePrice
+                + dancingAdjustment
+                + extraPerformersTotal
+                + dressPriceAdjustment;
+    }
+
     // -----------------------------------------
     // HELPER: Extract base dress price for a role
     //         from the special package's items list.
@@ -394,7 +511,7 @@ public class SpecialPackageBookingService {
     // Returns 0.0 if the package does not include that role's dressing
     // (e.g. SILVER-I has no Bestman/Pageboy → no adjustment applied).
     // -----------------------------------------
-    private double getBaseRolePrice(SpecialPackage pkg, String roleKeyword) {
+    private static double getBaseRolePrice(SpecialPackage pkg, String roleKeyword) {
         return pkg.getItems().stream()
                 .filter(i -> i.getSpecialItemType().getName()
                         .toLowerCase().contains(roleKeyword))
@@ -412,6 +529,11 @@ public class SpecialPackageBookingService {
     //       report consistency even if package prices change later.
     // -----------------------------------------
     private SpecialPackageBookingResponse mapToResponse(RequestSpecialPackage b) {
+        return RequestTimings.timeMapping(b, SpecialPackageBookingService::buildResponse);
+    }
+
+    // Package-private for the benchmarks module
+    static SpecialPackageBookingResponse buildResponse(RequestSpecialPackage b) {
 
         // Dress selections
         List<SpecialPackageBookingResponse.DressSelectionResponse> dressResponses =
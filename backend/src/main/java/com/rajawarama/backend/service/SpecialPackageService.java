@@ -1,5 +1,6 @@
 package com.rajawarama.backend.service;
 
+import com.rajawarama.backend.config.ReadReplica;
 import com.rajawarama.backend.dto.SpecialPackageRequest;
 import com.rajawarama.backend.dto.SpecialPackageResponse;
 import com.rajawarama.backend.entity.DancingGroupPackage;
@@ -9,6 +10,7 @@ import com.rajawarama.backend.entity.SpecialPackage;
 import com.rajawarama.backend.entity.SpecialPackageItem;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.observability.RequestTimings;
 import com.rajawarama.backend.repository.DancingGroupPackageRepository;
 import com.rajawarama.backend.repository.DancingPerformerTypeRepository;
 import com.rajawarama.backend.repository.SpecialPackageRepository;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -115,6 +118,8 @@ public class SpecialPackageService {
         }
     }
 
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<SpecialPackageResponse> getAll() {
         return repository.findAll().stream()
                 .map(this::mapToResponse)
@@ -130,6 +135,10 @@ public class SpecialPackageService {
     }
 
     private SpecialPackageResponse mapToResponse(SpecialPackage pkg) {
+        return RequestTimings.timeMapping(pkg, this::buildResponse);
+    }
+
+    private SpecialPackageResponse buildResponse(SpecialPackage pkg) {
         List<SpecialPackageResponse.SpecialItemResponse> items = pkg.getItems().stream()
                 .map(item -> SpecialPackageResponse.SpecialItemResponse.builder()
                         .id(item.getId())
@@ -151,7 +160,7 @@ public class SpecialPackageService {
                 .linkedDancingPackageId(pkg.getLinkedDancingPackage() != null ? pkg.getLinkedDancingPackage().getId() : null)
                 .linkedDancingPackageName(pkg.getLinkedDancingPackage() != null ? pkg.getLinkedDancingPackage().getName() : null)
                 .items(items)
-                .freeItems(pkg.getFreeItems()) // included in response
+                .freeItems(new ArrayList<>(pkg.getFreeItems())) // copied: single-flight callers serialize it after this session closes
                 .createdAt(pkg.getCreatedAt())
                 .updatedAt(pkg.getUpdatedAt())
                 .build();
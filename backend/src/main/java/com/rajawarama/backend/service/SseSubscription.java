@@ -0,0 +1,132 @@
+package com.rajawarama.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// -----------------------------------------------------------------------------
+// One open SSE connection with its own bounded outbox.
+//
+// Publishers only offer() into the queue and never block on the network;
+// a single drain task per connection (on the sender executor) writes to the
+// emitter, so sends on one emitter are never concurrent. A client that
+// cannot keep up fills its queue: it then gets a "reset" event and the
+// connection is closed, and it reconnects / resyncs instead of holding
+// memory on the server. The same happens when the sender executor is
+// saturated and rejects the drain task: publishers call offer() under the
+// event ring lock, so they must never end up running a send themselves.
+// -----------------------------------------------------------------------------
+@Slf4j
+public class SseSubscription {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> outbox;
+    private final Executor sender;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean closeWhenDrained;
+    private volatile Runnable closeCallback = () -> { };
+
+    public SseSubscription(long timeoutMs, int bufferSize, Executor sender) {
+        this.emitter = new SseEmitter(timeoutMs);
+        this.outbox = new LinkedBlockingQueue<>(bufferSize);
+        this.sender = sender;
+
+        emitter.onCompletion(this::markClosed);
+        emitter.onTimeout(() -> {
+            markClosed();
+            emitter.complete();
+        });
+        emitter.onError(e -> markClosed());
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    // Called once the connection is gone, however it ended
+    public void onClose(Runnable callback) {
+        this.closeCallback = callback;
+    }
+
+    // Queue an event; never blocks. Returns false when the event was not queued.
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get() || closeWhenDrained) return false;
+
+        if (!outbox.offer(event)) {
+            // Too slow: drop the backlog, tell the client to resync, then hang up
+            closeWhenDrained = true;
+            outbox.clear();
+            outbox.offer(SseEmitter.event().name("reset").data("buffer overflow"));
+            scheduleDrain();
+            return false;
+        }
+        return scheduleDrain();
+    }
+
+    public void close() {
+        if (!closed.get()) {
+            markClosed();
+            emitter.complete();
+        }
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private void markClosed() {
+        if (closed.compareAndSet(false, true)) {
+            outbox.clear();
+            closeCallback.run();
+        }
+    }
+
+    // Returns false when the sender rejected the drain and the connection was closed
+    private boolean scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("SSE sender saturated, closing connection");
+                draining.set(false);
+                close();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = outbox.poll()) != null) {
+                emitter.send(event);
+            }
+            if (closeWhenDrained) {
+                close();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks do the bookkeeping
+            log.debug("SSE send failed: {}", e.getMessage());
+            markClosed();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        // An offer may have slipped in between the last poll and the reset of the flag
+        if (!closed.get() && !outbox.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
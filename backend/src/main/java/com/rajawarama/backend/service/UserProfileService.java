@@ -6,22 +6,27 @@ import com.rajawarama.backend.dto.UpdateProfileRequest;
 import com.rajawarama.backend.entity.User;
 import com.rajawarama.backend.exception.BadRequestException;
 import com.rajawarama.backend.exception.ResourceNotFoundException;
+import com.rajawarama.backend.repository.RefreshTokenRepository;
 import com.rajawarama.backend.repository.UserRepository;
+import com.rajawarama.backend.security.AccessTokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PasswordHashingService passwordHashing;
+    private final AccessTokenRevocationRegistry revocationRegistry;
 
     private User getUser(String email) {
         return userRepository.findByEmailAndIsDeletedFalse(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found!"));
     }
 
+    @Transactional(readOnly = true)
     public ProfileResponse getProfile(String email) {
         User user = getUser(email);
         return  new ProfileResponse(
@@ -48,10 +53,12 @@ public class UserProfileService {
     }
     
 
+    // Ends every session: the refresh token is removed and access tokens are revoked
+    @Transactional
     public void changePassword(String email, ChangePasswordRequest request) {
         User user = getUser(email);
 
-        if (!passwordEncoder.matches(
+        if (!passwordHashing.matches(
                 request.getCurrentPassword(),
                 user.getPasswordHash()
         )) {
@@ -62,7 +69,7 @@ public class UserProfileService {
             throw new BadRequestException("Passwords do not match!");
         }
 
-        if (passwordEncoder.matches(
+        if (passwordHashing.matches(
                 request.getNewPassword(),
                 user.getPasswordHash()
         )) {
@@ -70,16 +77,25 @@ public class UserProfileService {
         }
 
         user.setPasswordHash(
-                passwordEncoder.encode(request.getNewPassword())
+                passwordHashing.encode(request.getNewPassword())
         );
 
         userRepository.save(user);
+
+        // Tokens issued with the old password stop working
+        refreshTokenRepository.findByUser(user)
+                .ifPresent(refreshTokenRepository::delete);
+        revocationRegistry.revoke(user.getUserId());
     }
 
+    @Transactional
     public void deleteAccount(String email){
         User user = getUser(email);
         user.softDelete();
         userRepository.save(user);
+        refreshTokenRepository.findByUser(user)
+                .ifPresent(refreshTokenRepository::delete);
+        revocationRegistry.revoke(user.getUserId());
     }
 
 }
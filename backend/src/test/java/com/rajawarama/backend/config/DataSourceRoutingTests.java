@@ -0,0 +1,122 @@
+package com.rajawarama.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Primary and replica as two in-memory H2 databases; each call reports the database it ran on
+@SpringJUnitConfig(DataSourceRoutingTests.TestConfig.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary_db;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.url=jdbc:h2:mem:replica_db;DB_CLOSE_DELAY=-1",
+        "app.datasource.report.statement-timeout-ms=0"
+})
+class DataSourceRoutingTests {
+
+    private static final String PRIMARY = "PRIMARY_DB";
+    private static final String REPLICA = "REPLICA_DB";
+
+    @Autowired
+    private Probe probe;
+
+    @Test
+    void unmarkedReadsUseThePrimary() {
+        assertEquals(PRIMARY, probe.plain());
+        assertEquals(PRIMARY, probe.readOnlyTransaction());
+    }
+
+    @Test
+    void readReplicaMethodsUseTheReplica() {
+        assertEquals(REPLICA, probe.replicaRead());
+        assertEquals(REPLICA, probe.replicaReadOnlyTransaction());
+    }
+
+    @Test
+    void readReplicaInsideAReadWriteTransactionStaysOnThePrimary() {
+        assertEquals(PRIMARY, probe.readWriteTransactionCallingReplicaRead());
+    }
+
+    @Test
+    void explicitRouteWinsOverReadReplica() {
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.use(DataSourceRoute.Target.PRIMARY)) {
+            assertEquals(PRIMARY, probe.replicaRead());
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({DataSourceConfig.class, ReadReplicaRouting.class})
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        Probe probe(DataSource dataSource) {
+            return new Probe(new JdbcTemplate(dataSource));
+        }
+    }
+
+    static class Probe {
+
+        private final JdbcTemplate jdbc;
+        private Probe self;
+
+        Probe(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Autowired
+        void setSelf(@Lazy Probe self) {
+            this.self = self;
+        }
+
+        String plain() {
+            return database();
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnlyTransaction() {
+            return database();
+        }
+
+        @ReadReplica
+        public String replicaRead() {
+            return database();
+        }
+
+        @ReadReplica
+        @Transactional(readOnly = true)
+        public String replicaReadOnlyTransaction() {
+            return database();
+        }
+
+        @Transactional
+        public String readWriteTransactionCallingReplicaRead() {
+            return self.replicaRead();
+        }
+
+        private String database() {
+            return jdbc.queryForObject("select database()", String.class);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.rajawarama.backend.load;
+
+import com.rajawarama.backend.observability.ServerTimingFilter;
+import com.rajawarama.backend.seed.SyntheticDataSeeder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// -----------------------------------------------------------------------------
+// End-to-end load test with query-count and latency gates.
+//
+// Boots the application on a random port against in-memory H2 with the seed
+// profile (application-loadtest.properties: a few thousand bookings per type),
+// then drives the main flows concurrently over HTTP:
+//
+//   customers – sign up, log in, browse the catalog, create special / dancing /
+//               dress-only bookings, accept the quoted price
+//   admin     – booking lists and inbox, set price (quote), approve,
+//               report stats and CSV exports, while the customers are busy
+//
+// Every response carries the statement count in its Server-Timing header.
+// Each endpoint group has a statement budget that does not depend on the
+// amount of data (an N+1 on the admin list turns into hundreds of statements)
+// and a p99 latency ceiling. Ceilings can be scaled for slow machines with
+// -Dloadtest.latency-factor=2.
+// -----------------------------------------------------------------------------
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"seed", "loadtest"})
+class BookingFlowLoadTests {
+
+    private static final int CUSTOMERS = 24;
+    private static final int ROUNDS = 3;
+    private static final int THREADS = 16;
+    private static final int WARM_UP_ROUNDS = 3;
+
+    // Smallest admin list the statement budget is checked against
+    private static final int MIN_ADMIN_LIST_ROWS = 100;
+
+    private static final String[] BOOKING_TYPES = {"special-packages", "dancing-packages", "dress-only"};
+
+    private record Budget(int maxStatements, long p99Millis) {
+    }
+
+    // Raise a statement budget only together with the change that needs it
+    private static final Map<String, Budget> BUDGETS = Map.ofEntries(
+            entry("signup",         new Budget(3, 1_000)),
+            entry("login",          new Budget(4, 1_500)),
+            entry("catalog",        new Budget(5, 500)),
+            entry("calendar",       new Budget(0, 500)),
+            entry("create booking", new Budget(24, 1_500)),
+            entry("accept price",   new Budget(9, 1_000)),
+            entry("set price",      new Budget(11, 1_000)),
+            entry("approve",        new Budget(11, 1_000)),
+            entry("admin list",     new Budget(3, 3_000)),
+            entry("admin inbox",    new Budget(1, 1_000)),
+            entry("report stats",   new Budget(8, 3_000)),
+            entry("report csv",     new Budget(2, 2_000))
+    );
+
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    @Value("${local.server.port}")
+    private int port;
+
+    private RestClient http;
+    private final Recorder recorder = new Recorder();
+
+    private record Booking(String type, String requestId, String customerToken) {
+    }
+
+    @Test
+    void mainFlowsStayWithinStatementBudgetsAndLatencyCeilings() throws Exception {
+        http = RestClient.builder().baseUrl("http://localhost:" + port).build();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            String adminToken = login(SyntheticDataSeeder.EMAIL_PREFIX + "admin-00000@example.com",
+                    SyntheticDataSeeder.PASSWORD);
+
+            // Catalog ids for the booking requests
+            List<Map<String, Object>> specialPackages = list(call("catalog", HttpMethod.GET, "/api/public/special-packages", null, null));
+            List<Map<String, Object>> dancingPackages = list(call("catalog", HttpMethod.GET, "/api/public/dancing-packages", null, null));
+            List<Map<String, Object>> dressItems = list(call("catalog", HttpMethod.GET, "/api/public/dress-items", null, null));
+            assertTrue(specialPackages.size() >= ROUNDS && dancingPackages.size() >= ROUNDS && !dressItems.isEmpty(),
+                    "seed catalog is missing");
+
+            // Warm-up: JIT and caches, not measured. One customer walks the
+            // write path too, so its first requests do not land in the p99
+            recorder.paused = true;
+            call("signup", HttpMethod.POST, "/api/auth/signup", null, Map.of(
+                    "email", "load-warm-up@example.com", "fullName", "Load Warm-up",
+                    "password", "Load@12345", "phone", "0779999999"));
+            String warmUpToken = login("load-warm-up@example.com", "Load@12345");
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                browse();
+                adminReads(adminToken);
+                // Past the measured event dates, one package per round
+                for (Booking booking : createBookings(warmUpToken, LocalDate.now().plusDays(1_100 + i),
+                        specialPackages.get(i), dancingPackages.get(i), id(dressItems.get(i % dressItems.size()), "dressItemId"))) {
+                    quote(booking, adminToken);
+                    acceptPrice(booking);
+                    approve(booking, adminToken);
+                }
+            }
+            recorder.paused = false;
+
+            // Customers sign up and log in
+            List<String> customerTokens = runAll(pool, CUSTOMERS, c -> {
+                String email = "load-customer-" + c + "@example.com";
+                call("signup", HttpMethod.POST, "/api/auth/signup", null, Map.of(
+                        "email", email, "fullName", "Load Customer " + c,
+                        "password", "Load@12345", "phone", "0770000" + String.format("%03d", c)));
+                return login(email, "Load@12345");
+            });
+
+            // Customers browse and book while the admin reads lists and reports
+            Future<?> adminTraffic = pool.submit(() -> {
+                for (int i = 0; i < ROUNDS; i++) adminReads(adminToken);
+                return null;
+            });
+            List<List<Booking>> perCustomer = runAll(pool, CUSTOMERS, c -> {
+                List<Booking> created = new ArrayList<>();
+                String token = customerTokens.get(c);
+                for (int round = 0; round < ROUNDS; round++) {
+                    browse();
+                    // Far beyond the seeded events, one package per round (no duplicate active bookings)
+                    LocalDate eventDate = LocalDate.now().plusDays(400 + (c * ROUNDS + round) % 600);
+                    String dressItemId = id(dressItems.get((c + round) % dressItems.size()), "dressItemId");
+                    created.addAll(createBookings(token, eventDate,
+                            specialPackages.get(round), dancingPackages.get(round), dressItemId));
+                }
+                return created;
+            });
+            adminTraffic.get();
+            List<Booking> bookings = perCustomer.stream().flatMap(List::stream).toList();
+
+            // Quote → accept → approve, each step concurrently over all new bookings
+            runAll(pool, bookings.size(), i -> quote(bookings.get(i), adminToken));
+            runAll(pool, bookings.size(), i -> acceptPrice(bookings.get(i)));
+            runAll(pool, bookings.size(), i -> approve(bookings.get(i), adminToken));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        recorder.report();
+        recorder.assertWithinBudgets();
+    }
+
+    // -----------------------------------------
+    // FLOWS
+    // -----------------------------------------
+    private void browse() {
+        call("catalog", HttpMethod.GET, "/api/public/special-packages", null, null);
+        call("catalog", HttpMethod.GET, "/api/public/dancing-packages", null, null);
+        call("catalog", HttpMethod.GET, "/api/public/dress-items", null, null);
+        call("catalog", HttpMethod.GET, "/api/public/performer-types", null, null);
+        call("calendar", HttpMethod.GET, "/api/public/calendar", null, null);
+    }
+
+    private void adminReads(String adminToken) {
+        for (String type : BOOKING_TYPES) {
+            List<Map<String, Object>> rows = list(call("admin list", HttpMethod.GET,
+                    "/api/admin/booking-requests/" + type + "?status=COMPLETED", adminToken, null));
+            assertTrue(rows.size() >= MIN_ADMIN_LIST_ROWS,
+                    "admin list for " + type + " has only " + rows.size() + " rows; the O(1) check needs more data");
+        }
+        call("admin inbox", HttpMethod.GET, "/api/admin/bookings/inbox?status=PENDING", adminToken, null);
+        call("report stats", HttpMethod.GET, "/api/admin/reports/stats?period=monthly", adminToken, null);
+        download("/api/admin/reports/special-bookings/csv", adminToken);
+        download("/api/admin/reports/dancing-bookings/csv", adminToken);
+        download("/api/admin/reports/dress-only-bookings/csv", adminToken);
+        download("/api/admin/reports/users/csv", adminToken);
+    }
+
+    // One special, one dancing and one dress-only booking for the event date
+    private List<Booking> createBookings(String token, LocalDate eventDate, Map<String, Object> specialPackage,
+                                         Map<String, Object> dancingPackage, String dressItemId) {
+        List<Booking> created = new ArrayList<>();
+        created.add(new Booking("special-packages", id(map(call("create booking", HttpMethod.POST,
+                "/api/bookings/special-packages", token, Map.of(
+                        "specialPackageId", id(specialPackage, "id"),
+                        "hotelName", "Load Hotel", "nearestCity", "Bandarawela",
+                        "eventDate", eventDate.toString(), "contactNo", "0771234567",
+                        "dressSelections", List.of(Map.of("role", "GROOM", "dressItemId", dressItemId))
+                ))), "requestId"), token));
+
+        created.add(new Booking("dancing-packages", id(map(call("create booking", HttpMethod.POST,
+                "/api/bookings/dancing-packages", token, Map.of(
+                        "dancingPackageId", id(dancingPackage, "id"),
+                        "hotelName", "Load Hotel", "nearestCity", "Badulla",
+                        "eventDate", eventDate.toString(), "contactNo", "0771234567"
+                ))), "requestId"), token));
+
+        created.add(new Booking("dress-only", id(map(call("create booking", HttpMethod.POST,
+                "/api/bookings/dress-only", token, Map.of(
+                        "hotelName", "Load Hotel", "nearestCity", "Ella",
+                        "eventDate", eventDate.toString(), "contactNo", "0771234567",
+                        "dressSelections", List.of(
+                                Map.of("role", "GROOM", "dressItemId", dressItemId, "quantity", 1),
+                                Map.of("role", "BEST_MAN", "dressItemId", dressItemId, "quantity", 2))
+                ))), "requestId"), token));
+        return created;
+    }
+
+    private Object quote(Booking booking, String adminToken) {
+        return call("set price", HttpMethod.PUT,
+                "/api/admin/booking-requests/" + booking.type() + "/" + booking.requestId() + "/set-price",
+                adminToken, Map.of("transportPrice", 3_500.0));
+    }
+
+    private Object acceptPrice(Booking booking) {
+        return call("accept price", HttpMethod.PUT,
+                "/api/bookings/" + booking.type() + "/" + booking.requestId() + "/accept-price",
+                booking.customerToken(), null);
+    }
+
+    private Object approve(Booking booking, String adminToken) {
+        return call("approve", HttpMethod.PUT,
+                "/api/admin/booking-requests/" + booking.type() + "/" + booking.requestId() + "/approve",
+                adminToken, null);
+    }
+
+    private String login(String email, String password) {
+        Map<String, Object> auth = map(call("login", HttpMethod.POST, "/api/auth/login", null,
+                Map.of("email", email, "password", password)));
+        return (String) auth.get("accessToken");
+    }
+
+    // -----------------------------------------
+    // HTTP
+    // -----------------------------------------
+
+    // JSON endpoints: maps and lists
+    private Object call(String group, HttpMethod method, String path, String token, Object body) {
+        return call(group, method, path, token, body, Object.class);
+    }
+
+    // CSV exports
+    private String download(String path, String token) {
+        return call("report csv", HttpMethod.GET, path, token, null, String.class);
+    }
+
+    // One request: latency and statement count go to the recorder, non-2xx fails the test
+    private <T> T call(String group, HttpMethod method, String path, String token, Object body, Class<T> type) {
+        RestClient.RequestBodySpec request = http.method(method).uri(path);
+        if (token != null) request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        if (body != null) request.body(body);
+
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<T> response = request.retrieve().toEntity(type);
+            recorder.record(group, method + " " + path, System.nanoTime() - start,
+                    response.getHeaders().getFirst(ServerTimingFilter.HEADER));
+            return response.getBody();
+        } catch (RestClientResponseException e) {
+            throw new AssertionError(method + " " + path + " → " + e.getStatusCode() + ": "
+                    + e.getResponseBodyAsString(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object body) {
+        return (Map<String, Object>) body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Object body) {
+        return (List<Map<String, Object>>) body;
+    }
+
+    private static String id(Map<String, Object> json, String field) {
+        return String.valueOf(json.get(field));
+    }
+
+    // Run task(0..n-1) on the pool and wait; the first failure fails the test
+    private static <T> List<T> runAll(ExecutorService pool, int n, IndexedTask<T> task) throws Exception {
+        List<Future<T>> futures = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            final int index = i;
+            futures.add(pool.submit(() -> task.run(index)));
+        }
+        List<T> results = new ArrayList<>(n);
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get(2, TimeUnit.MINUTES));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error error) throw error;
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask<T> {
+        T run(int index) throws Exception;
+    }
+
+    // -----------------------------------------
+    // MEASUREMENTS
+    // -----------------------------------------
+    private static final class Recorder {
+
+        private record Sample(String endpoint, long nanos, int statements) {
+        }
+
+        private final Map<String, Queue<Sample>> samples = new ConcurrentHashMap<>();
+        private volatile boolean paused;
+
+        void record(String group, String endpoint, long nanos, String serverTiming) {
+            if (paused) return;
+            assertTrue(BUDGETS.containsKey(group), "no budget for " + group);
+            samples.computeIfAbsent(group, g -> new ConcurrentLinkedQueue<>())
+                    .add(new Sample(endpoint, nanos, statements(endpoint, serverTiming)));
+        }
+
+        void report() {
+            samples.forEach((group, list) -> {
+                long[] sorted = sortedNanos(list);
+                log.info("load test {}: n={} p50={} ms p99={} ms max statements={}",
+                        group, sorted.length,
+                        percentile(sorted, 0.50) / 1_000_000, percentile(sorted, 0.99) / 1_000_000,
+                        list.stream().mapToInt(Sample::statements).max().orElse(0));
+            });
+        }
+
+        void assertWithinBudgets() {
+            double latencyFactor = Double.parseDouble(System.getProperty("loadtest.latency-factor", "1"));
+            List<String> failures = new ArrayList<>();
+
+            assertEquals(new TreeSet<>(BUDGETS.keySet()), new TreeSet<>(samples.keySet()), "every endpoint group should have been exercised");
+
+            samples.forEach((group, list) -> {
+                Budget budget = BUDGETS.get(group);
+
+                Sample heaviest = list.stream().max(Comparator.comparingInt(Sample::statements)).orElseThrow();
+                if (heaviest.statements() > budget.maxStatements()) {
+                    failures.add(group + ": " + heaviest.endpoint() + " ran " + heaviest.statements()
+                            + " SQL statements, budget " + budget.maxStatements());
+                }
+
+                long p99Millis = percentile(sortedNanos(list), 0.99) / 1_000_000;
+                long ceiling = Math.round(budget.p99Millis() * latencyFactor);
+                if (p99Millis > ceiling) {
+                    failures.add(group + ": p99 " + p99Millis + " ms over " + list.size()
+                            + " requests, ceiling " + ceiling + " ms");
+                }
+            });
+
+            assertTrue(failures.isEmpty(), "Load test budgets exceeded:\n  " + String.join("\n  ", failures));
+        }
+
+        private static int statements(String endpoint, String serverTiming) {
+            Matcher m = serverTiming != null ? STATEMENTS.matcher(serverTiming) : null;
+            if (m == null || !m.find()) {
+                throw new AssertionError(endpoint + " returned no statement count in Server-Timing");
+            }
+            return Integer.parseInt(m.group(1));
+        }
+
+        private static long[] sortedNanos(Collection<Sample> list) {
+            return list.stream().mapToLong(Sample::nanos).sorted().toArray();
+        }
+
+        // Nearest-rank percentile
+        private static long percentile(long[] sorted, double p) {
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.rajawarama.backend.observability;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerTimingFilterTests {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(0, Long.MAX_VALUE);
+
+    @Test
+    void largeBodyIsWrittenThroughWithoutBuffering() throws Exception {
+        byte[] body = new byte[1024 * 1024];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> committedWhileWriting = new AtomicReference<>(false);
+
+        FilterChain chain = (req, res) -> {
+            res.getOutputStream().write(body);
+            // the container response already holds the bytes before the filter returns
+            committedWhileWriting.set(res.isCommitted());
+        };
+        filter.doFilter(request("/api/admin/reports/bookings.csv"), response, chain);
+
+        assertTrue(committedWhileWriting.get());
+        assertArrayEquals(body, response.getContentAsByteArray());
+        assertNotNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+
+    @Test
+    void headerIsSetBeforeTheFirstWriterFlush() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FilterChain chain = (req, res) -> {
+            res.getWriter().write("{\"ok\":true}");
+            res.getWriter().flush();
+        };
+        filter.doFilter(request("/api/categories"), response, chain);
+
+        assertEquals("{\"ok\":true}", response.getContentAsString());
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).startsWith("db;dur="));
+    }
+
+    @Test
+    void headerIsSetWhenThereIsNoBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/auth/logout"), response, (req, res) -> { });
+
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).contains("total;dur="));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,82 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.LoginEvent;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LoginEventRepositoryTests {
+
+    @Autowired
+    private LoginEventRepository loginEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void saveAllInsertsWithoutSelectingFirst() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LoginEvent> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(new LoginEvent(user(), now, now.plusDays(7)));
+        }
+        loginEventRepository.saveAll(events);
+        loginEventRepository.flush();
+
+        assertEquals(20, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());   // one batched INSERT
+    }
+
+    @Test
+    void retentionDeletesOnlyOldRowsInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<LoginEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(new LoginEvent(user(), now.minusDays(400), null));
+        }
+        events.add(new LoginEvent(user(), now, null));
+        loginEventRepository.saveAllAndFlush(events);
+
+        LocalDateTime cutoff = now.minusDays(365);
+        List<UUID> chunk = loginEventRepository.findIdsOlderThan(cutoff, PageRequest.of(0, 3));
+        assertEquals(3, chunk.size());
+        assertEquals(3, loginEventRepository.deleteByIdIn(chunk));
+
+        assertEquals(2, loginEventRepository.findIdsOlderThan(cutoff, PageRequest.of(0, 3)).size());
+        assertEquals(3, loginEventRepository.count());
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setUserId(UUID.randomUUID());
+        user.setEmail("login@example.com");
+        user.setFullName("Login Test");
+        user.setRole(Role.CUSTOMER);
+        return user;
+    }
+}
@@ -0,0 +1,86 @@
+package com.rajawarama.backend.repository;
+
+import com.rajawarama.backend.entity.RefreshToken;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class RefreshTokenRepositoryTests {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void rotationReplacesTheCurrentHash() {
+        RefreshToken token = token(hash('a'), LocalDateTime.now().plusDays(7));
+
+        LocalDateTime expiry = LocalDateTime.now().plusDays(14).truncatedTo(ChronoUnit.SECONDS);
+        assertEquals(1, refreshTokenRepository.rotate(token.getId(), hash('a'), hash('b'), expiry));
+        entityManager.clear();
+
+        assertTrue(refreshTokenRepository.findByTokenHash(hash('a')).isEmpty());
+        RefreshToken rotated = refreshTokenRepository.findByTokenHash(hash('b')).orElseThrow();
+        assertEquals(token.getId(), rotated.getId());
+        assertEquals(expiry, rotated.getExpiryDate());
+    }
+
+    @Test
+    void rotatingWithAnAlreadyRotatedHashChangesNothing() {
+        RefreshToken token = token(hash('a'), LocalDateTime.now().plusDays(7));
+        LocalDateTime expiry = LocalDateTime.now().plusDays(14);
+
+        // Two refreshes that both read hash 'a': only the first one wins
+        assertEquals(1, refreshTokenRepository.rotate(token.getId(), hash('a'), hash('b'), expiry));
+        assertEquals(0, refreshTokenRepository.rotate(token.getId(), hash('a'), hash('c'), expiry));
+        entityManager.clear();
+
+        assertTrue(refreshTokenRepository.findByTokenHash(hash('b')).isPresent());
+        assertTrue(refreshTokenRepository.findByTokenHash(hash('c')).isEmpty());
+    }
+
+    @Test
+    void expiredIdsComeInBoundedChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        for (char c = 'a'; c < 'e'; c++) {
+            token(hash(c), now.minusDays(1));
+        }
+        token(hash('z'), now.plusDays(1));
+
+        List<UUID> chunk = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 3));
+        assertEquals(3, chunk.size());
+        assertEquals(3, refreshTokenRepository.deleteByIdIn(chunk));
+
+        assertEquals(1, refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 3)).size());
+        assertEquals(2, refreshTokenRepository.count());
+    }
+
+    private RefreshToken token(String tokenHash, LocalDateTime expiry) {
+        User user = entityManager.persist(new User(
+                UUID.randomUUID() + "@example.com", "Refresh Test", "hash", null, Role.CUSTOMER));
+        return entityManager.persistFlushFind(new RefreshToken(user, tokenHash, expiry));
+    }
+
+    private static String hash(char c) {
+        return String.valueOf(c).repeat(64);
+    }
+}
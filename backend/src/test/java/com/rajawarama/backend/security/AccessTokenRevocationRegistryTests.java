@@ -0,0 +1,54 @@
+package com.rajawarama.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessTokenRevocationRegistryTests {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final AccessTokenRevocationRegistry registry = new AccessTokenRevocationRegistry();
+
+    @Test
+    void tokenIssuedRightAfterRevokeInTheSameSecondIsAccepted() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        awaitStartOfSecond();
+
+        Claims before = issue(userId);
+        Thread.sleep(2);
+        registry.revoke(userId);     // logout
+        Thread.sleep(2);
+        Claims after = issue(userId); // login again
+
+        assertEquals(before.getIssuedAt(), after.getIssuedAt(), "both tokens should share the same iat second");
+        assertTrue(registry.isRevoked(userId, JwtUtil.issuedAtMillis(before)));
+        assertFalse(registry.isRevoked(userId, JwtUtil.issuedAtMillis(after)));
+    }
+
+    @Test
+    void otherUsersAreNotRevoked() {
+        UUID userId = UUID.randomUUID();
+        Claims token = issue(userId);
+
+        registry.revoke(UUID.randomUUID());
+
+        assertFalse(registry.isRevoked(userId, JwtUtil.issuedAtMillis(token)));
+    }
+
+    private Claims issue(UUID userId) {
+        String token = jwtUtil.generateAccessToken("user@example.com", "CUSTOMER", userId.toString());
+        return jwtUtil.parseValidClaims(token);
+    }
+
+    // Leave room for the whole test within one wall-clock second
+    private static void awaitStartOfSecond() throws InterruptedException {
+        while (System.currentTimeMillis() % 1000 > 100) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.rajawarama.backend.security;
+
+import com.rajawarama.backend.config.DataSourceRoute;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadFilterTests {
+
+    private static final String REPORT = "/api/admin/reports/stats";
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void permitIsReleasedWhenTheRequestFails() throws Exception {
+        BulkheadFilter filter = filter(1, 0, 0);
+        FilterChain failing = (request, response) -> {
+            throw new ServletException("controller failed");
+        };
+
+        assertThrows(ServletException.class, () -> filter.doFilter(get(REPORT), new MockHttpServletResponse(), failing));
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(get(REPORT), new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        // No line and no wait: this only passes if both permits came back
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(get(REPORT), response, chain);
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void fullLineIsRejectedAtOnce() throws Exception {
+        BulkheadFilter filter = filter(1, 1, 10_000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<MockHttpServletResponse> holder = pool.submit(() -> run(filter, blockingChain(release)));
+        awaitUntil(() -> permits(filter).availablePermits() == 0);
+        Future<MockHttpServletResponse> waiter = pool.submit(() -> run(filter, new MockFilterChain()));
+        awaitUntil(() -> permits(filter).getQueueLength() == 1);
+
+        long start = System.nanoTime();
+        MockHttpServletResponse rejected = run(filter, new MockFilterChain());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000, "must not wait in a full line");
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+
+        release.countDown();
+        assertEquals(200, holder.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, waiter.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, permits(filter).availablePermits());
+    }
+
+    @Test
+    void waitingLongerThanMaxWaitIsRejected() throws Exception {
+        BulkheadFilter filter = filter(1, 4, 200);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<MockHttpServletResponse> holder = pool.submit(() -> run(filter, blockingChain(release)));
+        awaitUntil(() -> permits(filter).availablePermits() == 0);
+
+        long start = System.nanoTime();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = run(filter, chain);
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(503, rejected.getStatus());
+        assertNull(chain.getRequest());
+        assertTrue(waitedMs >= 200, "rejected after " + waitedMs + " ms");
+
+        release.countDown();
+        assertEquals(200, holder.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, permits(filter).availablePermits());
+    }
+
+    @Test
+    void reportRequestsRunOnTheReportPool() throws Exception {
+        BulkheadFilter filter = filter(1, 0, 0);
+        AtomicReference<DataSourceRoute.Target> route = new AtomicReference<>();
+
+        filter.doFilter(get(REPORT), new MockHttpServletResponse(), (request, response) -> route.set(DataSourceRoute.current()));
+
+        assertEquals(DataSourceRoute.Target.REPORT, route.get());
+        assertFalse(DataSourceRoute.isExplicit());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // Same limits for every group
+    private static BulkheadFilter filter(int maxConcurrent, int maxWaiting, long maxWaitMs) {
+        return new BulkheadFilter(
+                maxConcurrent, maxWaiting, maxWaitMs, maxConcurrent, maxWaiting, maxWaitMs,
+                maxConcurrent, maxWaiting, maxWaitMs, maxConcurrent, maxWaiting, maxWaitMs);
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static MockHttpServletResponse run(BulkheadFilter filter, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(get(REPORT), response, chain);
+        return response;
+    }
+
+    private static FilterChain blockingChain(CountDownLatch release) {
+        return (request, response) -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static Semaphore permits(BulkheadFilter filter) {
+        Map<?, ?> bulkheads = (Map<?, ?>) ReflectionTestUtils.getField(filter, "bulkheads");
+        return (Semaphore) ReflectionTestUtils.getField(bulkheads.get(BulkheadFilter.Group.REPORTS), "permits");
+    }
+
+    private static void awaitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.call()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.rajawarama.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MetricsScrapeTokenFilterTests {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void matchingTokenAuthenticatesAsMetrics() throws Exception {
+        scrape(new MetricsScrapeTokenFilter("s3cret"), "Bearer s3cret");
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("ROLE_" + MetricsScrapeTokenFilter.ROLE,
+                authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void wrongTokenStaysAnonymous() throws Exception {
+        scrape(new MetricsScrapeTokenFilter("s3cret"), "Bearer s3cret-not");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void blankTokenDisablesTheFilter() throws Exception {
+        scrape(new MetricsScrapeTokenFilter(""), "Bearer ");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static void scrape(MetricsScrapeTokenFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/actuator/prometheus");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,85 @@
+package com.rajawarama.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTests {
+
+    private final RateLimitFilter filter = new RateLimitFilter(RateLimiterTests.limiter(100, 1, 1));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exhaustedLoginLimitAnswers429WithRetryAfter() throws Exception {
+        assertEquals(200, post("/api/auth/login", "10.0.0.1").getStatus());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/auth/login", "10.0.0.1"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("60", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Too many requests"));
+        assertNull(chain.getRequest(), "a rejected request must not reach the controller");
+
+        // Another client is not affected
+        assertEquals(200, post("/api/auth/login", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void onlyThrottledPostsCount() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("GET", "/api/auth/login", "10.0.0.1"), new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+            assertEquals(200, post("/api/admin/booking-requests/dress-only", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    void bookingCreationIsLimitedPerUser() throws Exception {
+        authenticate("user-1");
+        assertEquals(200, post("/api/bookings/dress-only", "10.0.0.1").getStatus());
+        assertEquals(429, post("/api/bookings/special-packages", "10.0.0.2").getStatus());
+
+        // The per-IP bucket was not charged for the rejected request
+        authenticate("user-2");
+        assertEquals(200, post("/api/bookings/dress-only", "10.0.0.2").getStatus());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private MockHttpServletResponse post(String path, String ip) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", path, ip), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private static void authenticate(String userId) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId + "@example.com", null, List.of());
+        authentication.setDetails(Map.of("userId", userId));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,116 @@
+package com.rajawarama.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTests {
+
+    @Test
+    void retryAfterIsRoundedUpToWholeSeconds() {
+        RateLimiter limiter = limiter(100, 1, 1);
+
+        assertEquals(0, limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1"));
+        assertEquals(60, limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1"));
+    }
+
+    @Test
+    void keysAndGroupsHaveTheirOwnBuckets() {
+        RateLimiter limiter = limiter(100, 1, 1);
+        limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1");
+
+        assertEquals(0, limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.2"));
+        assertEquals(0, limiter.tryAcquire(RateLimiter.Group.SIGNUP_PER_IP, "10.0.0.1"));
+    }
+
+    @Test
+    void missingKeyIsNeverLimited() {
+        RateLimiter limiter = limiter(100, 1, 1);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(RateLimiter.Group.BOOKING_CREATE_PER_USER, null));
+        }
+    }
+
+    @Test
+    void newKeysShareTheOverflowBucketOnceTheMapIsFull() {
+        RateLimiter limiter = limiter(1, 1, 1);
+        limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1");
+
+        assertEquals(0, limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.2"));
+        assertTrue(limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.3") > 0);
+        // Other groups overflow into their own bucket
+        assertEquals(0, limiter.tryAcquire(RateLimiter.Group.SIGNUP_PER_IP, "10.0.0.4"));
+    }
+
+    @Test
+    void concurrentNewKeysNeverTakeMoreThanTheOverflowCapacity() throws Exception {
+        RateLimiter limiter = limiter(1, 50, 1);
+        limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1");
+
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.1." + thread + "." + i) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(50, allowed.get());
+        assertEquals(2, buckets(limiter).size());
+    }
+
+    @Test
+    void sweepDropsRefilledBucketsAndFreesRoomForNewKeys() throws Exception {
+        // One token every 10 µs: refilled long before the sweep runs
+        RateLimiter limiter = limiter(1, 1, 6_000_000);
+        limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.1");
+        assertEquals(1, buckets(limiter).size());
+
+        Thread.sleep(5);
+        limiter.evictIdle();
+
+        assertTrue(buckets(limiter).isEmpty());
+        limiter.tryAcquire(RateLimiter.Group.LOGIN_PER_IP, "10.0.0.2");
+        assertEquals(1, buckets(limiter).size());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+
+    // Same capacity and rate for every group
+    static RateLimiter limiter(int maxKeys, int capacity, int perMinute) {
+        return new RateLimiter(maxKeys,
+                capacity, perMinute, capacity, perMinute, capacity, perMinute,
+                capacity, perMinute, capacity, perMinute, capacity, perMinute);
+    }
+
+    private static Map<?, ?> buckets(RateLimiter limiter) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(limiter, "buckets");
+    }
+}
@@ -0,0 +1,87 @@
+package com.rajawarama.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstUpToCapacityThenWaitForTheNextToken() {
+        TokenBucket bucket = new TokenBucket(3, SECOND, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(SECOND, bucket.tryConsume(0));
+        assertEquals(SECOND / 2, bucket.tryConsume(SECOND / 2));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertEquals(0, bucket.tryConsume(SECOND));
+        assertTrue(bucket.tryConsume(SECOND) > 0);
+        assertEquals(0, bucket.tryConsume(2 * SECOND));
+    }
+
+    @Test
+    void idleTimeNeverBanksMoreThanCapacity() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        long muchLater = 1_000 * SECOND;
+
+        assertEquals(0, bucket.tryConsume(muchLater));
+        assertEquals(0, bucket.tryConsume(muchLater));
+        assertTrue(bucket.tryConsume(muchLater) > 0);
+    }
+
+    @Test
+    void idleOnlyOnceCompletelyRefilled() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        assertTrue(bucket.isIdle(0));
+
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        assertFalse(bucket.isIdle(SECOND));
+        assertTrue(bucket.isIdle(2 * SECOND));
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), 0);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryConsume(0) == 0) taken.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(100, taken.get());
+    }
+}
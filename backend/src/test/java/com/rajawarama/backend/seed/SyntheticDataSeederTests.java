@@ -0,0 +1,98 @@
+package com.rajawarama.backend.seed;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // the seeder commits its own chunks
+class SyntheticDataSeederTests {
+
+    // Everything the seeder writes except users.password_hash (BCrypt salt)
+    private static final Map<String, String> SNAPSHOT = new LinkedHashMap<>();
+
+    static {
+        SNAPSHOT.put("category", "select * from category order by category_id");
+        SNAPSHOT.put("dress_item", "select * from dress_item order by dress_item_id");
+        SNAPSHOT.put("dancing_performer_type", "select * from dancing_performer_type order by performer_type_id");
+        SNAPSHOT.put("dancing_group_package", "select * from dancing_group_package order by dancing_package_id");
+        SNAPSHOT.put("package_performer_quantity", "select * from package_performer_quantity order by 1, 2");
+        SNAPSHOT.put("special_package", "select * from special_package order by special_package_id");
+        SNAPSHOT.put("special_package_item", "select * from special_package_item order by id");
+        SNAPSHOT.put("users", "select user_id, email, full_name, phone, role, created_at, last_login, is_deleted " +
+                "from users order by user_id");
+        SNAPSHOT.put("request_special_packages", "select * from request_special_packages order by sp_request_id");
+        SNAPSHOT.put("request_dancing_packages", "select * from request_dancing_packages order by dp_request_id");
+        SNAPSHOT.put("request_dress_only", "select * from request_dress_only order by request_id");
+        SNAPSHOT.put("request_dress_only_selections", "select * from request_dress_only_selections order by selection_id");
+        SNAPSHOT.put("refresh_tokens", "select * from refresh_tokens order by refresh_token_id");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void sameSeedGivesTheSameRows() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        seeder().seed();
+        Map<String, List<Map<String, Object>>> first = snapshot(jdbc);
+
+        clear(jdbc);
+        seeder().seed();
+        Map<String, List<Map<String, Object>>> second = snapshot(jdbc);
+
+        assertFalse(first.get("request_special_packages").isEmpty());
+        first.forEach((table, rows) -> assertEquals(rows, second.get(table), table));
+
+        clear(jdbc);
+    }
+
+    private SyntheticDataSeeder seeder() {
+        SyntheticDataSeeder seeder = new SyntheticDataSeeder(
+                new BCryptPasswordEncoder(4), dataSource, transactionManager, null);
+        ReflectionTestUtils.setField(seeder, "userCount", 40);
+        ReflectionTestUtils.setField(seeder, "specialBookingCount", 60);
+        ReflectionTestUtils.setField(seeder, "dancingBookingCount", 60);
+        ReflectionTestUtils.setField(seeder, "dressOnlyBookingCount", 60);
+        ReflectionTestUtils.setField(seeder, "batchSize", 25);
+        ReflectionTestUtils.setField(seeder, "randomSeed", 42L);
+        ReflectionTestUtils.setField(seeder, "anchorDate", "2026-01-01");
+        return seeder;
+    }
+
+    private static Map<String, List<Map<String, Object>>> snapshot(JdbcTemplate jdbc) {
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        SNAPSHOT.forEach((table, sql) -> rows.put(table, jdbc.queryForList(sql)));
+        return rows;
+    }
+
+    private static void clear(JdbcTemplate jdbc) {
+        jdbc.execute("set referential_integrity false");
+        List<String> tables = jdbc.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'PUBLIC'", String.class);
+        tables.forEach(table -> jdbc.execute("truncate table " + table));
+        jdbc.execute("set referential_integrity true");
+    }
+}
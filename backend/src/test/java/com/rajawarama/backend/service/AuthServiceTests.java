@@ -0,0 +1,109 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.AuthResponse;
+import com.rajawarama.backend.dto.LoginRequest;
+import com.rajawarama.backend.entity.RefreshToken;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.exception.AuthenticationException;
+import com.rajawarama.backend.exception.TooManyRequestsException;
+import com.rajawarama.backend.repository.RefreshTokenRepository;
+import com.rajawarama.backend.repository.UserRepository;
+import com.rajawarama.backend.security.AccessTokenRevocationRegistry;
+import com.rajawarama.backend.security.JwtUtil;
+import com.rajawarama.backend.security.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashingService passwordHashing = mock(PasswordHashingService.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+
+    private final AuthService authService = new AuthService(
+            userRepository,
+            passwordHashing,
+            jwtUtil,
+            refreshTokenRepository,
+            mock(LoginEventRecorder.class),
+            mock(LastLoginBuffer.class),
+            rateLimiter,
+            mock(AccessTokenRevocationRegistry.class)
+    );
+
+    private final User user = new User("customer@example.com", "Customer", "hash", null, Role.CUSTOMER);
+    private final RefreshToken stored = new RefreshToken(user, "old-hash", LocalDateTime.now().plusDays(7));
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.hashToken("old-token")).thenReturn("old-hash");
+        when(jwtUtil.hashToken("new-token")).thenReturn("new-hash");
+        when(jwtUtil.generateRefreshToken(user.getEmail())).thenReturn("new-token");
+        when(jwtUtil.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("access");
+        when(jwtUtil.refreshTokenExpiry()).thenReturn(LocalDateTime.now().plusDays(7));
+        when(refreshTokenRepository.findByTokenHash("old-hash")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void refreshRotatesOnlyFromThePresentedHash() {
+        when(refreshTokenRepository.rotate(eq(stored.getId()), eq("old-hash"), eq("new-hash"), any())).thenReturn(1);
+
+        AuthResponse response = authService.refreshToken("old-token");
+
+        assertEquals("new-token", response.getRefreshToken());
+        verify(refreshTokenRepository).rotate(eq(stored.getId()), eq("old-hash"), eq("new-hash"), any());
+    }
+
+    @Test
+    void refreshThatLosesTheRotationRaceIsRejected() {
+        // Another refresh with the same token committed first
+        when(refreshTokenRepository.rotate(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(AuthenticationException.class, () -> authService.refreshToken("old-token"));
+    }
+
+    @Test
+    void loginIsLimitedPerEmailWhateverTheCase() {
+        AuthService limited = new AuthService(userRepository, passwordHashing, jwtUtil, refreshTokenRepository,
+                mock(LoginEventRecorder.class), mock(LastLoginBuffer.class),
+                new RateLimiter(100, 100, 100, 2, 1, 100, 100, 100, 100, 100, 100, 100, 100),
+                mock(AccessTokenRevocationRegistry.class));
+        when(userRepository.findByEmailAndIsDeletedFalse(anyString())).thenReturn(Optional.empty());
+
+        // Wrong guesses still use up the account's attempts
+        assertThrows(AuthenticationException.class, () -> limited.login(login("customer@example.com")));
+        assertThrows(AuthenticationException.class, () -> limited.login(login(" Customer@Example.com")));
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> limited.login(login("CUSTOMER@example.com")));
+        assertEquals(60, e.getRetryAfterSeconds());
+        verify(userRepository, times(2)).findByEmailAndIsDeletedFalse(anyString());
+
+        // Another account is not affected
+        assertThrows(AuthenticationException.class, () -> limited.login(login("other@example.com")));
+    }
+
+    private static LoginRequest login(String email) {
+        LoginRequest request = new LoginRequest();
+        ReflectionTestUtils.setField(request, "email", email);
+        ReflectionTestUtils.setField(request, "password", "Wrong@12345");
+        return request;
+    }
+}
@@ -0,0 +1,192 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.repository.ArchivedBookingRepository;
+import com.rajawarama.backend.repository.RequestDancingPackageRepository;
+import com.rajawarama.backend.repository.RequestDressOnlyRepository;
+import com.rajawarama.backend.repository.RequestSpecialPackageRepository;
+import com.rajawarama.backend.seed.SyntheticDataSeeder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // the seeder and the job commit their own chunks
+class BookingArchiveServiceTests {
+
+    private static final String CLOSED = "('COMPLETED', 'CANCELLED', 'REJECTED', 'EXPIRED')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ArchivedBookingRepository archiveRepo;
+
+    @Autowired
+    private RequestSpecialPackageRepository spBookingRepo;
+
+    @Autowired
+    private RequestDancingPackageRepository dpBookingRepo;
+
+    @Autowired
+    private RequestDressOnlyRepository dobBookingRepo;
+
+    @AfterEach
+    void clear() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("set referential_integrity false");
+        List<String> tables = jdbc.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'PUBLIC'", String.class);
+        tables.forEach(table -> jdbc.execute("truncate table " + table));
+        jdbc.execute("set referential_integrity true");
+    }
+
+    @Test
+    void archiveMovesClosedBookingsAndTheirChildrenAsRows() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        seeder().seed();
+
+        int closedSp = count(jdbc, "select count(*) from request_special_packages where status in " + CLOSED);
+        int closedDp = count(jdbc, "select count(*) from request_dancing_packages where status in " + CLOSED);
+        int closedDo = count(jdbc, "select count(*) from request_dress_only where status in " + CLOSED);
+        int openTotal = count(jdbc, "select count(*) from request_special_packages where status not in " + CLOSED)
+                + count(jdbc, "select count(*) from request_dancing_packages where status not in " + CLOSED)
+                + count(jdbc, "select count(*) from request_dress_only where status not in " + CLOSED);
+        int dressSelections = count(jdbc,
+                "select count(*) from request_dress_selections s join request_special_packages r " +
+                        "on r.sp_request_id = s.sp_request_id where r.status in " + CLOSED)
+                + count(jdbc,
+                "select count(*) from request_dress_only_selections s join request_dress_only r " +
+                        "on r.request_id = s.request_id where r.status in " + CLOSED);
+        int extraPerformers = count(jdbc,
+                "select count(*) from request_extra_performers e join request_special_packages r " +
+                        "on r.sp_request_id = e.sp_request_id where r.status in " + CLOSED)
+                + count(jdbc,
+                "select count(*) from dancing_request_extra_performers e join request_dancing_packages r " +
+                        "on r.dp_request_id = e.dp_request_id where r.status in " + CLOSED);
+        assertTrue(closedSp > 0 && closedDp > 0 && closedDo > 0);
+        assertTrue(dressSelections > 0 && extraPerformers > 0);
+
+        Map<String, Integer> counts = runArchiveJob();
+
+        assertEquals(Map.of("specialPackages", closedSp, "dancingPackages", closedDp, "dressOnly", closedDo), counts);
+        assertEquals(closedSp + closedDp + closedDo, count(jdbc, "select count(*) from booking_archive"));
+        assertEquals(dressSelections, count(jdbc, "select count(*) from booking_archive_dress_selection"));
+        assertEquals(extraPerformers, count(jdbc, "select count(*) from booking_archive_extra_performer"));
+
+        // Only open bookings stay live, and no child outlives its booking
+        assertEquals(openTotal, count(jdbc, "select count(*) from request_special_packages")
+                + count(jdbc, "select count(*) from request_dancing_packages")
+                + count(jdbc, "select count(*) from request_dress_only"));
+        assertEquals(0, count(jdbc,
+                "select count(*) from request_dress_selections s where not exists " +
+                        "(select 1 from request_special_packages r where r.sp_request_id = s.sp_request_id)"));
+        assertEquals(0, count(jdbc,
+                "select count(*) from dancing_request_extra_performers e where not exists " +
+                        "(select 1 from request_dancing_packages r where r.dp_request_id = e.dp_request_id)"));
+
+        // Names are copied so the archive reads without the catalog
+        assertEquals(0, count(jdbc,
+                "select count(*) from booking_archive_dress_selection where dress_item_name is null"));
+        assertEquals(0, count(jdbc,
+                "select count(*) from booking_archive where booking_type <> 'DRESS_ONLY' and package_name is null"));
+    }
+
+    @Test
+    void reportRowsCoverLiveAndArchivedBookings() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        seeder().seed();
+        int special = count(jdbc, "select count(*) from request_special_packages");
+        int closedSpecial = count(jdbc, "select count(*) from request_special_packages where status in " + CLOSED);
+        int dressOnly = count(jdbc, "select count(*) from request_dress_only");
+
+        runArchiveJob();
+
+        List<BookingReportRow> rows = archiveService().reportRows(BookingType.SPECIAL_PACKAGE, null, null);
+        assertEquals(special, rows.size());
+        assertEquals(closedSpecial, rows.stream().filter(BookingReportRow::isArchived).count());
+        assertTrue(rows.stream().allMatch(r -> r.getBookingType() == BookingType.SPECIAL_PACKAGE
+                && r.getPackageName() != null && r.getCustomerEmail() != null));
+
+        List<BookingReportRow> dressRows = archiveService().reportRows(BookingType.DRESS_ONLY, null, null);
+        assertEquals(dressOnly, dressRows.size());
+        assertTrue(dressRows.stream().allMatch(r -> r.getPackageName() == null));
+    }
+
+    private BookingArchiveService archiveService() {
+        BookingArchiveService archiveService = new BookingArchiveService(
+                archiveRepo, spBookingRepo, dpBookingRepo, dobBookingRepo, entityManager);
+        ReflectionTestUtils.setField(archiveService, "horizonDays", -1);   // every closed booking is due
+        return archiveService;
+    }
+
+    private Map<String, Integer> runArchiveJob() {
+        BookingArchiveService archiveService = archiveService();
+
+        // Run the job body directly instead of taking the DB lock
+        ScheduledJobRunner jobRunner = mock(ScheduledJobRunner.class);
+        AtomicReference<Map<String, Integer>> result = new AtomicReference<>();
+        when(jobRunner.run(eq("booking-archive"), any(), any())).thenAnswer(invocation -> {
+            Supplier<Map<String, Integer>> task = invocation.getArgument(2);
+            result.set(task.get());
+            return Optional.empty();
+        });
+
+        BookingMaintenanceJobs jobs = new BookingMaintenanceJobs(spBookingRepo, dpBookingRepo, dobBookingRepo,
+                mock(ApplicationEventPublisher.class), jobRunner, archiveService, transactionManager);
+        ReflectionTestUtils.setField(jobs, "chunkSize", 7);   // several chunks per table
+        jobs.archiveClosedBookings();
+        return result.get();
+    }
+
+    private SyntheticDataSeeder seeder() {
+        SyntheticDataSeeder seeder = new SyntheticDataSeeder(
+                new BCryptPasswordEncoder(4), dataSource, transactionManager, null);
+        ReflectionTestUtils.setField(seeder, "userCount", 20);
+        ReflectionTestUtils.setField(seeder, "specialBookingCount", 40);
+        ReflectionTestUtils.setField(seeder, "dancingBookingCount", 40);
+        ReflectionTestUtils.setField(seeder, "dressOnlyBookingCount", 40);
+        ReflectionTestUtils.setField(seeder, "batchSize", 25);
+        ReflectionTestUtils.setField(seeder, "randomSeed", 7L);
+        ReflectionTestUtils.setField(seeder, "anchorDate", "2026-01-01");
+        return seeder;
+    }
+
+    private static int count(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForObject(sql, Integer.class);
+    }
+}
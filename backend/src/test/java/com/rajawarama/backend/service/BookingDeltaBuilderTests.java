@@ -0,0 +1,74 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.booking.BookingDeltaResponse;
+import com.rajawarama.backend.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingDeltaBuilderTests {
+
+    @Test
+    void nextCursorTrailsNowByTheCommitLag() {
+        LocalDateTime before = LocalDateTime.now().minus(BookingDeltaBuilder.COMMIT_LAG);
+        BookingDeltaResponse<String> delta = BookingDeltaBuilder.<String>since(before.minusHours(1).toString()).build();
+        LocalDateTime after = LocalDateTime.now().minus(BookingDeltaBuilder.COMMIT_LAG);
+
+        LocalDateTime next = LocalDateTime.parse(delta.getNextCursor());
+        assertFalse(next.isBefore(before));
+        assertFalse(next.isAfter(after));
+    }
+
+    @Test
+    void nextCursorNeverMovesBackwards() {
+        String future = LocalDateTime.now().plusMinutes(5).toString();
+
+        assertEquals(future, BookingDeltaBuilder.<String>since(future).build().getNextCursor());
+    }
+
+    @Test
+    void changeCommittedWithinTheLagIsSentOnTheNextPoll() {
+        LocalDateTime polledAt = LocalDateTime.now();
+        String cursor = BookingDeltaBuilder.<String>since(polledAt.minusHours(1).toString()).build().getNextCursor();
+
+        // Stamped at flush just before that poll, committed just after it
+        LocalDateTime updatedAt = polledAt.minus(BookingDeltaBuilder.COMMIT_LAG).plus(Duration.ofMillis(500));
+
+        assertFalse(updatedAt.isBefore(BookingDeltaBuilder.since(cursor).since()));
+    }
+
+    @Test
+    void changeCommittedLaterThanTheLagFallsBehindTheCursor() {
+        // Documented limit of the wall-clock cursor: a transaction that stays
+        // open between flush and commit for longer than COMMIT_LAG is missed
+        LocalDateTime polledAt = LocalDateTime.now();
+        String cursor = BookingDeltaBuilder.<String>since(polledAt.minusHours(1).toString()).build().getNextCursor();
+
+        LocalDateTime updatedAt = polledAt.minus(BookingDeltaBuilder.COMMIT_LAG).minus(Duration.ofSeconds(1));
+
+        assertTrue(updatedAt.isBefore(BookingDeltaBuilder.since(cursor).since()));
+    }
+
+    @Test
+    void removedIdsAreReportedOnce() {
+        UUID id = UUID.randomUUID();
+        BookingDeltaBuilder<String> delta = BookingDeltaBuilder.since(LocalDateTime.now().toString());
+        delta.changed("row");
+        delta.removed(id);
+        delta.removed(id);
+
+        BookingDeltaResponse<String> response = delta.build();
+        assertEquals(List.of("row"), response.getChanged());
+        assertEquals(List.of(id), response.getRemoved());
+    }
+
+    @Test
+    void invalidCursorIsABadRequest() {
+        assertThrows(BadRequestException.class, () -> BookingDeltaBuilder.since("yesterday"));
+    }
+}
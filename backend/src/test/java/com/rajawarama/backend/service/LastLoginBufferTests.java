@@ -0,0 +1,78 @@
+package com.rajawarama.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LastLoginBufferTests {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private LastLoginBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("create table users (user_id uuid primary key, last_login timestamp(6))");
+        buffer = new LastLoginBuffer(database, new DataSourceTransactionManager(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void flushWritesTheLatestLoginPerUser() {
+        UUID first = insertUser(null);
+        UUID second = insertUser(null);
+        UUID idle = insertUser(null);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        buffer.record(first, now);
+        buffer.record(first, now.plusMinutes(5));
+        buffer.record(first, now.plusMinutes(1));
+        buffer.record(second, now);
+        buffer.flush();
+
+        assertEquals(now.plusMinutes(5), lastLogin(first));
+        assertEquals(now, lastLogin(second));
+        assertNull(lastLogin(idle));
+    }
+
+    @Test
+    void flushNeverMovesLastLoginBackwards() {
+        LocalDateTime newer = LocalDateTime.of(2026, 1, 1, 12, 0);
+        UUID user = insertUser(newer);
+
+        buffer.record(user, newer.minusHours(1));
+        buffer.flush();
+
+        assertEquals(newer, lastLogin(user));
+    }
+
+    private UUID insertUser(LocalDateTime lastLogin) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("insert into users (user_id, last_login) values (?, ?)", id, lastLogin);
+        return id;
+    }
+
+    private LocalDateTime lastLogin(UUID userId) {
+        return jdbc.queryForObject("select last_login from users where user_id = ?", LocalDateTime.class, userId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.rajawarama.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.rajawarama.backend.entity.OutboxNotification;
+import com.rajawarama.backend.enums.OutboxStatus;
+import com.rajawarama.backend.repository.OutboxNotificationRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationDispatcherTests {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final OutboxNotificationRepository outboxRepository = mock(OutboxNotificationRepository.class);
+    private final ScheduledJobRunner jobRunner = mock(ScheduledJobRunner.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private JavaMailSenderImpl mailSender;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(greenMail.getSmtp().getBindTo());
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        ObjectProvider<JavaMailSender> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenAnswer(invocation -> mailSender);
+
+        // Run the job body directly instead of taking the DB lock
+        when(jobRunner.run(eq("notification-dispatch"), any(), any())).thenAnswer(invocation -> {
+            Supplier<Map<String, Integer>> task = invocation.getArgument(2);
+            task.get();
+            return Optional.empty();
+        });
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        dispatcher = new NotificationDispatcher(outboxRepository, provider, jobRunner, transactionManager);
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "from", "no-reply@rajawarama.lk");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 8);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dueNotificationsAreDeliveredAndMarkedSent() throws Exception {
+        OutboxNotification first = notification("first@example.com", "Booking approved");
+        OutboxNotification second = notification("second@example.com", "Price set");
+        when(outboxRepository.findDue(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(first, second));
+
+        dispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Booking approved", received[0].getSubject());
+        assertEquals("first@example.com", received[0].getAllRecipients()[0].toString());
+        assertEquals("no-reply@rajawarama.lk", received[0].getFrom()[0].toString());
+        assertEquals("Price set", received[1].getSubject());
+
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markSent(sent.capture(), eq(OutboxStatus.SENT), any());
+        assertEquals(List.of(first.getId(), second.getId()), List.copyOf(sent.getValue()));
+    }
+
+    @Test
+    void unreachableServerSchedulesARetry() {
+        mailSender.setPort(1);    // nothing listens there
+        OutboxNotification notification = notification("first@example.com", "Booking approved");
+        when(outboxRepository.findDue(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(notification));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(outboxRepository, never()).markSent(anyList(), any(), any());
+        verify(outboxRepository).saveAll(List.of(notification));
+        assertEquals(1, notification.getAttempts());
+        assertEquals(OutboxStatus.PENDING, notification.getStatus());
+        assertNotNull(notification.getLastError());
+        assertTrue(notification.getNextAttemptAt().isAfter(before));
+    }
+
+    private static OutboxNotification notification(String recipient, String subject) {
+        OutboxNotification n = new OutboxNotification();
+        n.setId(UUID.randomUUID());
+        n.setDedupeKey(UUID.randomUUID().toString());
+        n.setRecipient(recipient);
+        n.setSubject(subject);
+        n.setBody("Hello from Rajawarama");
+        n.setNextAttemptAt(LocalDateTime.now());
+        return n;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.OutboxNotification;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.repository.OutboxNotificationRepository;
+import com.rajawarama.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxWriterTests {
+
+    private final OutboxNotificationRepository outboxRepository = mock(OutboxNotificationRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationOutboxWriter writer = new NotificationOutboxWriter(outboxRepository, userRepository);
+
+    @Test
+    void adminKeysUseTheUserIdSoLongEmailsStillFit() {
+        UUID adminId = UUID.randomUUID();
+        String longEmail = "a".repeat(240) + "@example.com";
+        when(userRepository.findActiveRecipientsByRole(Role.ADMIN))
+                .thenReturn(List.<Object[]>of(new Object[]{adminId, longEmail}));
+
+        UUID requestId = UUID.randomUUID();
+        writer.onStatusChanged(new BookingStatusChangedEvent(BookingType.SPECIAL_PACKAGE, requestId,
+                UUID.randomUUID(), "customer@example.com", LocalDate.now().plusMonths(1),
+                null, RequestStatus.PENDING, 1000.0, null));
+
+        ArgumentCaptor<OutboxNotification> saved = ArgumentCaptor.forClass(OutboxNotification.class);
+        verify(outboxRepository, times(1)).save(saved.capture());
+
+        OutboxNotification notification = saved.getValue();
+        assertEquals(longEmail, notification.getRecipient());
+        assertEquals("SPECIAL_PACKAGE:" + requestId + ":CREATED:admin:" + adminId, notification.getDedupeKey());
+        assertTrue(notification.getDedupeKey().length() <= 200);
+        assertFalse(notification.getDedupeKey().contains("@"));
+    }
+}
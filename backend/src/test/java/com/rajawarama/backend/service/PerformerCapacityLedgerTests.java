@@ -0,0 +1,258 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.DancingGroupPackage;
+import com.rajawarama.backend.entity.DancingPerformerType;
+import com.rajawarama.backend.entity.RequestDancingPackage;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import com.rajawarama.backend.exception.BadRequestException;
+import com.rajawarama.backend.repository.DancingGroupPackageRepository;
+import com.rajawarama.backend.repository.PerformerCapacityHoldRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(PerformerCapacityLedger.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // each case commits or rolls back on its own
+class PerformerCapacityLedgerTests {
+
+    private static final LocalDate EVENT_DATE = LocalDate.now().plusMonths(2);
+
+    @Autowired
+    private PerformerCapacityLedger ledger;
+
+    @Autowired
+    private PerformerCapacityHoldRepository holdRepository;
+
+    @Autowired
+    private DancingGroupPackageRepository dancingPackageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate tx;
+    private DancingPerformerType drummer;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        drummer = tx.execute(s -> {
+            DancingPerformerType type = new DancingPerformerType("Drummer", 5000.0, 10);
+            entityManager.persist(type);
+            return type;
+        });
+        ledger.rebuild();
+    }
+
+    @AfterEach
+    void clear() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("set referential_integrity false");
+        List<String> tables = jdbc.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'PUBLIC'", String.class);
+        tables.forEach(table -> jdbc.execute("truncate table " + table));
+        jdbc.execute("set referential_integrity true");
+    }
+
+    @Test
+    void reservationIsHandedBackWhenTheTransactionRollsBack() {
+        UUID requestId = UUID.randomUUID();
+        tx.executeWithoutResult(s -> {
+            ledger.reserve(requestId, EVENT_DATE, null, Map.of(drummer, 4));
+            assertEquals(4, ledger.committedOn(drummer.getId(), EVENT_DATE));
+            s.setRollbackOnly();
+        });
+
+        assertEquals(0, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(0, holdRepository.count());
+
+        // The full capacity is available again
+        tx.executeWithoutResult(s -> ledger.reserve(UUID.randomUUID(), EVENT_DATE, null, Map.of(drummer, 10)));
+        assertEquals(10, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(1, holdRepository.count());
+    }
+
+    @Test
+    void closingStatusReleasesOnlyAfterCommit() {
+        UUID requestId = UUID.randomUUID();
+        tx.executeWithoutResult(s -> ledger.reserve(requestId, EVENT_DATE, null, Map.of(drummer, 3)));
+
+        // Rolled back: the booking still holds its performers
+        tx.executeWithoutResult(s -> {
+            ledger.onStatusChanged(statusChange(requestId, RequestStatus.APPROVED, RequestStatus.CANCELLED));
+            s.setRollbackOnly();
+        });
+        assertEquals(3, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(1, holdRepository.count());
+
+        // Committed: released, but not before the commit
+        tx.executeWithoutResult(s -> {
+            ledger.onStatusChanged(statusChange(requestId, RequestStatus.APPROVED, RequestStatus.CANCELLED));
+            assertEquals(3, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        });
+        assertEquals(0, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(0, holdRepository.count());
+    }
+
+    @Test
+    void statusChangeThatKeepsTheDateReleasesNothing() {
+        UUID requestId = UUID.randomUUID();
+        tx.executeWithoutResult(s -> ledger.reserve(requestId, EVENT_DATE, null, Map.of(drummer, 3)));
+
+        tx.executeWithoutResult(s ->
+                ledger.onStatusChanged(statusChange(requestId, RequestStatus.PRICE_SET, RequestStatus.APPROVED)));
+
+        assertEquals(3, ledger.committedOn(drummer.getId(), EVENT_DATE));
+    }
+
+    @Test
+    void concurrentReservationsForOneDateNeverOverbook() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(pool.submit(() -> {
+                    try {
+                        tx.executeWithoutResult(s ->
+                                ledger.reserve(UUID.randomUUID(), EVENT_DATE, null, Map.of(drummer, 1)));
+                        accepted.incrementAndGet();
+                    } catch (BadRequestException e) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(10, accepted.get());
+        assertEquals(22, rejected.get());
+        assertEquals(10, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(10, holdRepository.count());
+    }
+
+    @Test
+    void datesOnDifferentStripesDoNotWaitForEachOther() throws Exception {
+        LocalDate nextDay = EVENT_DATE.plusDays(1);
+        Object[] stripes = (Object[]) ReflectionTestUtils.getField(ledger, "stripes");
+        int index = ReflectionTestUtils.invokeMethod(PerformerCapacityLedger.class, "stripeIndex", EVENT_DATE);
+        int nextIndex = ReflectionTestUtils.invokeMethod(PerformerCapacityLedger.class, "stripeIndex", nextDay);
+        assertNotEquals(index, nextIndex);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> sameDate;
+            synchronized (stripes[index]) {
+                Future<?> otherDate = pool.submit(() ->
+                        ledger.reserve(UUID.randomUUID(), nextDay, null, Map.of(drummer, 1)));
+                otherDate.get(10, TimeUnit.SECONDS);
+
+                sameDate = pool.submit(() ->
+                        ledger.reserve(UUID.randomUUID(), EVENT_DATE, null, Map.of(drummer, 1)));
+                assertThrows(TimeoutException.class, () -> sameDate.get(300, TimeUnit.MILLISECONDS));
+            }
+            sameDate.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(1, ledger.committedOn(drummer.getId(), nextDay));
+    }
+
+    @Test
+    void rebuildUsesTheQuantitiesReservedAtBookingTime() {
+        UUID packageId = tx.execute(s -> {
+            DancingGroupPackage pkg = new DancingGroupPackage();
+            pkg.setName("Ves Dancers");
+            pkg.getIncludedPerformers().add(entityManager.find(DancingPerformerType.class, drummer.getId()));
+            pkg.getQuantities().put(drummer.getId(), 3);
+            entityManager.persist(pkg);
+            return pkg.getId();
+        });
+
+        // Booked while the package included 3 drummers
+        UUID requestId = booking(packageId, EVENT_DATE);
+        tx.executeWithoutResult(s -> ledger.reserve(requestId, EVENT_DATE,
+                dancingPackageRepository.findById(packageId).orElseThrow(), Map.of()));
+
+        // Made before hold rows existed: no performer_capacity_hold rows
+        LocalDate legacyDate = EVENT_DATE.plusDays(3);
+        booking(packageId, legacyDate);
+
+        // The package now includes 5 drummers
+        tx.executeWithoutResult(s ->
+                dancingPackageRepository.findById(packageId).orElseThrow().getQuantities().put(drummer.getId(), 5));
+
+        ledger.rebuild();
+
+        assertEquals(3, ledger.committedOn(drummer.getId(), EVENT_DATE));
+        assertEquals(5, ledger.committedOn(drummer.getId(), legacyDate));
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private UUID booking(UUID packageId, LocalDate eventDate) {
+        return tx.execute(s -> {
+            User user = new User(UUID.randomUUID() + "@example.com", "Ledger Test", "hash", null, Role.CUSTOMER);
+            entityManager.persist(user);
+
+            RequestDancingPackage booking = new RequestDancingPackage();
+            booking.setUser(user);
+            booking.setDancingPackage(entityManager.find(DancingGroupPackage.class, packageId));
+            booking.setHotelName("Hotel");
+            booking.setNearestCity("Kandy");
+            booking.setContactNo("0770000000");
+            booking.setEventDate(eventDate);
+            booking.setStatus(RequestStatus.APPROVED);
+            entityManager.persist(booking);
+            return booking.getRequestId();
+        });
+    }
+
+    private static BookingStatusChangedEvent statusChange(UUID requestId, RequestStatus from, RequestStatus to) {
+        return new BookingStatusChangedEvent(BookingType.DANCING_PACKAGE, requestId, UUID.randomUUID(),
+                "customer@example.com", EVENT_DATE, from, to, 0.0, null);
+    }
+}
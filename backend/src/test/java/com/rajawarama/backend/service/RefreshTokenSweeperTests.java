@@ -0,0 +1,74 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.entity.RefreshToken;
+import com.rajawarama.backend.entity.User;
+import com.rajawarama.backend.enums.Role;
+import com.rajawarama.backend.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class RefreshTokenSweeperTests {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void sweepDeletesExpiredTokensAndKeepsLiveOnes() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            token(now.minusMinutes(i + 1));
+        }
+        RefreshToken live = token(now.plusDays(7));
+
+        // Run the job body directly instead of taking the DB lock
+        ScheduledJobRunner jobRunner = mock(ScheduledJobRunner.class);
+        AtomicReference<Map<String, Integer>> result = new AtomicReference<>();
+        when(jobRunner.run(eq("refresh-token-sweep"), any(), any())).thenAnswer(invocation -> {
+            Supplier<Map<String, Integer>> task = invocation.getArgument(2);
+            result.set(task.get());
+            return Optional.empty();
+        });
+
+        new RefreshTokenSweeper(refreshTokenRepository, jobRunner, transactionManager).sweep();
+        entityManager.clear();
+
+        assertEquals(Map.of("deleted", 5), result.get());
+        assertEquals(1, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findById(live.getId()).isPresent());
+    }
+
+    private RefreshToken token(LocalDateTime expiry) {
+        User user = entityManager.persist(new User(
+                UUID.randomUUID() + "@example.com", "Sweep Test", "hash", null, Role.CUSTOMER));
+        String hash = UUID.randomUUID().toString().replace("-", "").repeat(2);
+        return entityManager.persistFlushFind(new RefreshToken(user, hash, expiry));
+    }
+}
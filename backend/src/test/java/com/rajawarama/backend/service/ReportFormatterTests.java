@@ -0,0 +1,67 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportFormatterTests {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final ReportFormatter formatter = new ReportFormatter();
+
+    @Test
+    void bookingsCsvQuotesEveryValueAndDropsThePackageForDressOnly() {
+        BookingReportRow row = row("Gold \"Deluxe\" set", 1500.0, LocalDateTime.of(2026, 3, 4, 9, 5));
+
+        assertEquals("""
+                Request ID,Customer Name,Email,Package,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At
+                "%s","Customer","customer@example.com","Gold ""Deluxe"" set","2026-05-01","","Kandy","APPROVED","1000.00","0.00","1500.00","2026-03-04 09:05"
+                """.formatted(ID), formatter.bookingsCsv(List.of(row), true));
+        assertEquals("""
+                Request ID,Customer Name,Email,Event Date,Hotel,City,Status,Subtotal (Rs.),Transport (Rs.),Grand Total (Rs.),Created At
+                "%s","Customer","customer@example.com","2026-05-01","","Kandy","APPROVED","1000.00","0.00","1500.00","2026-03-04 09:05"
+                """.formatted(ID), formatter.bookingsCsv(List.of(row), false));
+    }
+
+    @Test
+    void revenueIsSummedAcrossTypesPerPeriod() {
+        List<BookingReportRow> special = List.of(
+                row("Gold", 100.0, LocalDateTime.of(2026, 1, 10, 12, 0)),
+                row("Gold", null, LocalDateTime.of(2026, 1, 11, 12, 0)));
+        List<BookingReportRow> dancing = List.of(row("Kandyan", 50.0, LocalDateTime.of(2026, 1, 10, 18, 0)));
+        List<BookingReportRow> dressOnly = List.of(row(null, 25.0, LocalDateTime.of(2026, 2, 1, 9, 0)));
+
+        assertEquals(Map.of("Jan 2026", 150.0, "Feb 2026", 25.0),
+                formatter.revenueByPeriod("monthly", special, dancing, dressOnly));
+        assertEquals(Map.of("Jan 10", 150.0, "Feb 01", 25.0),
+                formatter.revenueByPeriod("daily", special, dancing, dressOnly));
+        assertEquals(Map.of("2026", 175.0),
+                formatter.revenueByPeriod("yearly", special, dancing, dressOnly));
+    }
+
+    private static BookingReportRow row(String packageName, Double grandTotal, LocalDateTime createdAt) {
+        return BookingReportRow.builder()
+                .requestId(ID)
+                .bookingType(packageName == null ? BookingType.DRESS_ONLY : BookingType.SPECIAL_PACKAGE)
+                .customerName("Customer")
+                .customerEmail("customer@example.com")
+                .packageName(packageName)
+                .eventDate(LocalDate.of(2026, 5, 1))
+                .nearestCity("Kandy")
+                .status(RequestStatus.APPROVED)
+                .bookingSubtotal(1000.0)
+                .grandTotal(grandTotal)
+                .createdAt(createdAt)
+                .build();
+    }
+}
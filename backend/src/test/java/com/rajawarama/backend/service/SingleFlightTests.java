@@ -0,0 +1,154 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTests {
+
+    private static final String KEY = SingleFlight.key("reports.stats", "monthly", null, null);
+    private static final int WAITERS = 4;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final ExecutorService pool = Executors.newFixedThreadPool(WAITERS + 1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 10_000L);
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Object result = new Object();
+
+        Future<Object> leader = pool.submit(() -> singleFlight.execute(KEY, () -> {
+            computations.incrementAndGet();
+            await(release);
+            return result;
+        }));
+        awaitUntil(() -> computations.get() == 1);
+
+        List<Future<Object>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(pool.submit(() -> singleFlight.execute(KEY, () -> {
+                computations.incrementAndGet();
+                return new Object();
+            })));
+        }
+        awaitUntil(() -> stats().shared() == WAITERS);
+        release.countDown();
+
+        assertSame(result, leader.get(10, TimeUnit.SECONDS));
+        for (Future<Object> waiter : waiters) {
+            assertSame(result, waiter.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(1, stats().computed());
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("report query failed");
+
+        Future<Object> leader = pool.submit(() -> singleFlight.execute(KEY, () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitUntil(() -> stats().computed() == 1);
+
+        List<Future<Object>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(pool.submit(() -> singleFlight.execute(KEY, Object::new)));
+        }
+        awaitUntil(() -> stats().shared() == WAITERS);
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS)).getCause());
+        for (Future<Object> waiter : waiters) {
+            assertSame(failure, assertThrows(ExecutionException.class, () -> waiter.get(10, TimeUnit.SECONDS)).getCause());
+        }
+    }
+
+    @Test
+    void keyIsFreeOnceTheComputationEnds() {
+        assertEquals("first", singleFlight.execute(KEY, () -> "first"));
+        assertEquals("second", singleFlight.execute(KEY, () -> "second"));
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(KEY, () -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals("after failure", singleFlight.execute(KEY, () -> "after failure"));
+
+        assertEquals(4, stats().computed());
+        assertEquals(0, stats().shared());
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(singleFlight, "inFlight")).isEmpty());
+    }
+
+    @Test
+    void waiterGivesUpAfterMaxWait() throws Exception {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = pool.submit(() -> singleFlight.execute(KEY, () -> {
+            await(release);
+            return "done";
+        }));
+        awaitUntil(() -> stats().computed() == 1);
+
+        long start = System.nanoTime();
+        ServiceBusyException busy = assertThrows(ServiceBusyException.class,
+                () -> singleFlight.execute(KEY, () -> "not computed"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        assertTrue(busy.getRetryAfterSeconds() > 0);
+
+        // The computation itself is not affected
+        release.countDown();
+        assertEquals("done", leader.get(10, TimeUnit.SECONDS));
+        assertEquals(1, stats().computed());
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private SingleFlight.Stats stats() {
+        return singleFlight.getStats().stream()
+                .filter(s -> s.endpoint().equals("reports.stats"))
+                .findFirst()
+                .orElse(new SingleFlight.Stats("reports.stats", 0, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.call()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.event.BookingStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseSubscriptionTests {
+
+    private static final Executor REJECTING = task -> {
+        throw new RejectedExecutionException("saturated");
+    };
+
+    @Test
+    void rejectedDrainClosesTheConnectionInsteadOfRunningOnTheCaller() {
+        AtomicInteger closes = new AtomicInteger();
+        SseSubscription subscription = new SseSubscription(60_000, 8, REJECTING);
+        subscription.onClose(closes::incrementAndGet);
+
+        assertFalse(subscription.offer(SseEmitter.event().name("booking").data("x")));
+
+        assertTrue(subscription.isClosed());
+        assertEquals(1, closes.get());
+        assertFalse(subscription.offer(SseEmitter.event().name("booking").data("y")));
+    }
+
+    @Test
+    void fullOutboxSendsResetThenCloses() {
+        List<Runnable> queued = new ArrayList<>();
+        SseSubscription subscription = new SseSubscription(60_000, 2, queued::add);
+
+        assertTrue(subscription.offer(SseEmitter.event().name("booking").data("1")));
+        assertTrue(subscription.offer(SseEmitter.event().name("booking").data("2")));
+        assertFalse(subscription.offer(SseEmitter.event().name("booking").data("3")));
+        assertFalse(subscription.isClosed());
+
+        // One drain task for the whole burst; it sends the reset and hangs up
+        assertEquals(1, queued.size());
+        queued.get(0).run();
+        assertTrue(subscription.isClosed());
+    }
+
+    @Test
+    void saturatedSenderDropsTheSubscriberFromTheStream() {
+        BookingEventStream stream = new BookingEventStream(REJECTING);
+        ReflectionTestUtils.setField(stream, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(stream, "bufferSize", 8);
+        ReflectionTestUtils.setField(stream, "replaySize", 16);
+        ReflectionTestUtils.setField(stream, "maxPerUser", 3);
+
+        stream.subscribeAdmin(null);
+        List<?> admins = (List<?>) ReflectionTestUtils.getField(stream, "adminSubscriptions");
+        assertEquals(1, admins.size());
+
+        stream.onStatusChanged(new BookingStatusChangedEvent(BookingType.DRESS_ONLY, UUID.randomUUID(),
+                UUID.randomUUID(), "customer@example.com", LocalDate.now(), null, RequestStatus.PENDING, 0.0, null));
+
+        assertTrue(admins.isEmpty());
+    }
+}
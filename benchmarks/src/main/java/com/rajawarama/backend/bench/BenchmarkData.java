@@ -0,0 +1,288 @@
+package com.rajawarama.backend.bench;
+
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.entity.*;
+import com.rajawarama.backend.enums.BookingType;
+import com.rajawarama.backend.enums.DressRole;
+import com.rajawarama.backend.enums.RequestStatus;
+import com.rajawarama.backend.enums.Role;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// -----------------------------------------------------------------------------
+// In-memory entities shaped like the real catalog and bookings.
+//
+// Deterministic: the same seed always gives the same data, so two runs of
+// a benchmark measure the same work. Prices follow the shop's price list
+// (Groom dressing 25000, Bestmen 15000, Pageboy 8500, ...).
+// -----------------------------------------------------------------------------
+public final class BenchmarkData {
+
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+
+    private final Random random;
+    private long ids;
+
+    public BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // -----------------------------------------
+    // CATALOG
+    // -----------------------------------------
+    public List<DancingPerformerType> performerTypes() {
+        List<DancingPerformerType> types = new ArrayList<>();
+        types.add(performerType("Kandyan Dancer", 6500.0, 20));
+        types.add(performerType("Drummer", 5000.0, 10));
+        types.add(performerType("Ves Dancer", 8000.0, 12));
+        types.add(performerType("Flute Player", 4500.0, 6));
+        types.add(performerType("Jayamangala Gatha Singer", 7500.0, 8));
+        return types;
+    }
+
+    public DancingGroupPackage dancingPackage(List<DancingPerformerType> types) {
+        DancingGroupPackage pkg = new DancingGroupPackage();
+        pkg.setId(nextId());
+        pkg.setName("Dancing Group " + random.nextInt(100));
+        for (DancingPerformerType type : types) {
+            pkg.getIncludedPerformers().add(type);
+            pkg.getQuantities().put(type.getId(), 1 + random.nextInt(4));
+        }
+        pkg.updateCalculatedFields();
+        return pkg;
+    }
+
+    public SpecialPackage specialPackage(DancingGroupPackage linkedDancingPackage) {
+        SpecialPackage pkg = new SpecialPackage();
+        pkg.setId(nextId());
+        pkg.setName("GOLD-" + random.nextInt(10));
+        pkg.setDiscountPercent(5.0);
+        pkg.setLinkedDancingPackage(linkedDancingPackage);
+        pkg.setWeddingCoordinationIncluded(true);
+        pkg.setWeddingPackagingIncluded(random.nextBoolean());
+
+        addItem(pkg, itemType("Groom Dressing", 25000.0), 1);
+        addItem(pkg, itemType("Bestmen Dressing", 15000.0), 1 + random.nextInt(4));
+        addItem(pkg, itemType("Pageboy Dressing", 8500.0), 1 + random.nextInt(3));
+        addItem(pkg, itemType("Poruwa Decoration", 45000.0), 1);
+        addItem(pkg, itemType("Setty Back", 30000.0), 1);
+        addItem(pkg, itemType("Oil Lamp", 3500.0), 2);
+
+        pkg.getFreeItems().add("Ashtaka recital");
+        pkg.getFreeItems().add("Welcome dance");
+        pkg.calculateFinalPriceAndDescription();
+        return pkg;
+    }
+
+    public List<DressItem> dressItems(int count) {
+        Category[] categories = {
+                category("Classic", 25000.0, 15000.0, 8500.0),
+                category("Royal", 32000.0, 19000.0, 11000.0),
+                category("Heritage", 28000.0, 17000.0, 9500.0)
+        };
+        List<DressItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DressItem item = new DressItem("Dress " + i, "dress-" + i + ".jpg", categories[i % categories.length]);
+            item.setDressItemId(nextId());
+            items.add(item);
+        }
+        return items;
+    }
+
+    public User customer(int n) {
+        User user = new User("customer" + n + "@example.com", "Customer " + n,
+                "$2a$10$abcdefghijklmnopqrstuv", "07712345" + (n % 100), Role.CUSTOMER);
+        user.setUserId(nextId());
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusDays(n % 365));
+        return user;
+    }
+
+    // -----------------------------------------
+    // BOOKINGS
+    // -----------------------------------------
+    public RequestSpecialPackage specialBooking(
+            User user,
+            SpecialPackage pkg,
+            List<DressItem> dresses,
+            List<DancingPerformerType> types
+    ) {
+        RequestSpecialPackage b = new RequestSpecialPackage();
+        fillEvent(b::setRequestId, b::setEventDate, b::setHotelName, b::setNearestCity, b::setContactNo);
+        b.setUser(user);
+        b.setSpecialPackage(pkg);
+        b.setSelectedDancingPackage(pkg.getLinkedDancingPackage());
+        b.setGroomArrivalTime(LocalTime.of(7, 30));
+        b.setPoruwaStartTime(LocalTime.of(9, 15));
+        b.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+
+        for (DressRole role : DressRole.values()) {
+            RequestDressSelection selection = new RequestDressSelection();
+            selection.setId(nextId());
+            selection.setRequest(b);
+            selection.setRole(role);
+            selection.setDressItem(dresses.get(random.nextInt(dresses.size())));
+            b.getDressSelections().add(selection);
+        }
+        for (int i = 0; i < 2; i++) {
+            RequestExtraPerformer extra = new RequestExtraPerformer();
+            extra.setId(nextId());
+            extra.setRequest(b);
+            extra.setPerformerType(types.get(random.nextInt(types.size())));
+            extra.setQuantity(1 + random.nextInt(3));
+            b.getExtraPerformers().add(extra);
+        }
+
+        b.setBookingSubtotal(pkg.getFinalPrice());
+        b.setTransportPrice(5000.0 + random.nextInt(20) * 500);
+        b.setGrandTotal(b.getBookingSubtotal() + b.getTransportPrice());
+        b.setCreatedAt(createdAt());
+        b.setUpdatedAt(b.getCreatedAt().plusHours(6));
+        return b;
+    }
+
+    public RequestDancingPackage dancingBooking(User user, DancingGroupPackage pkg, List<DancingPerformerType> types) {
+        RequestDancingPackage b = new RequestDancingPackage();
+        fillEvent(b::setRequestId, b::setEventDate, b::setHotelName, b::setNearestCity, b::setContactNo);
+        b.setUser(user);
+        b.setDancingPackage(pkg);
+        b.setGroomArrivalTime(LocalTime.of(8, 0));
+        b.setPoruwaStartTime(LocalTime.of(10, 0));
+        b.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+
+        for (int i = 0; i < 2; i++) {
+            DancingRequestExtraPerformer extra = new DancingRequestExtraPerformer();
+            extra.setId(nextId());
+            extra.setDancingRequest(b);
+            extra.setPerformerType(types.get(random.nextInt(types.size())));
+            extra.setQuantity(1 + random.nextInt(3));
+            b.getExtraPerformers().add(extra);
+        }
+
+        b.setBookingSubtotal(pkg.getTotalPrice());
+        b.setTransportPrice(3000.0 + random.nextInt(20) * 500);
+        b.setGrandTotal(b.getBookingSubtotal() + b.getTransportPrice());
+        b.setCreatedAt(createdAt());
+        b.setUpdatedAt(b.getCreatedAt().plusHours(6));
+        return b;
+    }
+
+    public RequestDressOnly dressOnlyBooking(User user, List<DressItem> dresses) {
+        RequestDressOnly b = new RequestDressOnly();
+        fillEvent(b::setRequestId, b::setEventDate, b::setHotelName, b::setNearestCity, b::setContactNo);
+        b.setUser(user);
+        b.setGroomArrivalTime(LocalTime.of(7, 0));
+        b.setPoruwaStartTime(LocalTime.of(9, 0));
+        b.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+
+        double subtotal = 0.0;
+        for (DressRole role : DressRole.values()) {
+            RequestDressOnlySelection selection = new RequestDressOnlySelection();
+            selection.setSelectionId(nextId());
+            selection.setRequest(b);
+            selection.setRole(role);
+            selection.setDressItem(dresses.get(random.nextInt(dresses.size())));
+            selection.setQuantity(role == DressRole.GROOM ? 1 : 1 + random.nextInt(4));
+            b.getDressSelections().add(selection);
+            subtotal += selection.getQuantity() * 15000.0;
+        }
+
+        b.setBookingSubtotal(subtotal);
+        b.setTransportPrice(2500.0 + random.nextInt(10) * 500);
+        b.setGrandTotal(subtotal + b.getTransportPrice());
+        b.setCreatedAt(createdAt());
+        b.setUpdatedAt(b.getCreatedAt().plusHours(6));
+        return b;
+    }
+
+    // -----------------------------------------
+    // REPORT ROWS
+    // -----------------------------------------
+    public List<BookingReportRow> reportRows(BookingType type, int count) {
+        List<BookingReportRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double subtotal = 50_000 + random.nextInt(400) * 1_000;
+            Double transport = random.nextInt(4) == 0 ? null : 2_500.0 + random.nextInt(20) * 500;
+            rows.add(BookingReportRow.builder()
+                    .requestId(nextId())
+                    .bookingType(type)
+                    .customerName("Customer \"" + i + "\"")
+                    .customerEmail("customer" + i + "@example.com")
+                    .packageName(type == BookingType.DRESS_ONLY ? null : "GOLD-" + (i % 10))
+                    .eventDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)))
+                    .hotelName("Hotel " + (i % 50))
+                    .nearestCity(i % 2 == 0 ? "Bandarawela" : "Badulla")
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .bookingSubtotal(subtotal)
+                    .transportPrice(transport)
+                    .grandTotal(transport != null ? subtotal + transport : null)
+                    .createdAt(createdAt())
+                    .build());
+        }
+        return rows;
+    }
+
+    // -----------------------------------------
+    // HELPERS
+    // -----------------------------------------
+    private UUID nextId() {
+        return new UUID(0x5eed, ++ids);
+    }
+
+    private LocalDateTime createdAt() {
+        return LocalDateTime.of(2025, 1, 1, 0, 0)
+                .plusMinutes(random.nextInt(60 * 24 * 500));
+    }
+
+    private void fillEvent(
+            Consumer<UUID> requestId,
+            Consumer<LocalDate> eventDate,
+            Consumer<String> hotelName,
+            Consumer<String> nearestCity,
+            Consumer<String> contactNo
+    ) {
+        requestId.accept(nextId());
+        eventDate.accept(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)));
+        hotelName.accept("Hotel " + random.nextInt(50));
+        nearestCity.accept(random.nextBoolean() ? "Bandarawela" : "Ella");
+        contactNo.accept("0771234" + (100 + random.nextInt(900)));
+    }
+
+    private DancingPerformerType performerType(String name, double price, int maxAvailable) {
+        DancingPerformerType type = new DancingPerformerType(name, price, maxAvailable);
+        type.setId(nextId());
+        return type;
+    }
+
+    private SpecialItemType itemType(String name, double price) {
+        SpecialItemType type = new SpecialItemType();
+        type.setId(nextId());
+        type.setName(name);
+        type.setPricePerUnit(price);
+        return type;
+    }
+
+    private void addItem(SpecialPackage pkg, SpecialItemType type, int quantity) {
+        SpecialPackageItem item = new SpecialPackageItem();
+        item.setId(nextId());
+        item.setSpecialPackage(pkg);
+        item.setSpecialItemType(type);
+        item.setQuantity(quantity);
+        pkg.getItems().add(item);
+    }
+
+    private Category category(String name, double groom, double bestman, double pageBoy) {
+        Category category = new Category(name, name + " collection");
+        category.setCategoryId(nextId());
+        category.setGroomDressPrice(groom);
+        category.setBestmanDressPrice(bestman);
+        category.setPageBoyDressPrice(pageBoy);
+        return category;
+    }
+}
@@ -0,0 +1,38 @@
+package com.rajawarama.backend.entity;
+
+import com.rajawarama.backend.bench.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Price + description recalculation the catalog admin runs on every package save
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageCalculationBenchmark {
+
+    private SpecialPackage specialPackage;
+    private DancingGroupPackage dancingPackage;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        dancingPackage = data.dancingPackage(data.performerTypes());
+        specialPackage = data.specialPackage(dancingPackage);
+    }
+
+    @Benchmark
+    public String specialPackageCalculateFinalPriceAndDescription() {
+        specialPackage.calculateFinalPriceAndDescription();
+        return specialPackage.getDescription();
+    }
+
+    @Benchmark
+    public String dancingGroupPackageUpdateCalculatedFields() {
+        dancingPackage.updateCalculatedFields();
+        return dancingPackage.getDetails();
+    }
+}
@@ -0,0 +1,57 @@
+package com.rajawarama.backend.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Token issue (login / refresh) and verification (JwtAuthenticationFilter, every request)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private String tamperedToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        accessToken = jwtUtil.generateAccessToken("customer@example.com", "CUSTOMER", UUID.randomUUID().toString());
+        refreshToken = jwtUtil.generateRefreshToken("customer@example.com");
+
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("customer@example.com", "CUSTOMER", "0c0ffee0-0000-0000-0000-000000000001");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken("customer@example.com");
+    }
+
+    @Benchmark
+    public Object verifyValid() {
+        return jwtUtil.parseValidClaims(accessToken);
+    }
+
+    // Bad signature: the filter's failure path
+    @Benchmark
+    public Object verifyTampered() {
+        return jwtUtil.parseValidClaims(tamperedToken);
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return jwtUtil.hashToken(refreshToken);
+    }
+}
@@ -0,0 +1,48 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.bench.BenchmarkData;
+import com.rajawarama.backend.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// SpecialPackageBookingService.createBooking subtotal: base price, dancing
+// override, extra performers and category dress adjustments
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingPricingBenchmark {
+
+    private SpecialPackage specialPackage;
+    private DancingGroupPackage overrideDancingPackage;
+    private List<RequestDressSelection> dressSelections;
+    private List<RequestExtraPerformer> extraPerformers;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        List<DancingPerformerType> types = data.performerTypes();
+        specialPackage = data.specialPackage(data.dancingPackage(types));
+        overrideDancingPackage = data.dancingPackage(types);
+
+        RequestSpecialPackage booking = data.specialBooking(data.customer(1), specialPackage, data.dressItems(12), types);
+        dressSelections = booking.getDressSelections();
+        extraPerformers = booking.getExtraPerformers();
+    }
+
+    @Benchmark
+    public double linkedDancingPackage() {
+        return SpecialPackageBookingService.calculateSubtotal(
+                specialPackage, specialPackage.getLinkedDancingPackage(), dressSelections, extraPerformers);
+    }
+
+    @Benchmark
+    public double overriddenDancingPackage() {
+        return SpecialPackageBookingService.calculateSubtotal(
+                specialPackage, overrideDancingPackage, dressSelections, extraPerformers);
+    }
+}
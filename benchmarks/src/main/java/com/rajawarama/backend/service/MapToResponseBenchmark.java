@@ -0,0 +1,51 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.bench.BenchmarkData;
+import com.rajawarama.backend.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity → response mapping of the three booking services (fully loaded
+// entities: this is the mapping cost alone, without lazy loads)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapToResponseBenchmark {
+
+    private RequestSpecialPackage specialBooking;
+    private RequestDancingPackage dancingBooking;
+    private RequestDressOnly dressOnlyBooking;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        List<DancingPerformerType> types = data.performerTypes();
+        List<DressItem> dresses = data.dressItems(12);
+        DancingGroupPackage dancingPackage = data.dancingPackage(types);
+        User user = data.customer(1);
+
+        specialBooking = data.specialBooking(user, data.specialPackage(dancingPackage), dresses, types);
+        dancingBooking = data.dancingBooking(user, dancingPackage, types);
+        dressOnlyBooking = data.dressOnlyBooking(user, dresses);
+    }
+
+    @Benchmark
+    public Object specialPackage() {
+        return SpecialPackageBookingService.buildResponse(specialBooking);
+    }
+
+    @Benchmark
+    public Object dancingPackage() {
+        return DancingPackageBookingService.buildResponse(dancingBooking);
+    }
+
+    @Benchmark
+    public Object dressOnly() {
+        return DressOnlyBookingService.buildResponse(dressOnlyBooking, "http://localhost:8080");
+    }
+}
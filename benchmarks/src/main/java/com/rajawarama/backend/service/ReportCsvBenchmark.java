@@ -0,0 +1,44 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.bench.BenchmarkData;
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.enums.BookingType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ReportFormatter CSV export building, once the rows are loaded
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportCsvBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private List<BookingReportRow> specialRows;
+    private List<BookingReportRow> dressOnlyRows;
+
+    private final ReportFormatter formatter = new ReportFormatter();
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        specialRows = data.reportRows(BookingType.SPECIAL_PACKAGE, rows);
+        dressOnlyRows = data.reportRows(BookingType.DRESS_ONLY, rows);
+    }
+
+    @Benchmark
+    public String bookingsCsvWithPackage() {
+        return formatter.bookingsCsv(specialRows, true);
+    }
+
+    @Benchmark
+    public String bookingsCsvDressOnly() {
+        return formatter.bookingsCsv(dressOnlyRows, false);
+    }
+}
@@ -0,0 +1,46 @@
+package com.rajawarama.backend.service;
+
+import com.rajawarama.backend.bench.BenchmarkData;
+import com.rajawarama.backend.dto.BookingReportRow;
+import com.rajawarama.backend.enums.BookingType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Revenue chart grouping behind /api/admin/reports/stats, once the rows are loaded
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevenueByPeriodBenchmark {
+
+    // Per booking type
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"daily", "weekly", "monthly"})
+    public String period;
+
+    private List<BookingReportRow> specialRows;
+    private List<BookingReportRow> dancingRows;
+    private List<BookingReportRow> dressOnlyRows;
+
+    private final ReportFormatter formatter = new ReportFormatter();
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        specialRows = data.reportRows(BookingType.SPECIAL_PACKAGE, rows);
+        dancingRows = data.reportRows(BookingType.DANCING_PACKAGE, rows);
+        dressOnlyRows = data.reportRows(BookingType.DRESS_ONLY, rows);
+    }
+
+    @Benchmark
+    public Map<String, Double> revenueByPeriod() {
+        return formatter.revenueByPeriod(period, specialRows, dancingRows, dressOnlyRows);
+    }
+}
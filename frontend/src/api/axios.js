@@ -17,6 +17,32 @@ api.interceptors.request.use(
 );
 
 
+// Refresh tokens are single-use (rotated on every refresh), so concurrent
+// 401s must share one refresh call instead of each spending the token.
+let refreshInFlight = null;
+
+const refreshAccessToken = () => {
+    if (!refreshInFlight) {
+        const refreshToken = localStorage.getItem("refreshToken");
+
+        if (!refreshToken) {
+            return Promise.reject(new Error("No refresh token available"));
+        }
+
+        refreshInFlight = axios
+            .post("http://localhost:8080/api/auth/refresh", { refreshToken })
+            .then((res) => {
+                localStorage.setItem("accessToken", res.data.accessToken);
+                localStorage.setItem("refreshToken", res.data.refreshToken);
+                return res.data.accessToken;
+            })
+            .finally(() => {
+                refreshInFlight = null;
+            });
+    }
+    return refreshInFlight;
+};
+
 // Auto-refresh on 401 (except login)
 
 api.interceptors.response.use(
@@ -41,21 +67,9 @@ api.interceptors.response.use(
             originalRequest._retry = true;
 
             try {
-                const refreshToken = localStorage.getItem("refreshToken");
-
-                if (!refreshToken) {
-                    throw new Error("No refresh token available");
-                }
-
                 console.log("Refreshing token...");
 
-                const res = await axios.post("http://localhost:8080/api/auth/refresh", {
-                    refreshToken,
-                });
-
-                const newAccessToken = res.data.accessToken;
-
-                localStorage.setItem("accessToken", newAccessToken);
+                const newAccessToken = await refreshAccessToken();
 
                 originalRequest.headers.Authorization = `Bearer ${newAccessToken}`;
 
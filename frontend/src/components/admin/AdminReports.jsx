@@ -103,11 +103,11 @@ const STYLES = `
 
 const COLORS = {
   PENDING:"#D97706", PRICE_SET:"#3730A3", ACCEPTED_WITH_PRICE:"#15803D",
-  APPROVED:"#16A34A", COMPLETED:"#7C3AED", REJECTED:"#8B1A1A", CANCELLED:"#64748B",
+  APPROVED:"#16A34A", COMPLETED:"#7C3AED", REJECTED:"#8B1A1A", CANCELLED:"#64748B", EXPIRED:"#94A3B8",
 };
 const STATUS_LABELS = {
   PENDING:"Pending", PRICE_SET:"Price Set", ACCEPTED_WITH_PRICE:"Accepted",
-  APPROVED:"Approved", COMPLETED:"Completed", REJECTED:"Rejected", CANCELLED:"Cancelled",
+  APPROVED:"Approved", COMPLETED:"Completed", REJECTED:"Rejected", CANCELLED:"Cancelled", EXPIRED:"Expired",
 };
 
 const fmt = (n) => n != null ? new Intl.NumberFormat("en-LK").format(n) : "0";
@@ -137,6 +137,7 @@ const AdminReportsPage = () => {
   const [dateTo,    setDateTo]    = useState("");
   const [stats,     setStats]     = useState(null);
   const [logins,    setLogins]    = useState([]);
+  const [loginTotal, setLoginTotal] = useState(0);
   const [loginPage, setLoginPage] = useState(1);
   const [loadingStats,  setLoadingStats]  = useState(true);
   const [loadingLogins, setLoadingLogins] = useState(true);
@@ -169,17 +170,20 @@ const AdminReportsPage = () => {
   const fetchLogins = useCallback(async () => {
     setLoadingLogins(true);
     try {
-      const params = new URLSearchParams();
+      // Server-side paging: page is 0-based on the API
+      const params = new URLSearchParams({ page: loginPage - 1, size: loginsPerPage });
       if (dateFrom) params.append("from", dateFrom);
       if (dateTo)   params.append("to",   dateTo);
       const res = await api.get(`/api/admin/reports/logins?${params}`);
-      setLogins(res.data || []);
+      setLogins(res.data?.items || []);
+      setLoginTotal(res.data?.totalElements || 0);
     } catch { toastError("Failed to load login logs"); }
     finally   { setLoadingLogins(false); }
-  }, [dateFrom, dateTo]);
+  }, [dateFrom, dateTo, loginPage]);
 
   useEffect(() => { fetchStats(); }, [fetchStats]);
   useEffect(() => { fetchLogins(); }, [fetchLogins]);
+  useEffect(() => { setLoginPage(1); }, [dateFrom, dateTo]);
 
   /*  CSV download  */
   const downloadCSV = async (type, label) => {
@@ -226,9 +230,9 @@ const AdminReportsPage = () => {
 
   /*  Paginated logins  */
   const loginStart = (loginPage - 1) * loginsPerPage;
-  const loginEnd   = loginStart + loginsPerPage;
-  const pagedLogins = logins.slice(loginStart, loginEnd);
-  const totalLoginPages = Math.ceil(logins.length / loginsPerPage);
+  const loginEnd   = loginStart + logins.length;
+  const pagedLogins = logins;
+  const totalLoginPages = Math.ceil(loginTotal / loginsPerPage);
 
   /*  STATUS badge colours for stacked bar  */
   const BAR_KEYS = ["Pending","Price Set","Accepted","Approved","Completed","Rejected","Cancelled"];
@@ -397,7 +401,7 @@ const AdminReportsPage = () => {
           { type:"special-bookings",     label:"Special Package Bookings", desc:"All special package booking requests with pricing and status.",             cls:"red" },
           { type:"dancing-bookings",     label:"Dancing Package Bookings", desc:"All dancing package booking requests with pricing and status.",             cls:"indigo" },
           { type:"dress-only-bookings",  label:"Dress-Only Bookings",      desc:"All dress-only booking requests with dress selections and pricing.",        cls:"gold" },
-          { type:"logins",              label:"User Login History",        desc:"Login activity log from refresh tokens — email, role and login time.",      cls:"green" },
+          { type:"logins",              label:"User Login History",        desc:"Login event log — email, role and login time.",      cls:"green" },
         ].map(({ type, label, desc, cls }) => (
           <div key={type} className="rp-csv-card">
             <div className="rp-csv-name">{label}</div>
@@ -419,7 +423,7 @@ const AdminReportsPage = () => {
       <div className="rp-table-wrap">
         <div className="rp-table-head">
           <span style={{ fontFamily:"'Cormorant Garamond',serif",fontSize:"1rem",fontWeight:700,color:"var(--tx)" }}>
-            Recent Logins — {logins.length} records
+            Recent Logins — {loginTotal} records
           </span>
           <button
             style={{ display:"flex",alignItems:"center",gap:6,padding:"7px 14px",
@@ -466,12 +470,12 @@ const AdminReportsPage = () => {
         </div>
 
         {/* Login table pagination */}
-        {logins.length > loginsPerPage && (
+        {loginTotal > loginsPerPage && (
           <div style={{ display:"flex",alignItems:"center",justifyContent:"space-between",
             padding:"10px 18px",borderTop:"1px solid var(--bdr)",
             background:"rgba(250,247,244,.70)",flexWrap:"wrap",gap:8 }}>
             <span style={{ fontSize:".75rem",color:"var(--mu)" }}>
-              Showing <strong>{loginStart+1}–{Math.min(loginEnd,logins.length)}</strong> of <strong>{logins.length}</strong>
+              Showing <strong>{loginStart+1}–{loginEnd}</strong> of <strong>{loginTotal}</strong>
             </span>
             <div style={{ display:"flex",gap:6 }}>
               <PagBtn disabled={loginPage===1} onClick={()=>setLoginPage(p=>p-1)}>‹ Prev</PagBtn>
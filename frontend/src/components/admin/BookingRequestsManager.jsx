@@ -51,6 +51,7 @@ const STYLES = `
   .ab-tab.PRICE_SET.active{background:var(--in)}.ab-tab.ACCEPTED_WITH_PRICE.active{background:var(--gn)}
   .ab-tab.CANCELLED.active{background:#64748B}.ab-tab.APPROVED.active{background:var(--gn)}
   .ab-tab.REJECTED.active{background:var(--cr)}.ab-tab.COMPLETED.active{background:#7C3AED}
+  .ab-tab.EXPIRED.active{background:#94A3B8}
   .ab-refresh{padding:9px;border:1px solid var(--bdr);border-radius:7px;background:var(--surf);
     cursor:pointer;color:var(--mu);display:flex;align-items:center;transition:all .2s}
   .ab-refresh:hover{border-color:var(--go);color:var(--tx)}
@@ -65,6 +66,7 @@ const STYLES = `
   .ab-card-bar.APPROVED{background:linear-gradient(90deg,var(--gn),#16A34A)}
   .ab-card-bar.REJECTED{background:linear-gradient(90deg,var(--cr),#DC2626)}
   .ab-card-bar.COMPLETED{background:linear-gradient(90deg,#7C3AED,#A855F7)}
+  .ab-card-bar.EXPIRED{background:linear-gradient(90deg,#94A3B8,#CBD5E1)}
   .ab-card-head{padding:16px 20px;display:flex;align-items:flex-start;justify-content:space-between;gap:14px;flex-wrap:wrap}
   .ab-card-left{flex:1;min-width:200px}
   .ab-card-pkg{font-family:'Cormorant Garamond',serif;font-size:1.20rem;font-weight:700;color:var(--tx);margin-bottom:4px}
@@ -81,6 +83,7 @@ const STYLES = `
   .ab-status.APPROVED{background:var(--gn-g);color:var(--gn);border:1px solid rgba(21,128,61,.22)}
   .ab-status.REJECTED{background:var(--cr-g);color:var(--cr);border:1px solid rgba(139,26,26,.22)}
   .ab-status.COMPLETED{background:rgba(124,58,237,.08);color:#7C3AED;border:1px solid rgba(124,58,237,.22)}
+  .ab-status.EXPIRED{background:#F8FAFC;color:#94A3B8;border:1px solid #E2E8F0}
   .ab-transport{display:flex;align-items:center;gap:5px;font-size:.80rem;color:var(--in);font-weight:600}
   .ab-actions{padding:12px 20px;border-top:1px solid var(--bdr);display:flex;align-items:center;
     gap:8px;flex-wrap:wrap;background:rgba(250,247,244,.60)}
@@ -164,8 +167,9 @@ const fmtDate = (d) =>
 const STATUS_LABELS = {
   PENDING: "Pending", PRICE_SET: "Price Set", ACCEPTED_WITH_PRICE: "Accepted",
   CANCELLED: "Cancelled", APPROVED: "Approved", REJECTED: "Rejected", COMPLETED: "Completed",
+  EXPIRED: "Expired",
 };
-const ALL_STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","CANCELLED","APPROVED","REJECTED","COMPLETED"];
+const ALL_STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","CANCELLED","APPROVED","REJECTED","COMPLETED","EXPIRED"];
 
 const getActions = (status) => {
   switch (status) {
@@ -61,6 +61,7 @@ const STYLES = `
   .dab-tab.PRICE_SET.active{background:var(--in)}.dab-tab.ACCEPTED_WITH_PRICE.active{background:var(--gn)}
   .dab-tab.CANCELLED.active{background:#64748B}.dab-tab.APPROVED.active{background:var(--gn)}
   .dab-tab.REJECTED.active{background:var(--cr)}.dab-tab.COMPLETED.active{background:#7C3AED}
+  .dab-tab.EXPIRED.active{background:#94A3B8}
   .dab-refresh{padding:9px;border:1px solid var(--bdr);border-radius:7px;background:var(--surf);
     cursor:pointer;color:var(--mu);display:flex;align-items:center}
   .dab-card{background:var(--surf);border:1px solid var(--bdr);border-radius:12px;overflow:hidden;
@@ -74,6 +75,7 @@ const STYLES = `
   .dab-card-bar.APPROVED{background:linear-gradient(90deg,var(--gn),#16A34A)}
   .dab-card-bar.REJECTED{background:linear-gradient(90deg,var(--cr),#DC2626)}
   .dab-card-bar.COMPLETED{background:linear-gradient(90deg,#7C3AED,#A855F7)}
+  .dab-card-bar.EXPIRED{background:linear-gradient(90deg,#94A3B8,#CBD5E1)}
   .dab-card-head{padding:16px 20px;display:flex;align-items:flex-start;justify-content:space-between;gap:14px;flex-wrap:wrap}
   .dab-card-pkg{font-family:'Cormorant Garamond',serif;font-size:1.20rem;font-weight:700;color:var(--tx);margin-bottom:4px}
   .dab-card-user{font-size:.78rem;color:var(--mu);margin-bottom:6px;display:flex;align-items:center;gap:5px}
@@ -88,6 +90,7 @@ const STYLES = `
   .dab-status.APPROVED{background:var(--gn-g);color:var(--gn);border:1px solid rgba(21,128,61,.22)}
   .dab-status.REJECTED{background:var(--cr-g);color:var(--cr);border:1px solid rgba(139,26,26,.22)}
   .dab-status.COMPLETED{background:rgba(124,58,237,.08);color:#7C3AED;border:1px solid rgba(124,58,237,.22)}
+  .dab-status.EXPIRED{background:#F8FAFC;color:#94A3B8;border:1px solid #E2E8F0}
   .dab-transport{display:flex;align-items:center;gap:5px;font-size:.80rem;color:var(--in);font-weight:600}
   .dab-actions{padding:12px 20px;border-top:1px solid var(--bdr);display:flex;align-items:center;
     gap:8px;flex-wrap:wrap;background:rgba(250,247,244,.60)}
@@ -175,6 +178,7 @@ const STATUS_LABELS = {
   APPROVED: "Approved",
   REJECTED: "Rejected",
   COMPLETED: "Completed",
+  EXPIRED: "Expired",
 };
 const ALL_STATUSES = [
   "ALL",
@@ -185,6 +189,7 @@ const ALL_STATUSES = [
   "APPROVED",
   "REJECTED",
   "COMPLETED",
+  "EXPIRED",
 ];
 
 const getActions = (status) => {
@@ -46,6 +46,7 @@ const STYLES = `
   .db-tab.PRICE_SET.active{background:var(--in)}.db-tab.ACCEPTED_WITH_PRICE.active{background:var(--gn)}
   .db-tab.CANCELLED.active{background:#64748B}.db-tab.APPROVED.active{background:var(--gn)}
   .db-tab.REJECTED.active{background:var(--cr)}.db-tab.COMPLETED.active{background:#7C3AED}
+  .db-tab.EXPIRED.active{background:#94A3B8}
   .db-refresh{padding:8px;border:1px solid var(--bdr);border-radius:7px;background:var(--surf);
     cursor:pointer;color:var(--mu);display:flex;align-items:center;transition:all .2s}
   .db-refresh:hover{border-color:var(--go);color:var(--tx)}
@@ -60,6 +61,7 @@ const STYLES = `
   .db-card-bar.APPROVED{background:linear-gradient(90deg,var(--gn),#16A34A)}
   .db-card-bar.REJECTED{background:linear-gradient(90deg,var(--cr),#DC2626)}
   .db-card-bar.COMPLETED{background:linear-gradient(90deg,#7C3AED,#A855F7)}
+  .db-card-bar.EXPIRED{background:linear-gradient(90deg,#94A3B8,#CBD5E1)}
   .db-card-head{padding:14px 18px;display:flex;align-items:flex-start;justify-content:space-between;gap:12px;flex-wrap:wrap}
   .db-card-left{flex:1;min-width:180px}
   .db-card-pkg{font-family:'Cormorant Garamond',serif;font-size:1.15rem;font-weight:700;color:var(--tx);margin-bottom:3px}
@@ -76,6 +78,7 @@ const STYLES = `
   .db-status.APPROVED{background:var(--gn-g);color:var(--gn);border:1px solid rgba(21,128,61,.22)}
   .db-status.REJECTED{background:var(--cr-g);color:var(--cr);border:1px solid rgba(139,26,26,.22)}
   .db-status.COMPLETED{background:rgba(124,58,237,.08);color:#7C3AED;border:1px solid rgba(124,58,237,.22)}
+  .db-status.EXPIRED{background:#F8FAFC;color:#94A3B8;border:1px solid #E2E8F0}
   .db-transport{display:flex;align-items:center;gap:4px;font-size:.78rem;color:var(--in);font-weight:600}
   .db-actions{padding:10px 18px;border-top:1px solid var(--bdr);display:flex;align-items:center;
     gap:7px;flex-wrap:wrap;background:rgba(250,247,244,.60)}
@@ -124,7 +127,7 @@ const fmt = (n) => n != null ? new Intl.NumberFormat("en-LK").format(n) : "—";
 const fmtDate = (d) => d ? new Date(d).toLocaleDateString("en-GB",
   { day:"2-digit", month:"short", year:"numeric" }) : "—";
 
-const STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","APPROVED","REJECTED","COMPLETED","CANCELLED"];
+const STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","APPROVED","REJECTED","COMPLETED","CANCELLED","EXPIRED"];
 const ROLE_BADGE = { GROOM:"#8B6914", BEST_MAN:"#3730A3", PAGE_BOY:"#8B1A1A" };
 const ROLE_BG    = { GROOM:"rgba(201,168,76,.10)", BEST_MAN:"rgba(55,48,163,.08)", PAGE_BOY:"rgba(139,26,26,.07)" };
 
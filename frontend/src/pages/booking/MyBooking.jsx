@@ -63,6 +63,7 @@ const STYLES = `
   .mb-tab.PRICE_SET.active{background:var(--indigo)}.mb-tab.ACCEPTED_WITH_PRICE.active{background:var(--green)}
   .mb-tab.CANCELLED.active{background:#64748B}.mb-tab.APPROVED.active{background:var(--green)}
   .mb-tab.REJECTED.active{background:var(--crimson)}.mb-tab.COMPLETED.active{background:#7C3AED}
+  .mb-tab.EXPIRED.active{background:#94A3B8}
   .mb-card{background:var(--surface);border:1px solid var(--border);border-radius:12px;overflow:hidden;
     margin-bottom:18px;box-shadow:0 2px 0 rgba(201,168,76,.12),0 4px 20px rgba(139,26,26,.04);transition:box-shadow .25s}
   .mb-card:hover{box-shadow:0 2px 0 rgba(201,168,76,.18),0 8px 32px rgba(139,26,26,.07)}
@@ -74,6 +75,7 @@ const STYLES = `
   .mb-card-bar.APPROVED{background:linear-gradient(90deg,var(--green),#16A34A)}
   .mb-card-bar.REJECTED{background:linear-gradient(90deg,var(--crimson),#DC2626)}
   .mb-card-bar.COMPLETED{background:linear-gradient(90deg,#7C3AED,#A855F7)}
+  .mb-card-bar.EXPIRED{background:linear-gradient(90deg,#94A3B8,#CBD5E1)}
   .mb-card-head{padding:18px 22px;display:flex;align-items:flex-start;justify-content:space-between;gap:14px;flex-wrap:wrap}
   .mb-card-pkg{font-family:'Cormorant Garamond',serif;font-size:1.22rem;font-weight:700;color:var(--text);margin-bottom:5px}
   .mb-card-meta{display:flex;flex-wrap:wrap;gap:12px;font-size:.78rem;color:var(--muted)}
@@ -87,6 +89,7 @@ const STYLES = `
   .mb-status.APPROVED{background:var(--green-glow);color:var(--green);border:1px solid rgba(21,128,61,.22)}
   .mb-status.REJECTED{background:var(--crimson-glow);color:var(--crimson);border:1px solid rgba(139,26,26,.22)}
   .mb-status.COMPLETED{background:rgba(124,58,237,.08);color:#7C3AED;border:1px solid rgba(124,58,237,.22)}
+  .mb-status.EXPIRED{background:#F8FAFC;color:#94A3B8;border:1px solid #E2E8F0}
   .mb-price-box{padding:14px 22px;background:rgba(55,48,163,.03);border-top:1px solid rgba(55,48,163,.10);
     border-bottom:1px solid rgba(55,48,163,.10);display:flex;align-items:center;justify-content:space-between;flex-wrap:wrap;gap:12px}
   .mb-price-label{font-size:.70rem;font-weight:500;letter-spacing:.14em;text-transform:uppercase;color:var(--muted)}
@@ -165,6 +168,7 @@ const fmtDate = (d) => d
 const STATUS_LABELS = {
   PENDING:"Pending Review", PRICE_SET:"Price Set", ACCEPTED_WITH_PRICE:"Accepted",
   CANCELLED:"Cancelled", APPROVED:"Approved", REJECTED:"Rejected", COMPLETED:"Completed",
+  EXPIRED:"Expired",
 };
 const STATUS_ICONS = {
   PENDING: "🕒", 
@@ -174,8 +178,9 @@ const STATUS_ICONS = {
   APPROVED: "✔️", 
   REJECTED: "❌",
   COMPLETED: "🏆",
+  EXPIRED: "⌛",
 };
-const ALL_STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","CANCELLED","APPROVED","REJECTED","COMPLETED"];
+const ALL_STATUSES = ["ALL","PENDING","PRICE_SET","ACCEPTED_WITH_PRICE","CANCELLED","APPROVED","REJECTED","COMPLETED","EXPIRED"];
 
 /*  Shared helpers  */
 const PricingSection = ({ booking, accentColor="var(--crimson)" }) => (